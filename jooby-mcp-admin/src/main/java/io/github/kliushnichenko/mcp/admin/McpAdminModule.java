@@ -0,0 +1,191 @@
+package io.github.kliushnichenko.mcp.admin;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.github.kliushnichenko.jooby.mcp.McpDrainControl;
+import io.github.kliushnichenko.jooby.mcp.McpServerStats;
+import io.github.kliushnichenko.jooby.mcp.McpSessionMemory;
+import io.github.kliushnichenko.jooby.mcp.internal.McpJsonMappers;
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+import io.jooby.*;
+import io.jooby.exception.RegistryException;
+import io.jooby.exception.StartupException;
+import io.modelcontextprotocol.json.McpJsonMapper;
+
+import java.util.List;
+
+/**
+ * MCP Admin module for Jooby.
+ *
+ * <p>
+ * Exposes runtime statistics of the MCP servers running in the same app as JSON. It is meant for operators,
+ * mount it behind the authentication of your admin routes.
+ * </p>
+ *
+ * <h2>Usage</h2>
+ *
+ * <pre>{@code
+ * {
+ *   install(new McpModule(new DefaultMcpServer()));
+ *   install(new McpAdminModule()
+ *      .path("/admin/mcp")               // Optional, default is /mcp-admin
+ *   );
+ * }
+ * }</pre>
+ *
+ * <h2>Endpoints</h2>
+ *
+ * <ul>
+ *   <li>{@code GET /mcp-admin/stats} — sessions, SSE streams, tool calls in flight and waiting, tool latency
+ *   percentiles and cache hit ratios of every server</li>
+ *   <li>{@code GET /mcp-admin/sessions?limit=10} — sessions holding the most memory, per {@code streamable-http}
+ *   server, with the server totals and the configured quota</li>
+ *   <li>{@code GET /mcp-admin/drain} — drain progress of every {@code streamable-http} server: whether it is
+ *   draining, open sessions and tool calls in flight. Answers {@code 503} while any server is draining, so it can
+ *   back a load balancer health check</li>
+ * </ul>
+ *
+ * <p>
+ * Session ids are credentials of the clients, only their prefix is shown.
+ * </p>
+ *
+ * @author kliushnichenko
+ */
+public class McpAdminModule implements Extension {
+
+    private static final String DEFAULT_ENDPOINT = "/mcp-admin";
+    private static final int DEFAULT_SESSIONS_LIMIT = 10;
+    private static final int SESSION_ID_PREFIX_LENGTH = 8;
+
+    private String adminEndpoint = DEFAULT_ENDPOINT;
+    private McpJsonMapper jsonMapper;
+
+    public McpAdminModule path(@NonNull String adminEndpoint) {
+        this.adminEndpoint = adminEndpoint;
+        return this;
+    }
+
+    @Override
+    public void install(@NonNull Jooby app) {
+        verifyMcpServers(app);
+        this.jsonMapper = McpJsonMappers.create(null);
+        List<McpServerStats> serverStats = app.getServices().listOf(McpServerStats.class);
+        List<McpSessionMemory> sessionMemories = app.getServices().listOf(McpSessionMemory.class);
+        List<McpDrainControl> drainControls = app.getServices().listOf(McpDrainControl.class);
+
+        app.get(adminEndpoint + "/stats", ctx -> {
+            var report = serverStats.stream()
+                    .map(McpAdminModule::statsReport)
+                    .toList();
+            return ctx.setResponseType(MediaType.json).render(jsonMapper.writeValueAsString(report));
+        });
+
+        app.get(adminEndpoint + "/sessions", ctx -> {
+            int limit = ctx.query("limit").intValue(DEFAULT_SESSIONS_LIMIT);
+            var report = sessionMemories.stream()
+                    .map(memory -> sessionsReport(memory, limit))
+                    .toList();
+            return ctx.setResponseType(MediaType.json).render(jsonMapper.writeValueAsString(report));
+        });
+
+        app.get(adminEndpoint + "/drain", ctx -> {
+            var report = drainControls.stream()
+                    .map(McpAdminModule::drainReport)
+                    .toList();
+            if (report.stream().anyMatch(DrainStatus::draining)) {
+                ctx.setResponseCode(StatusCode.SERVICE_UNAVAILABLE);
+            }
+            return ctx.setResponseType(MediaType.json).render(jsonMapper.writeValueAsString(report));
+        });
+    }
+
+    private static void verifyMcpServers(Jooby app) {
+        try {
+            app.getServices().get(Reified.list(McpServerConfig.class));
+        } catch (RegistryException ex) {
+            throw new StartupException("MCP Admin module requires at least one MCP server to be configured.");
+        }
+    }
+
+    private static ServerStats statsReport(McpServerStats stats) {
+        List<McpServerStats.ToolStats> tools = stats.tools();
+        return new ServerStats(
+                stats.serverName(),
+                stats.transport(),
+                stats.activeSessions(),
+                stats.openStreams(),
+                tools.stream().mapToInt(McpServerStats.ToolStats::inFlight).sum(),
+                tools.stream().mapToInt(McpServerStats.ToolStats::waiting).sum(),
+                stats.concurrencyLimit(),
+                tools,
+                stats.caches()
+        );
+    }
+
+    private static ServerSessions sessionsReport(McpSessionMemory memory, int limit) {
+        List<McpSessionMemory.SessionUsage> sessions = memory.topSessions(limit).stream()
+                .map(usage -> new McpSessionMemory.SessionUsage(
+                        maskSessionId(usage.sessionId()),
+                        usage.clientName(),
+                        usage.inFlightBytes(),
+                        usage.peakInFlightBytes(),
+                        usage.inFlightRequests()))
+                .toList();
+
+        return new ServerSessions(
+                memory.serverName(),
+                memory.quota(),
+                memory.sessions(),
+                memory.inFlightBytes(),
+                memory.quotaRejections(),
+                sessions
+        );
+    }
+
+    private static DrainStatus drainReport(McpDrainControl drain) {
+        return new DrainStatus(
+                drain.serverName(),
+                drain.isDraining(),
+                drain.isDrained(),
+                drain.activeSessions(),
+                drain.inFlightCalls()
+        );
+    }
+
+    private static String maskSessionId(String sessionId) {
+        if (sessionId.length() <= SESSION_ID_PREFIX_LENGTH) {
+            return sessionId;
+        }
+        return sessionId.substring(0, SESSION_ID_PREFIX_LENGTH) + "...";
+    }
+
+    @Override
+    public boolean lateinit() {
+        return true;
+    }
+
+    public record ServerStats(String server,
+                              String transport,
+                              int activeSessions,
+                              int openStreams,
+                              int inFlightCalls,
+                              int waitingCalls,
+                              int concurrencyLimit,
+                              List<McpServerStats.ToolStats> tools,
+                              List<McpServerStats.CacheStats> caches) {
+    }
+
+    public record DrainStatus(String server,
+                              boolean draining,
+                              boolean drained,
+                              int activeSessions,
+                              int inFlightCalls) {
+    }
+
+    public record ServerSessions(String server,
+                                 long quota,
+                                 int sessions,
+                                 long inFlightBytes,
+                                 long quotaRejections,
+                                 List<McpSessionMemory.SessionUsage> topSessions) {
+    }
+}
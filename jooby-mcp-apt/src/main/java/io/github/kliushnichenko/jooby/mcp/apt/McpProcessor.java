@@ -1,8 +1,12 @@
 package io.github.kliushnichenko.jooby.mcp.apt;
 
 import com.google.auto.service.AutoService;
+import io.github.kliushnichenko.jooby.mcp.annotation.CompletePrompt;
+import io.github.kliushnichenko.jooby.mcp.annotation.CompleteResourceTemplate;
 import io.github.kliushnichenko.jooby.mcp.annotation.McpServer;
 import io.github.kliushnichenko.jooby.mcp.annotation.Prompt;
+import io.github.kliushnichenko.jooby.mcp.annotation.Resource;
+import io.github.kliushnichenko.jooby.mcp.annotation.ResourceTemplate;
 import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
 import io.github.kliushnichenko.jooby.mcp.apt.completions.CompletionEntry;
 import io.github.kliushnichenko.jooby.mcp.apt.completions.CompletionsCollector;
@@ -23,6 +27,7 @@ import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic;
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -33,6 +38,12 @@ import static io.github.kliushnichenko.jooby.mcp.apt.McpProcessor.OPTION_DEFAULT
 import static io.github.kliushnichenko.jooby.mcp.apt.McpProcessor.OPTION_TARGET_PACKAGE;
 
 /**
+ * Generates an MCP server class per server key from the annotated methods of the compilation.
+ * <p>
+ * Registered as an aggregating incremental processor for Gradle: annotations it reads are retained in class
+ * files, so unchanged classes are reprocessed from bytecode, and every generated file names the service classes
+ * it originates from.
+ *
  * @author kliushnichenko
  */
 @AutoService(Processor.class)
@@ -42,7 +53,8 @@ import static io.github.kliushnichenko.jooby.mcp.apt.McpProcessor.OPTION_TARGET_
         "io.github.kliushnichenko.jooby.mcp.annotation.Resource",
         "io.github.kliushnichenko.jooby.mcp.annotation.ResourceTemplate",
         "io.github.kliushnichenko.jooby.mcp.annotation.CompletePrompt",
-        "io.github.kliushnichenko.jooby.mcp.annotation.CompleteResourceTemplate"
+        "io.github.kliushnichenko.jooby.mcp.annotation.CompleteResourceTemplate",
+        "io.github.kliushnichenko.jooby.mcp.annotation.McpServer"
 })
 @SupportedOptions({OPTION_DEFAULT_SERVER_KEY, OPTION_TARGET_PACKAGE})
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
@@ -53,6 +65,18 @@ public class McpProcessor extends AbstractProcessor {
     static final String OPTION_DEFAULT_SERVER_KEY = "mcp.default.server.key";
     static final String OPTION_TARGET_PACKAGE = "mcp.target.package";
     private static final String DEFAULT_SERVER_KEY = "default";
+    /**
+     * Annotations the default target package is taken from, the package of the first annotated element wins.
+     */
+    private static final List<Class<? extends Annotation>> PACKAGE_SOURCES = List.of(
+            Tool.class,
+            Prompt.class,
+            Resource.class,
+            ResourceTemplate.class,
+            CompletePrompt.class,
+            CompleteResourceTemplate.class,
+            McpServer.class
+    );
 
     private Elements elementUtils;
     private Messager messager;
@@ -123,10 +147,17 @@ public class McpProcessor extends AbstractProcessor {
             }
 
             log("Start McpProcessor");
+            String targetPackage = evalTargetPackage(roundEnv);
+            if (targetPackage == null) {
+                reportError("Cannot derive the package of the generated MCP servers, no annotated element found. "
+                            + "Set it with the '-A" + OPTION_TARGET_PACKAGE + "=<package>' compilerArg");
+                return false;
+            }
+
             collectServers(roundEnv);
             collectMcpFeatures(roundEnv);
 
-            List<McpServerDescriptor> descriptors = buildServerDescriptors(roundEnv);
+            List<McpServerDescriptor> descriptors = buildServerDescriptors(targetPackage);
             mcpServerGenerator.generateMcpServers(descriptors);
             return true;
         } catch (Exception e) {
@@ -145,8 +176,7 @@ public class McpProcessor extends AbstractProcessor {
         completions = completionsCollector.collectCompletions(roundEnv, promptRefs, resourceTemplates);
     }
 
-    private List<McpServerDescriptor> buildServerDescriptors(RoundEnvironment roundEnv) {
-        String targetPackage = evalTargetPackage(roundEnv);
+    private List<McpServerDescriptor> buildServerDescriptors(String targetPackage) {
         List<McpServerDescriptor> descriptors = new ArrayList<>();
         for (String serverKey : serverKeys) {
             descriptors.add(new McpServerDescriptor(
@@ -162,22 +192,26 @@ public class McpProcessor extends AbstractProcessor {
         return descriptors;
     }
 
+    /**
+     * @return package of the generated servers, {@code null} when it is not configured and no element of the round
+     * carries an MCP annotation
+     */
     private String evalTargetPackage(RoundEnvironment roundEnv) {
         String targetPackage = processingEnv.getOptions()
                 .getOrDefault(OPTION_TARGET_PACKAGE, "");
-
-        if (targetPackage.isBlank()) {
-            // evaluate default target package
-            Element classElement = roundEnv.getElementsAnnotatedWithAny(Set.of(Tool.class, Prompt.class))
-                    .iterator()
-                    .next()
-                    .getEnclosingElement();
-
-            PackageElement pkg = elementUtils.getPackageOf(classElement);
-            targetPackage = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        if (!targetPackage.isBlank()) {
+            return targetPackage;
         }
 
-        return targetPackage;
+        // evaluate default target package
+        for (Class<? extends Annotation> annotation : PACKAGE_SOURCES) {
+            Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(annotation);
+            if (!elements.isEmpty()) {
+                PackageElement pkg = elementUtils.getPackageOf(elements.iterator().next());
+                return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+            }
+        }
+        return null;
     }
 
     private void collectServers(RoundEnvironment roundEnv) {
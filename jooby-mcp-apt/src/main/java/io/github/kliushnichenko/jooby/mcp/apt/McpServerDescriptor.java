@@ -6,7 +6,10 @@ import io.github.kliushnichenko.jooby.mcp.apt.resources.ResourceEntry;
 import io.github.kliushnichenko.jooby.mcp.apt.resourcetemplates.ResourceTemplateEntry;
 import io.github.kliushnichenko.jooby.mcp.apt.tools.ToolEntry;
 
+import javax.lang.model.element.TypeElement;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author kliushnichenko
@@ -19,4 +22,20 @@ public record McpServerDescriptor(String serverKey,
                                   List<ResourceEntry> resources,
                                   List<ResourceTemplateEntry> resourceTemplates
 ) {
+
+    /**
+     * Classes declaring the features of the server. Everything generated for the server originates from them,
+     * which lets incremental builds tell which generated files are affected by a change.
+     *
+     * @return service classes in declaration order
+     */
+    public Set<TypeElement> serviceClasses() {
+        Set<TypeElement> serviceClasses = new LinkedHashSet<>();
+        tools.forEach(entry -> serviceClasses.add(entry.serviceClass()));
+        prompts.forEach(entry -> serviceClasses.add(entry.serviceClass()));
+        completions.forEach(entry -> serviceClasses.add(entry.serviceClass()));
+        resources.forEach(entry -> serviceClasses.add(entry.serviceClass()));
+        resourceTemplates.forEach(entry -> serviceClasses.add(entry.serviceClass()));
+        return serviceClasses;
+    }
 }
@@ -60,8 +60,9 @@ public class McpCompletionsFeature extends McpFeature {
         builder.addCode("\n");
 
         // fill completion invokers map
+        ServiceAccessors services = ServiceAccessors.of(descriptor);
         for (CompletionEntry entry : descriptor.completions()) {
-            CodeBlock methodCall = buildMethodInvocation(entry.method(), entry.serviceClass());
+            CodeBlock methodCall = buildMethodInvocation(entry.method(), entry.serviceClass(), services);
             String completionKey = entry.identifier() + "_" + entry.argumentName();
             var mapEntry = CodeBlock.of("$S, $L", completionKey, methodCall);
             builder.addCode(CodeBlock.of("completionInvokers.put($L);\n", mapEntry));
@@ -69,18 +70,19 @@ public class McpCompletionsFeature extends McpFeature {
         builder.addCode("\n");
     }
 
-    protected CodeBlock buildMethodInvocation(ExecutableElement method, TypeElement serviceClass) {
-        ClassName serviceClassName = ClassName.get(serviceClass);
+    protected CodeBlock buildMethodInvocation(ExecutableElement method,
+                                              TypeElement serviceClass,
+                                              ServiceAccessors services) {
         CodeBlock.Builder methodCall = CodeBlock.builder();
-        methodCall.add("(input) -> app.require($T.class).$L(input)",
-                serviceClassName,
+        methodCall.add("(input) -> $L.$L(input)",
+                services.instance(serviceClass),
                 method.getSimpleName());
 
         return methodCall.build();
     }
 
     @Override
-    void generateInvoker(TypeSpec.Builder builder) {
+    void generateInvoker(TypeSpec.Builder builder, McpServerDescriptor descriptor) {
         MethodSpec invokeMethod = MethodSpec.methodBuilder("invokeCompletion")
                 .addModifiers(Modifier.PUBLIC)
                 .addParameter(String.class, "identifier", Modifier.FINAL)
@@ -4,6 +4,7 @@ import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.CodeBlock;
 import com.palantir.javapoet.MethodSpec;
 import com.palantir.javapoet.TypeSpec;
+import io.github.kliushnichenko.jooby.mcp.CancellationToken;
 import io.github.kliushnichenko.jooby.mcp.apt.ArgNameExtractor;
 import io.github.kliushnichenko.jooby.mcp.apt.McpServerDescriptor;
 import io.github.kliushnichenko.jooby.mcp.apt.resources.ResourceEntry;
@@ -24,17 +25,25 @@ import java.util.Set;
 abstract class McpFeature {
 
     protected static final Set<String> IGNORE_TYPES = Set.of(
-            McpSyncServerExchange.class.getCanonicalName()
+            McpSyncServerExchange.class.getCanonicalName(),
+            CancellationToken.class.getCanonicalName()
     );
 
     abstract void generateFields(TypeSpec.Builder builder);
 
     abstract void generateInitializers(MethodSpec.Builder builder, McpServerDescriptor descriptor);
 
-    abstract void generateInvoker(TypeSpec.Builder builder);
+    abstract void generateInvoker(TypeSpec.Builder builder, McpServerDescriptor descriptor);
 
     abstract void generateGetter(TypeSpec.Builder builder);
 
+    /**
+     * Adds nested types the generated initializers refer to.
+     */
+    void generateTypes(TypeSpec.Builder builder, McpServerDescriptor descriptor) {
+        // no nested types by default
+    }
+
     abstract boolean hasItems(McpServerDescriptor descriptor);
 
     /**
@@ -42,12 +51,12 @@ abstract class McpFeature {
      */
     protected CodeBlock buildMethodInvocation(ExecutableElement method,
                                               TypeElement serviceClass,
-                                              Class<? extends Annotation> annotationClass) {
+                                              Class<? extends Annotation> annotationClass,
+                                              ServiceAccessors services) {
         List<? extends VariableElement> parameters = method.getParameters();
 
-        ClassName serviceClassName = ClassName.get(serviceClass);
         CodeBlock.Builder methodCall = CodeBlock.builder();
-        methodCall.add("(args, exchange) -> app.require($T.class).$L(", serviceClassName, method.getSimpleName());
+        methodCall.add("(args, exchange) -> $L.$L(", services.instance(serviceClass), method.getSimpleName());
 
         for (int i = 0; i < parameters.size(); i++) {
             if (i > 0) {
@@ -57,7 +66,9 @@ abstract class McpFeature {
             VariableElement param = parameters.get(i);
             var typeName = TypeUtils.getTypeName(param.asType());
 
-            if (IGNORE_TYPES.contains(typeName)) {
+            if (CancellationToken.class.getCanonicalName().equals(typeName)) {
+                methodCall.add("($T) args.get($T.CTX_KEY)", CancellationToken.class, CancellationToken.class);
+            } else if (IGNORE_TYPES.contains(typeName)) {
                 methodCall.add("$L", param.getSimpleName().toString());
             } else {
                 String parameterName = ArgNameExtractor.extractName(param, annotationClass);
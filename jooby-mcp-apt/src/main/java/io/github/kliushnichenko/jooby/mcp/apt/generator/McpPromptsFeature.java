@@ -62,15 +62,17 @@ public class McpPromptsFeature extends McpFeature {
         builder.addCode("\n");
 
         // fill prompt invokers map
+        ServiceAccessors services = ServiceAccessors.of(descriptor);
         for (PromptEntry entry : descriptor.prompts()) {
-            CodeBlock methodCall = buildMethodInvocation(entry.method(), entry.serviceClass(), PromptArg.class);
+            CodeBlock methodCall = buildMethodInvocation(
+                    entry.method(), entry.serviceClass(), PromptArg.class, services);
             var mapEntry = CodeBlock.of("$S, $L", entry.name(), methodCall);
             builder.addCode(CodeBlock.of("promptInvokers.put($L);\n", mapEntry));
         }
     }
 
     @Override
-    public void generateInvoker(TypeSpec.Builder builder) {
+    public void generateInvoker(TypeSpec.Builder builder, McpServerDescriptor descriptor) {
         MethodSpec invokeMethod = MethodSpec.methodBuilder("invokePrompt")
                 .addModifiers(Modifier.PUBLIC)
                 .addParameter(String.class, "promptName", Modifier.FINAL)
@@ -76,20 +76,22 @@ public class McpResourceTemplatesFeature extends McpFeature {
         methodBuilder.addCode("\n");
 
         // fill resource template readers map
+        ServiceAccessors services = ServiceAccessors.of(descriptor);
         for (ResourceTemplateEntry entry : descriptor.resourceTemplates()) {
-            CodeBlock methodCall = buildMethodInvocation(entry.method(), entry.serviceClass());
+            CodeBlock methodCall = buildMethodInvocation(entry.method(), entry.serviceClass(), services);
             var mapEntry = CodeBlock.of("$S, $L", entry.uriTemplate(), methodCall);
             methodBuilder.addCode(CodeBlock.of("resourceTemplateReaders.put($L);\n", mapEntry));
         }
         methodBuilder.addCode("\n");
     }
 
-    protected CodeBlock buildMethodInvocation(ExecutableElement method, TypeElement serviceClass) {
+    protected CodeBlock buildMethodInvocation(ExecutableElement method,
+                                              TypeElement serviceClass,
+                                              ServiceAccessors services) {
         List<? extends VariableElement> parameters = method.getParameters();
 
-        ClassName serviceClassName = ClassName.get(serviceClass);
         CodeBlock.Builder methodCall = CodeBlock.builder();
-        methodCall.add("(args) -> app.require($T.class).$L(", serviceClassName, method.getSimpleName());
+        methodCall.add("(args) -> $L.$L(", services.instance(serviceClass), method.getSimpleName());
 
         for (int i = 0; i < parameters.size(); i++) {
             if (i > 0) {
@@ -115,7 +117,7 @@ public class McpResourceTemplatesFeature extends McpFeature {
     }
 
     @Override
-    void generateInvoker(TypeSpec.Builder builder) {
+    void generateInvoker(TypeSpec.Builder builder, McpServerDescriptor descriptor) {
         MethodSpec invokeMethod = MethodSpec.methodBuilder("readResourceByTemplate")
                 .addModifiers(Modifier.PUBLIC)
                 .addParameter(String.class, "uriTemplate", Modifier.FINAL)
@@ -58,8 +58,9 @@ public class McpResourcesFeature extends McpFeature {
         methodBuilder.addCode("\n");
 
         // fill resource readers map
+        ServiceAccessors services = ServiceAccessors.of(descriptor);
         for (ResourceEntry entry : descriptor.resources()) {
-            CodeBlock methodCall = buildMethodInvocation(entry.method(), entry.serviceClass());
+            CodeBlock methodCall = buildMethodInvocation(entry.method(), entry.serviceClass(), services);
             var mapEntry = CodeBlock.of("$S, $L", entry.uri(), methodCall);
             methodBuilder.addCode(CodeBlock.of("resourceReaders.put($L);\n", mapEntry));
         }
@@ -84,12 +85,14 @@ public class McpResourcesFeature extends McpFeature {
         return newResourceBlock;
     }
 
-    protected CodeBlock buildMethodInvocation(ExecutableElement method, TypeElement serviceClass) {
-        return CodeBlock.of("() -> app.require($T.class).$L()", ClassName.get(serviceClass), method.getSimpleName());
+    protected CodeBlock buildMethodInvocation(ExecutableElement method,
+                                              TypeElement serviceClass,
+                                              ServiceAccessors services) {
+        return CodeBlock.of("() -> $L.$L()", services.instance(serviceClass), method.getSimpleName());
     }
 
     @Override
-    void generateInvoker(TypeSpec.Builder builder) {
+    void generateInvoker(TypeSpec.Builder builder, McpServerDescriptor descriptor) {
         MethodSpec invokeMethod = MethodSpec.methodBuilder("readResource")
                 .addModifiers(Modifier.PUBLIC)
                 .addParameter(String.class, "uri", Modifier.FINAL)
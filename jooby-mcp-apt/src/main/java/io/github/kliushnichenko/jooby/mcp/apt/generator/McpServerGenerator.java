@@ -22,6 +22,7 @@ public class McpServerGenerator {
     private static final String MCP_SERVER_CLASS_NAME = "McpServer";
     private final Filer filer;
     private final Messager messager;
+    private final NativeImageMetadataGenerator nativeImageMetadataGenerator;
 
     private static final List<McpFeature> FEATURES = List.of(
             new McpToolsFeature(),
@@ -34,11 +35,13 @@ public class McpServerGenerator {
     public McpServerGenerator(ProcessingEnvironment processingEnv) {
         this.filer = processingEnv.getFiler();
         this.messager = processingEnv.getMessager();
+        this.nativeImageMetadataGenerator = new NativeImageMetadataGenerator(processingEnv);
     }
 
     public void generateMcpServers(List<McpServerDescriptor> serverDescriptors) throws IOException {
         for (McpServerDescriptor serverDescriptor : serverDescriptors) {
             String fileLocation = generateMcpServer(serverDescriptor);
+            nativeImageMetadataGenerator.generate(serverDescriptor);
             printSummary(serverDescriptor, fileLocation);
         }
     }
@@ -57,10 +60,13 @@ public class McpServerGenerator {
                 .addModifiers(Modifier.PUBLIC)
                 .addSuperinterface(ClassName.get(JoobyMcpServer.class))
                 .addJavadoc("Generated Jooby MCP Server. Do not modify manually.");
+        serverDescriptor.serviceClasses().forEach(mcpServerBuilder::addOriginatingElement);
 
         generateFields(mcpServerBuilder);
+        ServiceAccessors.of(serverDescriptor).generate(mcpServerBuilder);
         generateInitMethod(mcpServerBuilder, serverDescriptor);
-        generateInvokers(mcpServerBuilder);
+        generateTypes(mcpServerBuilder, serverDescriptor);
+        generateInvokers(mcpServerBuilder, serverDescriptor);
         generateGetters(mcpServerBuilder, serverDescriptor.serverKey());
 
         return writeJavaFile(mcpServerBuilder.build(), serverDescriptor.targetPackage());
@@ -101,8 +107,14 @@ public class McpServerGenerator {
         serverBuilder.addMethod(initMethodBuilder.build());
     }
 
-    private void generateInvokers(TypeSpec.Builder builder) {
-        FEATURES.forEach(feature -> feature.generateInvoker(builder));
+    private void generateTypes(TypeSpec.Builder builder, McpServerDescriptor descriptor) {
+        FEATURES.stream()
+                .filter(mcpFeature -> mcpFeature.hasItems(descriptor))
+                .forEach(feature -> feature.generateTypes(builder, descriptor));
+    }
+
+    private void generateInvokers(TypeSpec.Builder builder, McpServerDescriptor descriptor) {
+        FEATURES.forEach(feature -> feature.generateInvoker(builder, descriptor));
     }
 
     private void generateGetters(TypeSpec.Builder builder, String serverKey) {
@@ -1,21 +1,34 @@
 package io.github.kliushnichenko.jooby.mcp.apt.generator;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.palantir.javapoet.*;
 import io.github.kliushnichenko.jooby.mcp.annotation.ToolArg;
+import io.github.kliushnichenko.jooby.mcp.apt.ArgNameExtractor;
 import io.github.kliushnichenko.jooby.mcp.apt.McpServerDescriptor;
 import io.github.kliushnichenko.jooby.mcp.apt.tools.ToolEntry;
 import io.github.kliushnichenko.jooby.mcp.internal.MethodInvoker;
 import io.github.kliushnichenko.jooby.mcp.internal.ToolSpec;
 import io.github.kliushnichenko.jsonschema.generator.JsonSchemaGenerator;
+import io.github.kliushnichenko.jsonschema.generator.TypeUtils;
 import io.github.kliushnichenko.jsonschema.model.JsonSchemaObj;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.github.kliushnichenko.jooby.mcp.apt.generator.AnnotationMappers.MAPPERS;
 
@@ -24,8 +37,15 @@ import static io.github.kliushnichenko.jooby.mcp.apt.generator.AnnotationMappers
  */
 class McpToolsFeature extends McpFeature {
 
+    private static final ObjectMapper JSON = new ObjectMapper();
+
     private final JsonSchemaGenerator schemaGenerator = new JsonSchemaGenerator(MAPPERS);
 
+    /**
+     * Schemas and validators of the server being generated, shared by the initializers and the nested types.
+     */
+    private final Map<McpServerDescriptor, List<GeneratedTool>> generatedTools = new IdentityHashMap<>();
+
     @Override
     public void generateFields(TypeSpec.Builder builder) {
         FieldSpec objectMapper = FieldSpec.builder(
@@ -43,15 +63,11 @@ class McpToolsFeature extends McpFeature {
                 .build();
 
         FieldSpec toolInvokersField = FieldSpec.builder(
-                        ParameterizedTypeName.get(
-                                ClassName.get(Map.class),
-                                ClassName.get(String.class),
-                                ClassName.get(MethodInvoker.class)
-                        ),
+                        ArrayTypeName.of(MethodInvoker.class),
                         "toolInvokers",
-                        Modifier.PRIVATE, Modifier.FINAL)
-                .initializer("new $T<>()", HashMap.class)
-                .addJavadoc("Map of tool names to method invokers.")
+                        Modifier.PRIVATE)
+                .initializer("new $T[0]", MethodInvoker.class)
+                .addJavadoc("Method invokers indexed by tool id.")
                 .build();
 
         builder.addField(objectMapper);
@@ -66,21 +82,25 @@ class McpToolsFeature extends McpFeature {
         methodBuilder.addCode("\n");
 
         // fill tools map
-        for (ToolEntry tool : descriptor.tools()) {
-            JsonSchemaObj jsonSchemaObj = schemaGenerator.generateAsObject(tool.method(), IGNORE_TYPES);
-            String inputSchema = JsonSchemaGenerator.serializeSchemaObj(jsonSchemaObj);
+        List<GeneratedTool> tools = generatedTools.computeIfAbsent(descriptor, this::generateTools);
+        for (int toolId = 0; toolId < tools.size(); toolId++) {
+            GeneratedTool generated = tools.get(toolId);
+            ToolEntry tool = generated.entry();
+            String inputSchema = generated.inputSchema();
+            TypeSpec validator = generated.validator();
 
             String outputSchema = null;
             if (tool.outputType() != null) {
                 outputSchema = schemaGenerator.generate(tool.outputType());
             }
-            CodeBlock requiredArgs = buildRequiredArguments(jsonSchemaObj.getRequired());
+            CodeBlock requiredArgs = buildRequiredArguments(generated.schemaObj().getRequired());
             CodeBlock toolAnnotations = buildToolAnnotations(tool.annotations());
 
             CodeBlock.Builder newToolBlock = CodeBlock.builder()
-                    .add("tools.put($S, $T.builder().name($S)",
+                    .add("tools.put($S, $T.builder().id($L).name($S)",
                             tool.toolName(),
                             ClassName.get(ToolSpec.class),
+                            toolId,
                             tool.toolName()
                     );
 
@@ -90,13 +110,146 @@ class McpToolsFeature extends McpFeature {
             addIfNotNull(outputSchema, newToolBlock, ".outputSchema($S)");
             addIfNotNull(requiredArgs, newToolBlock, ".requiredArguments($L)");
             addIfNotNull(toolAnnotations, newToolBlock, ".annotations($L)");
+            addIfPositive(tool.timeout(), newToolBlock, ".timeout($LL)");
+            if (tool.resultType() != null) {
+                newToolBlock.add(".resultType($T.class)",
+                        ClassName.get((TypeElement) tool.resultType().asElement()));
+            }
+            if (tool.coalesce()) {
+                newToolBlock.add(".coalesce(true)");
+            }
+            if (validator != null) {
+                newToolBlock.add(".argumentsValidator(new $N())", validator);
+            }
+            CodeBlock binder = buildArgumentsBinder(tool);
+            if (binder != null) {
+                newToolBlock.add(".argumentsBinder($L)", binder);
+            }
 
             newToolBlock.add(".build());");
             methodBuilder.addCode(newToolBlock.build()).addCode("\n");
         }
         methodBuilder.addCode("\n");
 
-        populateInvokersMap(methodBuilder, descriptor);
+        populateInvokers(methodBuilder, descriptor);
+    }
+
+    @Override
+    void generateTypes(TypeSpec.Builder builder, McpServerDescriptor descriptor) {
+        List<GeneratedTool> tools = generatedTools.remove(descriptor);
+        if (tools == null) {
+            tools = generateTools(descriptor);
+        }
+        for (GeneratedTool tool : tools) {
+            if (tool.validator() != null) {
+                builder.addType(tool.validator());
+            }
+        }
+    }
+
+    /**
+     * Generates the input schema of every tool, with {@link ToolArg} constraints applied, and its validator.
+     */
+    private List<GeneratedTool> generateTools(McpServerDescriptor descriptor) {
+        Map<ToolEntry, String> validatorNames = validatorClassNames(descriptor.tools());
+        return descriptor.tools().stream()
+                .map(tool -> {
+                    JsonSchemaObj jsonSchemaObj = schemaGenerator.generateAsObject(tool.method(), IGNORE_TYPES);
+                    String inputSchema = applyArgConstraints(tool,
+                            JsonSchemaGenerator.serializeSchemaObj(jsonSchemaObj));
+                    TypeSpec validator = ToolArgumentsValidatorGenerator.generate(
+                            tool.toolName(), validatorNames.get(tool), parse(inputSchema));
+                    return new GeneratedTool(tool, jsonSchemaObj, inputSchema, validator);
+                })
+                .toList();
+    }
+
+    /**
+     * Adds {@link ToolArg} constraints to the generated input schema, so they are advertised to clients
+     * and enforced by the generated validator.
+     */
+    private static String applyArgConstraints(ToolEntry tool, String inputSchema) {
+        ObjectNode schema = parse(inputSchema);
+        JsonNode properties = schema.path("properties");
+        boolean changed = false;
+
+        for (VariableElement param : tool.method().getParameters()) {
+            ToolArg toolArg = param.getAnnotation(ToolArg.class);
+            String name = ArgNameExtractor.extractName(param, ToolArg.class);
+            if (toolArg == null || !(properties.get(name) instanceof ObjectNode property)) {
+                continue;
+            }
+
+            boolean isArray = "array".equals(property.path("type").asText());
+            if (!Double.isInfinite(toolArg.minimum())) {
+                putNumber(property, "minimum", toolArg.minimum());
+                changed = true;
+            }
+            if (!Double.isInfinite(toolArg.maximum())) {
+                putNumber(property, "maximum", toolArg.maximum());
+                changed = true;
+            }
+            if (toolArg.minLength() > 0) {
+                property.put(isArray ? "minItems" : "minLength", toolArg.minLength());
+                changed = true;
+            }
+            if (toolArg.maxLength() != Integer.MAX_VALUE) {
+                property.put(isArray ? "maxItems" : "maxLength", toolArg.maxLength());
+                changed = true;
+            }
+            if (!toolArg.pattern().isEmpty()) {
+                property.put("pattern", toolArg.pattern());
+                changed = true;
+            }
+        }
+
+        return changed ? schema.toString() : inputSchema;
+    }
+
+    private static void putNumber(ObjectNode node, String field, double value) {
+        if (value == Math.rint(value) && Math.abs(value) < Long.MAX_VALUE) {
+            node.put(field, (long) value);
+        } else {
+            node.put(field, value);
+        }
+    }
+
+    private static ObjectNode parse(String schema) {
+        try {
+            return (ObjectNode) JSON.readTree(schema);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to parse generated input schema: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Names validator classes after their tools, e.g. {@code get_pet} gets {@code GetPetArgumentsValidator}.
+     */
+    private static Map<ToolEntry, String> validatorClassNames(List<ToolEntry> tools) {
+        Map<ToolEntry, String> names = new LinkedHashMap<>();
+        Set<String> taken = new HashSet<>();
+        for (ToolEntry tool : tools) {
+            StringBuilder base = new StringBuilder();
+            boolean capitalizeNext = true;
+            for (char c : tool.toolName().toCharArray()) {
+                if (Character.isLetterOrDigit(c)) {
+                    base.append(capitalizeNext ? Character.toUpperCase(c) : c);
+                    capitalizeNext = false;
+                } else {
+                    capitalizeNext = true;
+                }
+            }
+            if (base.isEmpty() || !Character.isLetter(base.charAt(0))) {
+                base.insert(0, "Tool");
+            }
+
+            String name = base + "ArgumentsValidator";
+            for (int i = 2; !taken.add(name); i++) {
+                name = base + "ArgumentsValidator" + i;
+            }
+            names.put(tool, name);
+        }
+        return names;
     }
 
     private CodeBlock buildToolAnnotations(McpSchema.ToolAnnotations annotations) {
@@ -115,15 +268,37 @@ class McpToolsFeature extends McpFeature {
                 ).build();
     }
 
-    private void populateInvokersMap(MethodSpec.Builder methodBuilder, McpServerDescriptor descriptor) {
-        for (ToolEntry entry : descriptor.tools()) {
-            CodeBlock methodCall = buildMethodInvocation(entry.method(), entry.serviceClass(), ToolArg.class);
-            var mapEntry = CodeBlock.of("$S, $L", entry.toolName(), methodCall);
-            methodBuilder.addCode(CodeBlock.of("toolInvokers.put($L);\n", mapEntry));
-        }
+    /**
+     * Fills the invokers array, the position of an invoker is the id of its tool.
+     */
+    private void populateInvokers(MethodSpec.Builder methodBuilder, McpServerDescriptor descriptor) {
+        ServiceAccessors services = ServiceAccessors.of(descriptor);
+        CodeBlock invokers = descriptor.tools().stream()
+                .map(entry -> buildMethodInvocation(entry.method(), entry.serviceClass(), ToolArg.class, services))
+                .collect(CodeBlock.joining(",\n"));
+
+        methodBuilder.addCode(CodeBlock.builder()
+                .add("toolInvokers = new $T[] {\n", MethodInvoker.class)
+                .indent()
+                .add(invokers)
+                .unindent()
+                .add("\n};\n")
+                .build());
         methodBuilder.addCode("\n");
     }
 
+    /**
+     * Binds the arguments with the same casts and conversions as the invoker of the tool.
+     */
+    private static CodeBlock buildArgumentsBinder(ToolEntry tool) {
+        CodeBlock parameters = tool.method().getParameters().stream()
+                .filter(param -> !IGNORE_TYPES.contains(TypeUtils.getTypeName(param.asType())))
+                .map(param -> ParameterTypeHandler.buildParameterCast(
+                        param, ArgNameExtractor.extractName(param, ToolArg.class)))
+                .collect(CodeBlock.joining(", "));
+        return parameters.isEmpty() ? null : CodeBlock.of("args -> new Object[] {$L}", parameters);
+    }
+
     private CodeBlock buildRequiredArguments(List<String> requiredArgs) {
         CodeBlock.Builder codeBlock = CodeBlock.builder();
         codeBlock.add("$T.of(", List.class);
@@ -138,8 +313,23 @@ class McpToolsFeature extends McpFeature {
     }
 
     @Override
-    public void generateInvoker(TypeSpec.Builder builder) {
-        MethodSpec invokeMethod = MethodSpec.methodBuilder("invokeTool")
+    public void generateInvoker(TypeSpec.Builder builder, McpServerDescriptor descriptor) {
+        CodeBlock.Builder dispatch = CodeBlock.builder();
+        List<ToolEntry> tools = descriptor.tools();
+        if (tools.isEmpty()) {
+            dispatch.addStatement("throw $L", unknownTool("Unknown tool: ", "toolName"));
+        } else {
+            dispatch.add("int toolId = switch (toolName) {\n").indent();
+            for (int toolId = 0; toolId < tools.size(); toolId++) {
+                dispatch.add("case $S -> $L;\n", tools.get(toolId).toolName(), toolId);
+            }
+            dispatch.add("default -> throw $L;\n", unknownTool("Unknown tool: ", "toolName"))
+                    .unindent()
+                    .add("};\n")
+                    .addStatement("return invokeTool(toolId, args, exchange)");
+        }
+
+        MethodSpec invokeByName = MethodSpec.methodBuilder("invokeTool")
                 .addModifiers(Modifier.PUBLIC)
                 .addParameter(String.class, "toolName", Modifier.FINAL)
                 .addParameter(ParameterizedTypeName.get(Map.class, String.class, Object.class), "args", Modifier.FINAL)
@@ -151,11 +341,34 @@ class McpToolsFeature extends McpFeature {
                         @param args the arguments to pass to the tool
                         @return the result of the tool invocation
                         """)
-                .addStatement("$T invoker = toolInvokers.get(toolName)", ClassName.get(MethodInvoker.class))
-                .addStatement("return invoker.invoke(args, exchange)")
+                .addCode(dispatch.build())
                 .build();
 
-        builder.addMethod(invokeMethod);
+        MethodSpec invokeById = MethodSpec.methodBuilder("invokeTool")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(int.class, "toolId", Modifier.FINAL)
+                .addParameter(ParameterizedTypeName.get(Map.class, String.class, Object.class), "args", Modifier.FINAL)
+                .addParameter(McpSyncServerExchange.class, "exchange", Modifier.FINAL)
+                .returns(Object.class)
+                .addJavadoc("""
+                        Invokes a tool by id with the provided arguments.
+                        @param toolId the id of the tool to invoke, see {@link $T#getId()}
+                        @param args the arguments to pass to the tool
+                        @return the result of the tool invocation
+                        """, ToolSpec.class)
+                .beginControlFlow("if (toolId < 0 || toolId >= toolInvokers.length)")
+                .addStatement("throw $L", unknownTool("Unknown tool id: ", "toolId"))
+                .endControlFlow()
+                .addStatement("return toolInvokers[toolId].invoke(args, exchange)")
+                .build();
+
+        builder.addMethod(invokeByName);
+        builder.addMethod(invokeById);
+    }
+
+    private static CodeBlock unknownTool(String message, String argument) {
+        return CodeBlock.of("$T.builder($T.ErrorCodes.INVALID_PARAMS).message($S + $L).build()",
+                McpError.class, McpSchema.class, message, argument);
     }
 
     @Override
@@ -173,4 +386,7 @@ class McpToolsFeature extends McpFeature {
     boolean hasItems(McpServerDescriptor descriptor) {
         return !descriptor.tools().isEmpty();
     }
+
+    private record GeneratedTool(ToolEntry entry, JsonSchemaObj schemaObj, String inputSchema, TypeSpec validator) {
+    }
 }
@@ -0,0 +1,171 @@
+package io.github.kliushnichenko.jooby.mcp.apt.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.github.kliushnichenko.jooby.mcp.apt.McpServerDescriptor;
+import io.github.kliushnichenko.jooby.mcp.apt.prompts.PromptEntry;
+import io.github.kliushnichenko.jooby.mcp.apt.resources.ResourceEntry;
+import io.github.kliushnichenko.jooby.mcp.apt.resourcetemplates.ResourceTemplateEntry;
+import io.github.kliushnichenko.jooby.mcp.apt.tools.ToolEntry;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates GraalVM native-image reachability metadata for an MCP server.
+ *
+ * <p>Arguments of tools, prompts and resources are bound and their results are written by Jackson,
+ * which needs reflective access to the classes involved. Every class reachable from the parameters
+ * and return types of the server methods, through type arguments, array components, fields and superclasses,
+ * is registered in {@code META-INF/native-image/jooby-mcp/<serverKey>/reflect-config.json},
+ * which native-image picks up from the class path.</p>
+ *
+ * <p>JDK classes and classes of the MCP SDK, Jooby and Jackson are skipped, the libraries ship their own
+ * metadata or are covered by the metadata of {@code jooby-mcp}.</p>
+ *
+ * @author kliushnichenko
+ */
+class NativeImageMetadataGenerator {
+
+    private static final String METADATA_PATH = "META-INF/native-image/jooby-mcp/%s/reflect-config.json";
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final List<String> SKIPPED_PACKAGE_PREFIXES = List.of(
+            "java.",
+            "javax.",
+            "jdk.",
+            "io.modelcontextprotocol.",
+            "io.jooby.",
+            "com.fasterxml.jackson.",
+            "reactor."
+    );
+    private static final Set<String> SKIPPED_PACKAGES = Set.of(
+            "io.github.kliushnichenko.jooby.mcp",
+            "io.github.kliushnichenko.jooby.mcp.annotation",
+            "io.github.kliushnichenko.jooby.mcp.internal",
+            "io.github.kliushnichenko.jooby.mcp.transport"
+    );
+
+    private final Filer filer;
+    private final Elements elementUtils;
+
+    NativeImageMetadataGenerator(ProcessingEnvironment processingEnv) {
+        this.filer = processingEnv.getFiler();
+        this.elementUtils = processingEnv.getElementUtils();
+    }
+
+    /**
+     * Writes the reflection metadata of the server.
+     *
+     * @param descriptor the server descriptor
+     * @throws IOException if an I/O error occurs
+     */
+    void generate(McpServerDescriptor descriptor) throws IOException {
+        Set<String> classNames = new TreeSet<>();
+        Set<String> visited = new LinkedHashSet<>();
+
+        for (ToolEntry tool : descriptor.tools()) {
+            collectMethodTypes(tool.method(), classNames, visited);
+            if (tool.outputType() != null) {
+                collectTypes(tool.outputType(), classNames, visited);
+            }
+        }
+        for (PromptEntry prompt : descriptor.prompts()) {
+            collectMethodTypes(prompt.method(), classNames, visited);
+        }
+        for (ResourceEntry resource : descriptor.resources()) {
+            collectMethodTypes(resource.method(), classNames, visited);
+        }
+        for (ResourceTemplateEntry template : descriptor.resourceTemplates()) {
+            collectMethodTypes(template.method(), classNames, visited);
+        }
+
+        ArrayNode config = JSON.createArrayNode();
+        for (String className : classNames) {
+            config.addObject()
+                    .put("name", className)
+                    .put("allDeclaredConstructors", true)
+                    .put("allDeclaredMethods", true)
+                    .put("allDeclaredFields", true);
+        }
+
+        FileObject file = filer.createResource(
+                StandardLocation.CLASS_OUTPUT,
+                "",
+                METADATA_PATH.formatted(descriptor.serverKey()),
+                descriptor.serviceClasses().toArray(Element[]::new)
+        );
+        try (Writer writer = file.openWriter()) {
+            writer.write(JSON.writerWithDefaultPrettyPrinter().writeValueAsString(config));
+        }
+    }
+
+    private void collectMethodTypes(ExecutableElement method, Set<String> classNames, Set<String> visited) {
+        for (VariableElement parameter : method.getParameters()) {
+            collectTypes(parameter.asType(), classNames, visited);
+        }
+        collectTypes(method.getReturnType(), classNames, visited);
+    }
+
+    /**
+     * Registers the class of the type and walks the types it is serialized with.
+     */
+    private void collectTypes(TypeMirror type, Set<String> classNames, Set<String> visited) {
+        if (!visited.add(type.toString())) {
+            return;
+        }
+
+        if (type.getKind() == TypeKind.ARRAY) {
+            collectTypes(((ArrayType) type).getComponentType(), classNames, visited);
+        } else if (type.getKind() == TypeKind.WILDCARD) {
+            WildcardType wildcard = (WildcardType) type;
+            if (wildcard.getExtendsBound() != null) {
+                collectTypes(wildcard.getExtendsBound(), classNames, visited);
+            }
+        } else if (type.getKind() == TypeKind.TYPEVAR) {
+            collectTypes(((TypeVariable) type).getUpperBound(), classNames, visited);
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            declaredType.getTypeArguments().forEach(argument -> collectTypes(argument, classNames, visited));
+            collectClass((TypeElement) declaredType.asElement(), classNames, visited);
+        }
+    }
+
+    private void collectClass(TypeElement typeElement, Set<String> classNames, Set<String> visited) {
+        String packageName = elementUtils.getPackageOf(typeElement).getQualifiedName().toString();
+        if (SKIPPED_PACKAGES.contains(packageName)
+            || SKIPPED_PACKAGE_PREFIXES.stream().anyMatch(packageName::startsWith)) {
+            return;
+        }
+        if (!classNames.add(elementUtils.getBinaryName(typeElement).toString())) {
+            return;
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(typeElement.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                collectTypes(field.asType(), classNames, visited);
+            }
+        }
+        collectTypes(typeElement.getSuperclass(), classNames, visited);
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.kliushnichenko.jooby.mcp.apt.generator;
+
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.FieldSpec;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.TypeSpec;
+import io.github.kliushnichenko.jooby.mcp.apt.McpServerDescriptor;
+import io.github.kliushnichenko.jooby.mcp.apt.completions.CompletionEntry;
+import io.github.kliushnichenko.jooby.mcp.apt.prompts.PromptEntry;
+import io.github.kliushnichenko.jooby.mcp.apt.resources.ResourceEntry;
+import io.github.kliushnichenko.jooby.mcp.apt.resourcetemplates.ResourceTemplateEntry;
+import io.github.kliushnichenko.jooby.mcp.apt.tools.ToolEntry;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Resolves how generated invokers obtain service instances.
+ * <p>
+ * Services annotated with {@code @Singleton} are looked up once and kept in a field of the generated server,
+ * every other service is required from the application on each call, so prototype bindings keep their semantics.
+ *
+ * @author kliushnichenko
+ */
+final class ServiceAccessors {
+
+    private static final Set<String> SINGLETON_ANNOTATIONS = Set.of(
+            "jakarta.inject.Singleton",
+            "javax.inject.Singleton",
+            "com.google.inject.Singleton"
+    );
+
+    private final Map<String, TypeElement> singletons;
+    private final Map<String, String> accessorNames;
+
+    private ServiceAccessors(Map<String, TypeElement> singletons) {
+        this.singletons = singletons;
+        this.accessorNames = assignNames(singletons);
+    }
+
+    static ServiceAccessors of(McpServerDescriptor descriptor) {
+        Map<String, TypeElement> singletons = new LinkedHashMap<>();
+        Stream.of(
+                        descriptor.tools().stream().map(ToolEntry::serviceClass),
+                        descriptor.prompts().stream().map(PromptEntry::serviceClass),
+                        descriptor.completions().stream().map(CompletionEntry::serviceClass),
+                        descriptor.resources().stream().map(ResourceEntry::serviceClass),
+                        descriptor.resourceTemplates().stream().map(ResourceTemplateEntry::serviceClass)
+                )
+                .flatMap(classes -> classes)
+                .filter(ServiceAccessors::isSingleton)
+                .forEach(serviceClass -> singletons.putIfAbsent(key(serviceClass), serviceClass));
+        return new ServiceAccessors(singletons);
+    }
+
+    /**
+     * Builds an expression evaluating to the service instance.
+     */
+    CodeBlock instance(TypeElement serviceClass) {
+        String accessorName = accessorNames.get(key(serviceClass));
+        if (accessorName != null) {
+            return CodeBlock.of("$N()", accessorName);
+        }
+        return CodeBlock.of("app.require($T.class)", ClassName.get(serviceClass));
+    }
+
+    /**
+     * Adds a cache field and a lazy accessor method for every singleton service.
+     * <p>
+     * Publication is racy on purpose: concurrent first calls may both hit the registry, but a singleton binding
+     * hands out the same instance, so whichever write wins is correct.
+     */
+    void generate(TypeSpec.Builder builder) {
+        for (Map.Entry<String, TypeElement> entry : singletons.entrySet()) {
+            ClassName serviceClassName = ClassName.get(entry.getValue());
+            String name = accessorNames.get(entry.getKey());
+
+            builder.addField(FieldSpec.builder(serviceClassName, name, Modifier.PRIVATE, Modifier.VOLATILE).build());
+            builder.addMethod(MethodSpec.methodBuilder(name)
+                    .addModifiers(Modifier.PRIVATE)
+                    .returns(serviceClassName)
+                    .addStatement("$T service = this.$N", serviceClassName, name)
+                    .beginControlFlow("if (service == null)")
+                    .addStatement("service = app.require($T.class)", serviceClassName)
+                    .addStatement("this.$N = service", name)
+                    .endControlFlow()
+                    .addStatement("return service")
+                    .build());
+        }
+    }
+
+    private static boolean isSingleton(TypeElement serviceClass) {
+        for (AnnotationMirror annotation : serviceClass.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (SINGLETON_ANNOTATIONS.contains(annotationType.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, String> assignNames(Map<String, TypeElement> singletons) {
+        Map<String, Integer> simpleNameCounts = new HashMap<>();
+        singletons.values().forEach(serviceClass ->
+                simpleNameCounts.merge(serviceClass.getSimpleName().toString(), 1, Integer::sum));
+
+        Map<String, String> names = new HashMap<>();
+        for (Map.Entry<String, TypeElement> entry : singletons.entrySet()) {
+            String simpleName = entry.getValue().getSimpleName().toString();
+            String baseName = simpleNameCounts.get(simpleName) == 1 ? simpleName : entry.getKey();
+            names.put(entry.getKey(), toIdentifier(baseName) + "Instance");
+        }
+        return names;
+    }
+
+    private static String toIdentifier(String name) {
+        StringBuilder result = new StringBuilder();
+        boolean capitalizeNext = false;
+        for (char c : name.toCharArray()) {
+            if (!Character.isJavaIdentifierPart(c) || c == '$') {
+                capitalizeNext = true;
+            } else if (result.isEmpty()) {
+                result.append(Character.toLowerCase(c));
+            } else if (capitalizeNext) {
+                result.append(Character.toUpperCase(c));
+                capitalizeNext = false;
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static String key(TypeElement serviceClass) {
+        return serviceClass.getQualifiedName().toString();
+    }
+}
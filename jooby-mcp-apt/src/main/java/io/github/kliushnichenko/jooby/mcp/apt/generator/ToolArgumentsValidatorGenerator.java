@@ -0,0 +1,483 @@
+package io.github.kliushnichenko.jooby.mcp.apt.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.FieldSpec;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+import io.github.kliushnichenko.jooby.mcp.internal.ArgumentChecks;
+import io.github.kliushnichenko.jooby.mcp.internal.ToolArgumentsValidator;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles a tool input JSON schema into a {@link ToolArgumentsValidator} class, so arguments are checked by
+ * plain generated code instead of interpreting the schema at runtime.
+ *
+ * <p>Supported keywords: {@code type}, {@code enum} (of strings), {@code minimum}, {@code maximum},
+ * {@code exclusiveMinimum}, {@code exclusiveMaximum}, {@code minLength}, {@code maxLength}, {@code pattern},
+ * {@code minItems}, {@code maxItems}, {@code items}, {@code properties} and {@code required}.
+ * Other keywords, e.g. {@code $ref}, are not checked.</p>
+ *
+ * @author kliushnichenko
+ */
+class ToolArgumentsValidatorGenerator {
+
+    private static final int MAX_DEPTH = 4;
+    private static final ClassName ARGUMENT_CHECKS = ClassName.get(ArgumentChecks.class);
+
+    private final String toolName;
+    private final TypeSpec.Builder classBuilder;
+    private int varCounter;
+    private int constCounter;
+
+    private ToolArgumentsValidatorGenerator(String toolName, String className) {
+        this.toolName = toolName;
+        this.classBuilder = TypeSpec.classBuilder(className)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addSuperinterface(ClassName.get(ToolArgumentsValidator.class))
+                .addJavadoc("Validates arguments of the '$L' tool.", toolName);
+    }
+
+    /**
+     * @param toolName    tool name, used in error messages
+     * @param className   simple name of the generated class
+     * @param inputSchema tool input schema
+     * @return the validator class, or {@code null} if the tool has no arguments
+     */
+    static TypeSpec generate(String toolName, String className, JsonNode inputSchema) {
+        JsonNode properties = inputSchema.path("properties");
+        if (!properties.isObject() || properties.isEmpty()) {
+            return null;
+        }
+        return new ToolArgumentsValidatorGenerator(toolName, className).generateClass(inputSchema);
+    }
+
+    private TypeSpec generateClass(JsonNode inputSchema) {
+        Set<String> required = requiredOf(inputSchema);
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T<String> violations = new $T<>()", List.class, ArrayList.class);
+
+        for (Map.Entry<String, JsonNode> property : inputSchema.path("properties").properties()) {
+            String name = property.getKey();
+            String var = nextVar("arg");
+            Presence presence = Presence.of(required.contains(name), true);
+            CodeBlock argChecks = checkValue(var, Path.of(name), property.getValue(), presence, 0);
+            if (!argChecks.isEmpty()) {
+                body.addStatement("$T $L = args.get($S)", Object.class, var, name);
+                body.add(argChecks);
+            }
+        }
+        body.addStatement("return violations");
+
+        MethodSpec validate = MethodSpec.methodBuilder("validate")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterizedTypeName.get(Map.class, String.class, Object.class), "args")
+                .returns(ParameterizedTypeName.get(List.class, String.class))
+                .addCode(body.build())
+                .build();
+
+        return classBuilder.addMethod(validate).build();
+    }
+
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private CodeBlock checkValue(String var, Path path, JsonNode schema, Presence presence, int depth) {
+        Set<String> types = typesOf(schema);
+        boolean nullable = types.contains("null");
+        types.remove("null");
+
+        CodeBlock nullViolation = null;
+        if (!nullable) {
+            if (presence == Presence.REQUIRED_ARG) {
+                nullViolation = violation(CodeBlock.of("$S", "Missing required argument: " + path.literal()));
+            } else if (presence == Presence.REQUIRED) {
+                nullViolation = path.violation(" is required");
+            } else if (presence == Presence.ITEM && !types.isEmpty()) {
+                nullViolation = path.violation(" must not be null");
+            }
+        }
+
+        CodeBlock typeCheck = typeCondition(var, types);
+        CodeBlock constraints = constraints(var, path, schema, types, presence, depth);
+
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (nullViolation != null) {
+            code.beginControlFlow("if ($L == null)", var).add(nullViolation);
+            if (typeCheck != null) {
+                code.nextControlFlow("else if (!($L))", typeCheck).add(typeViolation(var, path, types));
+            }
+            if (!constraints.isEmpty()) {
+                code.nextControlFlow("else");
+                code.add(constraints);
+            }
+            code.endControlFlow();
+        } else if (typeCheck != null) {
+            code.beginControlFlow("if ($L != null && !($L))", var, typeCheck).add(typeViolation(var, path, types));
+            if (!constraints.isEmpty()) {
+                code.nextControlFlow("else if ($L != null)", var);
+                code.add(constraints);
+            }
+            code.endControlFlow();
+        } else if (!constraints.isEmpty()) {
+            code.beginControlFlow("if ($L != null)", var).add(constraints).endControlFlow();
+        }
+        return code.build();
+    }
+
+    private CodeBlock constraints(String var,
+                                  Path path,
+                                  JsonNode schema,
+                                  Set<String> types,
+                                  Presence presence,
+                                  int depth) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (allows(types, "string")) {
+            code.add(stringConstraints(var, path, schema, presence));
+        }
+        if (allows(types, "number") || allows(types, "integer")) {
+            code.add(numberConstraints(var, path, schema));
+        }
+        if (depth < MAX_DEPTH && allows(types, "array")) {
+            code.add(arrayConstraints(var, path, schema, depth));
+        }
+        if (depth < MAX_DEPTH && allows(types, "object")) {
+            code.add(objectConstraints(var, path, schema, depth));
+        }
+        return code.build();
+    }
+
+    private static boolean allows(Set<String> types, String type) {
+        return types.isEmpty() || types.contains(type);
+    }
+
+    private CodeBlock stringConstraints(String var, Path path, JsonNode schema, Presence presence) {
+        CodeBlock.Builder checks = CodeBlock.builder();
+        String str = nextVar("str");
+
+        long minLength = schema.path("minLength").asLong(0);
+        long maxLength = schema.path("maxLength").asLong(-1);
+        if (presence == Presence.REQUIRED_ARG && minLength == 0) {
+            checks.beginControlFlow("if ($L.isEmpty())", str)
+                    .add(violation(CodeBlock.of("$S", "Required argument is empty: " + path.literal())))
+                    .endControlFlow();
+        }
+        if (minLength > 0 || maxLength >= 0) {
+            String length = nextVar("length");
+            checks.addStatement("int $L = $T.length($L)", length, ARGUMENT_CHECKS, str);
+            if (minLength > 0) {
+                checks.beginControlFlow("if ($L < $L)", length, minLength)
+                        .add(path.violation(" must be at least " + minLength + " characters long"))
+                        .endControlFlow();
+            }
+            if (maxLength >= 0) {
+                checks.beginControlFlow("if ($L > $L)", length, maxLength)
+                        .add(path.violation(" must be at most " + maxLength + " characters long"))
+                        .endControlFlow();
+            }
+        }
+
+        if (schema.path("pattern").isTextual()) {
+            String regex = schema.path("pattern").asText();
+            String patternField = patternConstant(path, regex);
+            checks.beginControlFlow("if (!$L.matcher($L).find())", patternField, str)
+                    .add(path.violation(" must match pattern " + regex))
+                    .endControlFlow();
+        }
+
+        List<String> values = stringEnum(schema);
+        if (!values.isEmpty()) {
+            String enumField = enumConstant(values);
+            checks.beginControlFlow("if (!$L.contains($L))", enumField, str)
+                    .add(path.violation(" must be one of " + values))
+                    .endControlFlow();
+        }
+
+        return guard(var, "String", str, checks.build());
+    }
+
+    private CodeBlock numberConstraints(String var, Path path, JsonNode schema) {
+        CodeBlock.Builder checks = CodeBlock.builder();
+        String number = nextVar("number");
+
+        JsonNode minimum = schema.path("minimum");
+        JsonNode maximum = schema.path("maximum");
+        JsonNode exclusiveMinimum = schema.path("exclusiveMinimum");
+        JsonNode exclusiveMaximum = schema.path("exclusiveMaximum");
+
+        if (minimum.isNumber()) {
+            boolean exclusive = exclusiveMinimum.asBoolean(false);
+            addBoundCheck(checks, number, path, minimum,
+                    exclusive ? "<=" : "<",
+                    exclusive ? " must be > " : " must be >= ");
+        }
+        if (exclusiveMinimum.isNumber()) {
+            addBoundCheck(checks, number, path, exclusiveMinimum, "<=", " must be > ");
+        }
+        if (maximum.isNumber()) {
+            boolean exclusive = exclusiveMaximum.asBoolean(false);
+            addBoundCheck(checks, number, path, maximum,
+                    exclusive ? ">=" : ">",
+                    exclusive ? " must be < " : " must be <= ");
+        }
+        if (exclusiveMaximum.isNumber()) {
+            addBoundCheck(checks, number, path, exclusiveMaximum, ">=", " must be < ");
+        }
+
+        CodeBlock numberChecks = checks.build();
+        if (numberChecks.isEmpty()) {
+            return numberChecks;
+        }
+
+        String value = nextVar("num");
+        return guard(var, "Number", value, CodeBlock.builder()
+                .addStatement("double $L = $L.doubleValue()", number, value)
+                .add(numberChecks)
+                .build());
+    }
+
+    private void addBoundCheck(CodeBlock.Builder checks, String number, Path path, JsonNode bound,
+                               String failingOperator, String message) {
+        String literal = numberLiteral(bound);
+        checks.beginControlFlow("if ($L $L $L)", number, failingOperator, literal)
+                .add(path.violation(message + numberText(bound)))
+                .endControlFlow();
+    }
+
+    private CodeBlock arrayConstraints(String var, Path path, JsonNode schema, int depth) {
+        CodeBlock.Builder checks = CodeBlock.builder();
+        String list = nextVar("list");
+
+        long minItems = schema.path("minItems").asLong(0);
+        long maxItems = schema.path("maxItems").asLong(-1);
+        if (minItems > 0) {
+            checks.beginControlFlow("if ($L.size() < $L)", list, minItems)
+                    .add(path.violation(" must contain at least " + minItems + " items"))
+                    .endControlFlow();
+        }
+        if (maxItems >= 0) {
+            checks.beginControlFlow("if ($L.size() > $L)", list, maxItems)
+                    .add(path.violation(" must contain at most " + maxItems + " items"))
+                    .endControlFlow();
+        }
+
+        JsonNode items = schema.path("items");
+        if (items.isObject()) {
+            String index = nextVar("i");
+            String item = nextVar("item");
+            CodeBlock itemChecks = checkValue(item, path.item(index), items, Presence.ITEM, depth + 1);
+            if (!itemChecks.isEmpty()) {
+                checks.beginControlFlow("for (int $L = 0; $L < $L.size(); $L++)", index, index, list, index)
+                        .addStatement("$T $L = $L.get($L)", Object.class, item, list, index)
+                        .add(itemChecks)
+                        .endControlFlow();
+            }
+        }
+
+        return guard(var, "List<?>", list, checks.build());
+    }
+
+    private CodeBlock objectConstraints(String var, Path path, JsonNode schema, int depth) {
+        JsonNode properties = schema.path("properties");
+        if (!properties.isObject()) {
+            return CodeBlock.builder().build();
+        }
+
+        CodeBlock.Builder checks = CodeBlock.builder();
+        String map = nextVar("map");
+        Set<String> required = requiredOf(schema);
+        for (Map.Entry<String, JsonNode> property : properties.properties()) {
+            String name = property.getKey();
+            String value = nextVar("field");
+            CodeBlock fieldChecks = checkValue(value, path.field(name), property.getValue(),
+                    Presence.of(required.contains(name), false), depth + 1);
+            if (!fieldChecks.isEmpty()) {
+                checks.addStatement("$T $L = $L.get($S)", Object.class, value, map, name);
+                checks.add(fieldChecks);
+            }
+        }
+
+        return guard(var, "Map<?, ?>", map, checks.build());
+    }
+
+    private static CodeBlock guard(String var, String type, String boundVar, CodeBlock checks) {
+        if (checks.isEmpty()) {
+            return checks;
+        }
+        return CodeBlock.builder()
+                .beginControlFlow("if ($L instanceof $L $L)", var, type, boundVar)
+                .add(checks)
+                .endControlFlow()
+                .build();
+    }
+
+    private static CodeBlock typeCondition(String var, Set<String> types) {
+        if (types.isEmpty()) {
+            return null;
+        }
+
+        List<CodeBlock> conditions = new ArrayList<>();
+        for (String type : types) {
+            switch (type) {
+                case "string" -> conditions.add(CodeBlock.of("$L instanceof String", var));
+                case "integer" -> conditions.add(CodeBlock.of("$T.isInteger($L)", ARGUMENT_CHECKS, var));
+                case "number" -> conditions.add(CodeBlock.of("$L instanceof Number", var));
+                case "boolean" -> conditions.add(CodeBlock.of("$L instanceof Boolean", var));
+                case "array" -> conditions.add(CodeBlock.of("$L instanceof $T", var, List.class));
+                case "object" -> conditions.add(CodeBlock.of("$L instanceof $T", var, Map.class));
+                default -> {
+                    // unknown type, accept any value
+                    return null;
+                }
+            }
+        }
+        return CodeBlock.join(conditions, " || ");
+    }
+
+    private static CodeBlock typeViolation(String var, Path path, Set<String> types) {
+        String expected = " must be of type " + String.join(" or ", types) + ", got ";
+        return violation(CodeBlock.of("$L + $T.typeOf($L)", path.message(expected), ARGUMENT_CHECKS, var));
+    }
+
+    private static CodeBlock violation(CodeBlock message) {
+        return CodeBlock.builder().addStatement("violations.add($L)", message).build();
+    }
+
+    private String patternConstant(Path path, String regex) {
+        try {
+            Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Invalid pattern of '%s' argument of '%s' tool: %s"
+                    .formatted(path.literal(), toolName, e.getDescription()), e);
+        }
+
+        String name = "PATTERN_" + constCounter++;
+        FieldSpec field = FieldSpec.builder(Pattern.class, name, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.compile($S)", Pattern.class, regex)
+                .build();
+        classBuilder.addField(field);
+        return name;
+    }
+
+    private String enumConstant(List<String> values) {
+        CodeBlock items = values.stream()
+                .map(value -> CodeBlock.of("$S", value))
+                .collect(CodeBlock.joining(", "));
+
+        String name = "ENUM_" + constCounter++;
+        TypeName type = ParameterizedTypeName.get(Set.class, String.class);
+        classBuilder.addField(FieldSpec.builder(type, name, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.of($L)", Set.class, items)
+                .build());
+        return name;
+    }
+
+    private String nextVar(String prefix) {
+        return prefix + varCounter++;
+    }
+
+    private static List<String> stringEnum(JsonNode schema) {
+        JsonNode values = schema.path("enum");
+        List<String> result = new ArrayList<>();
+        if (!values.isArray()) {
+            return result;
+        }
+        for (JsonNode value : values) {
+            if (!value.isTextual()) {
+                return List.of();
+            }
+            result.add(value.asText());
+        }
+        return result;
+    }
+
+    private static Set<String> typesOf(JsonNode schema) {
+        Set<String> types = new LinkedHashSet<>();
+        JsonNode type = schema.path("type");
+        if (type.isTextual()) {
+            types.add(type.asText());
+        } else if (type.isArray()) {
+            type.forEach(item -> types.add(item.asText()));
+        }
+        if (schema.path("nullable").asBoolean(false)) {
+            types.add("null");
+        }
+        return types;
+    }
+
+    private static Set<String> requiredOf(JsonNode schema) {
+        Set<String> required = new LinkedHashSet<>();
+        schema.path("required").forEach(item -> required.add(item.asText()));
+        return required;
+    }
+
+    private static String numberLiteral(JsonNode number) {
+        if (number.canConvertToExactIntegral() && number.canConvertToLong()) {
+            return number.asLong() + "L";
+        }
+        return Double.toString(number.asDouble());
+    }
+
+    private static String numberText(JsonNode number) {
+        if (number.canConvertToExactIntegral() && number.canConvertToLong()) {
+            return Long.toString(number.asLong());
+        }
+        return Double.toString(number.asDouble());
+    }
+
+    private enum Presence {
+        REQUIRED_ARG, REQUIRED, OPTIONAL, ITEM;
+
+        static Presence of(boolean required, boolean topLevel) {
+            if (!required) {
+                return OPTIONAL;
+            }
+            return topLevel ? REQUIRED_ARG : REQUIRED;
+        }
+    }
+
+    /**
+     * Path of the validated value, e.g. {@code pets[i].name}. Constant unless it goes through array items.
+     */
+    private record Path(String literal, CodeBlock expression) {
+
+        static Path of(String name) {
+            return new Path(name, null);
+        }
+
+        Path field(String name) {
+            if (literal != null) {
+                return new Path(literal + "." + name, null);
+            }
+            return new Path(null, CodeBlock.of("$L + $S", expression, "." + name));
+        }
+
+        Path item(String index) {
+            CodeBlock prefix = literal != null
+                    ? CodeBlock.of("$S", literal + "[")
+                    : CodeBlock.of("$L + $S", expression, "[");
+            return new Path(null, CodeBlock.of("$L + $L + $S", prefix, index, "]"));
+        }
+
+        CodeBlock message(String suffix) {
+            if (literal != null) {
+                return CodeBlock.of("$S", "Argument '" + literal + "'" + suffix);
+            }
+            return CodeBlock.of("$S + $L + $S", "Argument '", expression, "'" + suffix);
+        }
+
+        CodeBlock violation(String suffix) {
+            return ToolArgumentsValidatorGenerator.violation(message(suffix));
+        }
+    }
+}
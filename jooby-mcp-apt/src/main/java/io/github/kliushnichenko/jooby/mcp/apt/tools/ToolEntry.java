@@ -5,6 +5,7 @@ import org.jspecify.annotations.Nullable;
 
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 
 /**
@@ -18,7 +19,10 @@ public record ToolEntry(String toolName,
                         String toolTitle,
                         String toolDescription,
                         @Nullable TypeMirror outputType,
+                        @Nullable DeclaredType resultType,
                         McpSchema.ToolAnnotations annotations,
+                        @Nullable Long timeout,
+                        boolean coalesce,
                         String serverKey,
                         TypeElement serviceClass,
                         ExecutableElement method) {
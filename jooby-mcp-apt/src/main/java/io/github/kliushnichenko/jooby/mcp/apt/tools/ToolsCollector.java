@@ -1,9 +1,12 @@
 package io.github.kliushnichenko.jooby.mcp.apt.tools;
 
+import io.github.kliushnichenko.jooby.mcp.RawJson;
 import io.github.kliushnichenko.jooby.mcp.annotation.OutputSchema;
 import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
 import io.github.kliushnichenko.jooby.mcp.apt.AnnMirrorUtils;
 import io.github.kliushnichenko.jooby.mcp.apt.BaseMethodCollector;
+import io.github.kliushnichenko.jsonschema.generator.TypeUtils;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.util.ToolNameValidator;
 
@@ -12,7 +15,9 @@ import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import java.util.ArrayList;
 import java.util.List;
@@ -38,6 +43,7 @@ public class ToolsCollector extends BaseMethodCollector {
             McpSchema.AudioContent.class.getCanonicalName(),
             McpSchema.EmbeddedResource.class.getCanonicalName(),
             McpSchema.ResourceLink.class.getCanonicalName(),
+            RawJson.class.getCanonicalName(),
             "com.fasterxml.jackson.databind.JsonNode",
             "com.fasterxml.jackson.databind.node.ObjectNode",
             "com.fasterxml.jackson.databind.node.ArrayNode",
@@ -46,6 +52,20 @@ public class ToolsCollector extends BaseMethodCollector {
             String.class.getCanonicalName()
     );
 
+    private static final Set<String> STREAMING_RETURN_TYPES = Set.of(
+            "java.util.stream.Stream",
+            "java.util.Iterator",
+            "org.reactivestreams.Publisher",
+            "reactor.core.publisher.Flux"
+    );
+
+    private static final Set<String> ASYNC_RETURN_TYPES = Set.of(
+            "reactor.core.publisher.Mono",
+            "java.util.concurrent.CompletionStage",
+            "java.util.concurrent.CompletableFuture",
+            "java.util.concurrent.Future"
+    );
+
     public ToolsCollector(ProcessingEnvironment processingEnv, String defaultServerKey) {
         super(processingEnv.getMessager(), defaultServerKey);
         this.processingEnv = processingEnv;
@@ -67,12 +87,21 @@ public class ToolsCollector extends BaseMethodCollector {
                 var toolName = extractToolName(method, toolAnnotation);
                 ToolNameValidator.validate(toolName, true);
 
+                if (toolAnnotation.coalesce() && hasExchangeParameter(method)) {
+                    reportError(toolName + " tool takes McpSyncServerExchange and cannot be coalesced, "
+                                + "its result would be shared with callers of other sessions", method);
+                    continue;
+                }
+
                 toolEntries.add(new ToolEntry(
                         extractToolName(method, toolAnnotation),
                         toNullIfEmpty(toolAnnotation.title()),
                         toNullIfEmpty(toolAnnotation.description()),
                         outputType,
+                        evalResultType(method),
                         toolAnnotations,
+                        toolAnnotation.timeout() >= 0 ? toolAnnotation.timeout() : null,
+                        toolAnnotation.coalesce(),
                         extractServerKey(method, serviceClass),
                         serviceClass,
                         method)
@@ -105,6 +134,12 @@ public class ToolsCollector extends BaseMethodCollector {
                 .orElse(false);
     }
 
+    private boolean hasExchangeParameter(ExecutableElement method) {
+        return method.getParameters().stream()
+                .anyMatch(param -> McpSyncServerExchange.class.getCanonicalName()
+                        .equals(TypeUtils.getTypeName(param.asType())));
+    }
+
     private boolean isValidMethod(Element element) {
         ExecutableElement method = (ExecutableElement) element;
         return isPublicMethod(method);
@@ -126,14 +161,49 @@ public class ToolsCollector extends BaseMethodCollector {
         if (typeMirror != null) {
             return typeMirror;
         } else {
-            typeMirror = method.getReturnType();
-            if (RESERVED_RETURN_TYPES.contains(typeMirror.toString())) {
+            typeMirror = unwrapAsyncType(method.getReturnType());
+            if (typeMirror == null || RESERVED_RETURN_TYPES.contains(typeMirror.toString()) || isStreamingType(typeMirror)) {
                 return null;
             }
             return typeMirror;
         }
     }
 
+    /**
+     * Type of the value the tool method produces, async results unwrapped. {@code null} when the value is not
+     * bound by Jackson: text, MCP content, raw JSON, streams, {@code void} or an undeclared type.
+     */
+    private DeclaredType evalResultType(ExecutableElement method) {
+        TypeMirror typeMirror = unwrapAsyncType(method.getReturnType());
+        if (!(typeMirror instanceof DeclaredType declaredType)
+            || RESERVED_RETURN_TYPES.contains(processingEnv.getTypeUtils().erasure(typeMirror).toString())
+            || isStreamingType(typeMirror)) {
+            return null;
+        }
+        return declaredType;
+    }
+
+    /**
+     * Async results are awaited at runtime, so the output schema is derived from the value type.
+     */
+    private TypeMirror unwrapAsyncType(TypeMirror typeMirror) {
+        var erasure = processingEnv.getTypeUtils().erasure(typeMirror);
+        if (!ASYNC_RETURN_TYPES.contains(erasure.toString())) {
+            return typeMirror;
+        }
+
+        if (typeMirror instanceof DeclaredType declaredType && declaredType.getTypeArguments().size() == 1) {
+            TypeMirror valueType = declaredType.getTypeArguments().get(0);
+            return valueType.getKind() == TypeKind.DECLARED ? valueType : null;
+        }
+        return null;
+    }
+
+    private boolean isStreamingType(TypeMirror typeMirror) {
+        var erasure = processingEnv.getTypeUtils().erasure(typeMirror);
+        return STREAMING_RETURN_TYPES.contains(erasure.toString());
+    }
+
     private TypeMirror getOutputTypeMirror(ExecutableElement method) {
         OutputSchema.From scalarAnnotation = method.getAnnotation(OutputSchema.From.class);
         if (scalarAnnotation != null) {
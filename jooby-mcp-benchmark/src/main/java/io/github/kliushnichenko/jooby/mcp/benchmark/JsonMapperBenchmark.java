@@ -0,0 +1,89 @@
+package io.github.kliushnichenko.jooby.mcp.benchmark;
+
+import io.github.kliushnichenko.jooby.mcp.internal.McpJsonMappers;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link McpJsonMapper} backends on the hot path of a {@code tools/call}: parsing the request
+ * and serializing the result.
+ *
+ * <pre>{@code
+ * mvn -P benchmark -pl jooby-mcp-benchmark -am package -DskipTests
+ * java -jar jooby-mcp-benchmark/target/benchmarks.jar JsonMapperBenchmark
+ * }</pre>
+ *
+ * @author kliushnichenko
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonMapperBenchmark {
+
+    private static final String TOOL_CALL_REQUEST = """
+            {
+              "jsonrpc": "2.0",
+              "id": 42,
+              "method": "tools/call",
+              "params": {
+                "name": "find_pets",
+                "arguments": {"tags": ["dog", "cat"], "limit": 25, "minWeight": 3.75, "vaccinated": true},
+                "_meta": {"progressToken": "c5b1f0d2"}
+              }
+            }
+            """;
+
+    @Param({McpJsonMappers.JACKSON, McpJsonMappers.BLACKBIRD})
+    private String backend;
+
+    private McpJsonMapper mcpJsonMapper;
+    private McpSchema.JSONRPCResponse toolCallResponse;
+
+    @Setup
+    public void setup() {
+        mcpJsonMapper = McpJsonMappers.create(backend);
+
+        List<Map<String, Object>> pets = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            pets.add(Map.of("id", i, "name", "pet-" + i, "weight", 3.75 + i, "tags", List.of("dog", "cat")));
+        }
+        var result = McpSchema.CallToolResult.builder()
+                .addTextContent("Found 25 pets")
+                .structuredContent(Map.of("pets", pets))
+                .isError(false)
+                .build();
+        toolCallResponse = new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, 42, result, null);
+    }
+
+    @Benchmark
+    public McpSchema.CallToolRequest readToolCallRequest() throws IOException {
+        var message = McpSchema.deserializeJsonRpcMessage(mcpJsonMapper, TOOL_CALL_REQUEST);
+        var request = (McpSchema.JSONRPCRequest) message;
+        return mcpJsonMapper.convertValue(request.params(), McpSchema.CallToolRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeToolCallResponse() throws IOException {
+        return mcpJsonMapper.writeValueAsBytes(toolCallResponse);
+    }
+}
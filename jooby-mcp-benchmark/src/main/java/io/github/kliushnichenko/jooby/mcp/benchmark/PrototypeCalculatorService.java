@@ -0,0 +1,19 @@
+package io.github.kliushnichenko.jooby.mcp.benchmark;
+
+import io.github.kliushnichenko.jooby.mcp.annotation.McpServer;
+import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
+import io.github.kliushnichenko.jooby.mcp.annotation.ToolArg;
+
+/**
+ * Served by the generated {@code PrototypeMcpServer}, which requires the instance from the application on every call.
+ *
+ * @author kliushnichenko
+ */
+@McpServer("prototype")
+public class PrototypeCalculatorService {
+
+    @Tool(name = "add")
+    public int add(@ToolArg(name = "a") int a, @ToolArg(name = "b") int b) {
+        return a + b;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.kliushnichenko.jooby.mcp.benchmark;
+
+import io.github.kliushnichenko.jooby.mcp.internal.McpJsonMappers;
+import io.jooby.Jooby;
+import io.jooby.guice.GuiceModule;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generated tool invokers with the two ways they obtain a service: the cached field generated for
+ * {@code @Singleton} services and the per-call {@code app.require} kept for every other service.
+ * Both are run against the Jooby service registry and against Guice.
+ *
+ * <pre>{@code
+ * mvn -P benchmark -pl jooby-mcp-benchmark -am package -DskipTests
+ * java -jar jooby-mcp-benchmark/target/benchmarks.jar ServiceResolutionBenchmark
+ * }</pre>
+ *
+ * @author kliushnichenko
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ServiceResolutionBenchmark {
+
+    private static final String JOOBY = "jooby";
+    private static final String GUICE = "guice";
+    private static final Map<String, Object> ARGS = Map.of("a", 1, "b", 2);
+
+    @Param({JOOBY, GUICE})
+    private String registry;
+
+    private SingletonMcpServer singletonServer;
+    private PrototypeMcpServer prototypeServer;
+
+    @Setup
+    public void setup() {
+        Jooby app = new Jooby();
+        if (GUICE.equals(registry)) {
+            // services are bound just-in-time, honoring @Singleton
+            app.install(new GuiceModule());
+        } else {
+            app.getServices().put(SingletonCalculatorService.class, new SingletonCalculatorService());
+            app.getServices().put(PrototypeCalculatorService.class, new PrototypeCalculatorService());
+        }
+
+        McpJsonMapper mcpJsonMapper = McpJsonMappers.create(McpJsonMappers.JACKSON);
+        singletonServer = new SingletonMcpServer();
+        singletonServer.init(app, mcpJsonMapper);
+        prototypeServer = new PrototypeMcpServer();
+        prototypeServer.init(app, mcpJsonMapper);
+    }
+
+    @Benchmark
+    public Object singletonService() {
+        return singletonServer.invokeTool(0, ARGS, null);
+    }
+
+    @Benchmark
+    public Object prototypeService() {
+        return prototypeServer.invokeTool(0, ARGS, null);
+    }
+}
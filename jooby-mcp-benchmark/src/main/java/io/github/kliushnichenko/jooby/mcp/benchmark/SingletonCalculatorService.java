@@ -0,0 +1,21 @@
+package io.github.kliushnichenko.jooby.mcp.benchmark;
+
+import io.github.kliushnichenko.jooby.mcp.annotation.McpServer;
+import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
+import io.github.kliushnichenko.jooby.mcp.annotation.ToolArg;
+import jakarta.inject.Singleton;
+
+/**
+ * Served by the generated {@code SingletonMcpServer}, which caches the instance after the first lookup.
+ *
+ * @author kliushnichenko
+ */
+@Singleton
+@McpServer("singleton")
+public class SingletonCalculatorService {
+
+    @Tool(name = "add")
+    public int add(@ToolArg(name = "a") int a, @ToolArg(name = "b") int b) {
+        return a + b;
+    }
+}
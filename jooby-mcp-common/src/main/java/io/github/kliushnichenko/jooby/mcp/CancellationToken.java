@@ -0,0 +1,75 @@
+package io.github.kliushnichenko.jooby.mcp;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Signals that the client is no longer interested in the result of a tool invocation, either because it sent
+ * {@code notifications/cancelled} for the request or because the connection the response was streamed over
+ * has been dropped. Declare it as a tool method parameter to get it injected:
+ *
+ * <pre>{@code
+ * @Tool(name = "report")
+ * public String report(@ToolArg(name = "year") int year, CancellationToken cancellation) {
+ *     for (var month : months(year)) {
+ *         cancellation.throwIfCancelled();
+ *         aggregate(month);
+ *     }
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>
+ * When the tool has a timeout, the token also carries the deadline, so the remaining time can be propagated
+ * to downstream calls, e.g. {@code cancellation.remaining().ifPresent(requestBuilder::timeout)}.
+ * </p>
+ *
+ * @author kliushnichenko
+ */
+public interface CancellationToken {
+
+    String CTX_KEY = "__cancellationToken";
+
+    /**
+     * @return {@code true} once the invocation has been cancelled
+     */
+    boolean isCancelled();
+
+    /**
+     * @return reason supplied by the client, or {@code null} if not cancelled or no reason was given
+     */
+    String reason();
+
+    /**
+     * Registers a callback invoked on cancellation. If the token is already cancelled, the callback runs immediately.
+     *
+     * @param callback callback to run, e.g. closing a statement or an HTTP call
+     */
+    void onCancel(Runnable callback);
+
+    /**
+     * @return the instant the invocation is cancelled at, empty if the tool has no timeout
+     */
+    Optional<Instant> deadline();
+
+    /**
+     * @return time left until the deadline ({@link Duration#ZERO} once passed), empty if the tool has no timeout
+     */
+    default Optional<Duration> remaining() {
+        return deadline().map(deadline -> {
+            Duration remaining = Duration.between(Instant.now(), deadline);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        });
+    }
+
+    /**
+     * @throws CancellationException if the invocation has been cancelled
+     */
+    default void throwIfCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException(reason() != null ? reason() : "Request cancelled");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import io.github.kliushnichenko.jooby.mcp.internal.ToolSpec;
 import io.jooby.Jooby;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 
 import java.util.List;
@@ -20,6 +21,23 @@ public interface JoobyMcpServer {
 
     Object invokeTool(String toolName, Map<String, Object> args, McpSyncServerExchange exchange);
 
+    /**
+     * Invokes a tool by its {@link ToolSpec#getId() id}. Generated servers dispatch on the id directly, other
+     * implementations resolve the tool name through {@link #getTools()}.
+     *
+     * @throws McpError when no tool has the given id
+     */
+    default Object invokeTool(int toolId, Map<String, Object> args, McpSyncServerExchange exchange) {
+        for (ToolSpec tool : getTools().values()) {
+            if (tool.getId() == toolId) {
+                return invokeTool(tool.getName(), args, exchange);
+            }
+        }
+        throw McpError.builder(McpSchema.ErrorCodes.INVALID_PARAMS)
+                .message("Unknown tool id: " + toolId)
+                .build();
+    }
+
     Object invokePrompt(String promptName, Map<String, Object> args, McpSyncServerExchange exchange);
 
     Object invokeCompletion(String identifier, String argumentName, String input);
@@ -0,0 +1,82 @@
+package io.github.kliushnichenko.jooby.mcp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Already serialized JSON returned by a tool, written to the response as is.
+ * <p>
+ * Tools proxying another JSON service can return the upstream payload without parsing it into objects
+ * and serializing it back. The value becomes the {@code structuredContent} of the result when the tool
+ * declares an output schema, e.g. with {@code @OutputSchema.From}, and a text content otherwise.
+ * The JSON is not validated, it has to be well-formed.
+ *
+ * <pre>{@code
+ * @Tool(name = "get_forecast")
+ * @OutputSchema.From(Forecast.class)
+ * public RawJson getForecast(String city) {
+ *     return RawJson.of(forecastClient.fetch(city));
+ * }
+ * }</pre>
+ *
+ * @author kliushnichenko
+ */
+public final class RawJson {
+
+    private final String text;
+    private final byte[] utf8;
+
+    private RawJson(String text, byte[] utf8) {
+        this.text = text;
+        this.utf8 = utf8;
+    }
+
+    public static RawJson of(String json) {
+        return new RawJson(Objects.requireNonNull(json, "json must not be null"), null);
+    }
+
+    /**
+     * @param utf8 UTF-8 encoded JSON, not copied
+     */
+    public static RawJson of(byte[] utf8) {
+        return new RawJson(null, Objects.requireNonNull(utf8, "json must not be null"));
+    }
+
+    /**
+     * @param utf8 UTF-8 encoded JSON, the remaining bytes are used
+     */
+    public static RawJson of(ByteBuffer utf8) {
+        Objects.requireNonNull(utf8, "json must not be null");
+        if (utf8.hasArray() && utf8.arrayOffset() == 0 && utf8.position() == 0
+            && utf8.remaining() == utf8.array().length) {
+            return new RawJson(null, utf8.array());
+        }
+        byte[] bytes = new byte[utf8.remaining()];
+        utf8.duplicate().get(bytes);
+        return new RawJson(null, bytes);
+    }
+
+    /**
+     * @return {@code true} if the JSON is held as UTF-8 bytes
+     */
+    public boolean isBinary() {
+        return utf8 != null;
+    }
+
+    public String asString() {
+        return text != null ? text : new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return UTF-8 encoded JSON, the returned array must not be modified
+     */
+    public byte[] asBytes() {
+        return utf8 != null ? utf8 : text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
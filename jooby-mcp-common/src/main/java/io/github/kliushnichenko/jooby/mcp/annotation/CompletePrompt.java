@@ -6,7 +6,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 import static java.lang.annotation.ElementType.METHOD;
-import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
 
 /**
  * Annotates a method used to complete a prompt argument.
@@ -30,7 +30,7 @@ import static java.lang.annotation.RetentionPolicy.SOURCE;
  *
  * @see Prompt#name()
  */
-@Retention(SOURCE)
+@Retention(CLASS)
 @Target(METHOD)
 public @interface CompletePrompt {
 
@@ -6,7 +6,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 import static java.lang.annotation.ElementType.METHOD;
-import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
 
 /**
  * Annotates method used to complete an expression argument of a resource template URI.
@@ -30,7 +30,7 @@ import static java.lang.annotation.RetentionPolicy.SOURCE;
  *
  * @see ResourceTemplate#name()
  */
-@Retention(SOURCE)
+@Retention(CLASS)
 @Target(METHOD)
 public @interface CompleteResourceTemplate {
 
@@ -25,7 +25,7 @@ import java.lang.annotation.Target;
  * @see PromptArg
  */
 @Target(ElementType.METHOD)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface Prompt {
 
     /**
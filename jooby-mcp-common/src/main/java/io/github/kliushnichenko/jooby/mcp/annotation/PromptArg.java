@@ -15,7 +15,7 @@ import java.lang.annotation.Target;
  * @see Prompt
  */
 @Target(ElementType.PARAMETER)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface PromptArg {
 
     /**
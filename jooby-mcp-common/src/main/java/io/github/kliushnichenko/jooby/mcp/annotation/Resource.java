@@ -23,7 +23,7 @@ import java.lang.annotation.Target;
  * </ul>
  */
 @Target(ElementType.METHOD)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface Resource {
     /**
      * The name of the resource
@@ -62,7 +62,7 @@ public @interface Resource {
      */
     Annotations annotations() default @Annotations(audience = McpSchema.Role.USER, lastModified = "", priority = 0.5);
 
-    @Retention(RetentionPolicy.SOURCE)
+    @Retention(RetentionPolicy.CLASS)
     @Target(ElementType.ANNOTATION_TYPE)
     @interface Annotations {
 
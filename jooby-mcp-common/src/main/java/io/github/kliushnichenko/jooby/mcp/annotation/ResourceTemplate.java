@@ -14,7 +14,7 @@ import java.lang.annotation.Target;
  * Arguments may be auto-completed through the completion API.
  */
 @Target(ElementType.METHOD)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface ResourceTemplate {
     /**
      * The name of the resource template
@@ -25,7 +25,7 @@ import java.lang.annotation.Target;
  * @see ToolArg
  */
 @Target(ElementType.METHOD)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface Tool {
 
     /**
@@ -54,6 +54,29 @@ public @interface Tool {
      */
     String description() default "";
 
+    /**
+     * Maximum execution time of the tool, in milliseconds. When it elapses, the invocation is cancelled
+     * and a timeout error result is returned to the client.
+     * <p>
+     * {@code -1} (default) applies the server-wide {@code toolTimeout}, {@code 0} disables the timeout.
+     * </p>
+     *
+     * @return the tool timeout in milliseconds
+     */
+    long timeout() default -1;
+
+    /**
+     * If true, concurrent calls with equal arguments share one execution and all of them get its result.
+     * <p>
+     * The result is handed to every caller, whatever its session, headers or transport context, so only tools
+     * whose result depends on the arguments alone may opt in. Tools taking {@code McpSyncServerExchange}
+     * are rejected by the annotation processor.
+     * </p>
+     *
+     * @return whether identical concurrent calls are coalesced
+     */
+    boolean coalesce() default false;
+
     /**
      * Additional hints for clients.
      * <p>
@@ -62,7 +85,7 @@ public @interface Tool {
      */
     Annotations annotations() default @Annotations;
 
-    @Retention(RetentionPolicy.SOURCE)
+    @Retention(RetentionPolicy.CLASS)
     @Target(ElementType.ANNOTATION_TYPE)
     @interface Annotations {
 
@@ -29,7 +29,7 @@ import java.lang.annotation.Target;
  * @see Tool
  */
 @Target(ElementType.PARAMETER)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface ToolArg {
 
     /**
@@ -63,4 +63,39 @@ public @interface ToolArg {
      * @return true if the parameter is required, false otherwise
      */
     boolean required() default true;
+
+    /**
+     * Minimum (inclusive) value of a numeric parameter.
+     *
+     * @return the minimum value
+     */
+    double minimum() default Double.NEGATIVE_INFINITY;
+
+    /**
+     * Maximum (inclusive) value of a numeric parameter.
+     *
+     * @return the maximum value
+     */
+    double maximum() default Double.POSITIVE_INFINITY;
+
+    /**
+     * Minimum length of a string parameter, or minimum number of items of an array/collection parameter.
+     *
+     * @return the minimum length
+     */
+    int minLength() default 0;
+
+    /**
+     * Maximum length of a string parameter, or maximum number of items of an array/collection parameter.
+     *
+     * @return the maximum length
+     */
+    int maxLength() default Integer.MAX_VALUE;
+
+    /**
+     * Regular expression a string parameter must match. Like in JSON Schema, the pattern is not anchored.
+     *
+     * @return the pattern
+     */
+    String pattern() default "";
 }
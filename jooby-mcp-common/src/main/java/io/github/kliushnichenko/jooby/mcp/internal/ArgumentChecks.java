@@ -0,0 +1,54 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers used by generated {@link ToolArgumentsValidator}s.
+ *
+ * @author kliushnichenko
+ */
+@UtilityClass
+public class ArgumentChecks {
+
+    public static boolean isInteger(Object value) {
+        return switch (value) {
+            case Integer ignored -> true;
+            case Long ignored -> true;
+            case Short ignored -> true;
+            case Byte ignored -> true;
+            case BigInteger ignored -> true;
+            case BigDecimal decimal -> decimal.stripTrailingZeros().scale() <= 0;
+            case Double number -> isIntegral(number);
+            case Float number -> isIntegral(number.doubleValue());
+            default -> false;
+        };
+    }
+
+    public static int length(String value) {
+        return value.codePointCount(0, value.length());
+    }
+
+    /**
+     * @return JSON type name of the value, used in violation messages
+     */
+    public static String typeOf(Object value) {
+        return switch (value) {
+            case null -> "null";
+            case String ignored -> "string";
+            case Boolean ignored -> "boolean";
+            case Number number -> isInteger(number) ? "integer" : "number";
+            case List<?> ignored -> "array";
+            case Map<?, ?> ignored -> "object";
+            default -> value.getClass().getSimpleName();
+        };
+    }
+
+    private static boolean isIntegral(double value) {
+        return !Double.isInfinite(value) && value == Math.rint(value);
+    }
+}
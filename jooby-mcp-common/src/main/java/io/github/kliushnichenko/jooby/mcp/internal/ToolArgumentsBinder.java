@@ -0,0 +1,20 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import java.util.Map;
+
+/**
+ * Binds tool call arguments to the parameters of the tool method, with the same conversions as the tool invoker,
+ * without calling the method. Implementations are generated at build time.
+ *
+ * @author kliushnichenko
+ */
+@FunctionalInterface
+public interface ToolArgumentsBinder {
+    /**
+     * Binds the provided arguments.
+     *
+     * @param args a map of argument names to values
+     * @return values of the method parameters read from the arguments, in declaration order
+     */
+    Object[] bind(Map<String, Object> args);
+}
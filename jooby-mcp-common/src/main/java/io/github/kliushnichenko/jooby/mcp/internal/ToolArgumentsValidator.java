@@ -0,0 +1,20 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates tool call arguments against the tool input schema. Implementations are generated at build time.
+ *
+ * @author kliushnichenko
+ */
+@FunctionalInterface
+public interface ToolArgumentsValidator {
+    /**
+     * Validates the provided arguments.
+     *
+     * @param args a map of argument names to values
+     * @return violation messages, empty if the arguments are valid
+     */
+    List<String> validate(Map<String, Object> args);
+}
@@ -14,11 +14,35 @@ import java.util.List;
 @Setter
 @Builder
 public class ToolSpec {
+    /**
+     * Dense index of the tool within its server, used to dispatch calls without name lookups.
+     */
+    private int id;
     private String name;
     private String title;
     private String description;
     private String inputSchema;
     private String outputSchema;
+    /**
+     * Class of the value the tool returns, async results unwrapped, {@code null} when it is not bound by Jackson.
+     */
+    private Class<?> resultType;
     private List<String> requiredArguments;
     private McpSchema.ToolAnnotations annotations;
+    /**
+     * Timeout in milliseconds, {@code 0} for none, {@code null} to apply the server default.
+     */
+    private Long timeout;
+    /**
+     * Whether identical concurrent calls share one execution, see {@code Tool#coalesce()}.
+     */
+    private boolean coalesce;
+    /**
+     * Generated validator of the call arguments, {@code null} to only check required arguments.
+     */
+    private ToolArgumentsValidator argumentsValidator;
+    /**
+     * Generated binder of the call arguments, used by the warmup, {@code null} when the tool takes no arguments.
+     */
+    private ToolArgumentsBinder argumentsBinder;
 }
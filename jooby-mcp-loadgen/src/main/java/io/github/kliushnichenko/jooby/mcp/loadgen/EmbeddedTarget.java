@@ -0,0 +1,46 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import com.typesafe.config.ConfigFactory;
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+import io.jooby.ExecutionMode;
+import io.jooby.Jooby;
+import io.jooby.Server;
+import io.jooby.ServerOptions;
+
+/**
+ * {@link LoadTargetApp} started in the load generator JVM, one per transport run.
+ *
+ * @author kliushnichenko
+ */
+final class EmbeddedTarget implements AutoCloseable {
+
+    private static final String TRANSPORT_PROPERTY = "mcp.loadgen.transport";
+
+    private final Server server;
+    private final LoadTarget target;
+
+    private EmbeddedTarget(Server server, LoadTarget target) {
+        this.server = server;
+        this.target = target;
+    }
+
+    static EmbeddedTarget start(McpServerConfig.Transport transport, int port) {
+        System.setProperty(TRANSPORT_PROPERTY, transport.getValue());
+        // system properties are cached by the config library, the app must see the transport of this run
+        ConfigFactory.invalidateCaches();
+
+        Server server = Server.loadServer(new ServerOptions().setPort(port));
+        Jooby app = Jooby.createApp(server, ExecutionMode.DEFAULT, LoadTargetApp::new);
+        server.start(app);
+        return new EmbeddedTarget(server, LoadTarget.local(port));
+    }
+
+    LoadTarget target() {
+        return target;
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+}
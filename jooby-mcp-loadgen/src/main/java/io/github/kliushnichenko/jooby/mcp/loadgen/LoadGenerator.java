@@ -0,0 +1,117 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command line entry point of the load generator.
+ *
+ * <pre>
+ * java -jar loadgen.jar --transports streamable-http,sse --sessions 500 --duration 60 --mix echo:90,stream:10
+ * </pre>
+ *
+ * @author kliushnichenko
+ */
+public final class LoadGenerator {
+
+    private static final String USAGE = """
+            Options:
+              --transports <list>       transports to run, comma separated (default: all)
+                                        sse, streamable-http, stateless-streamable-http
+              --sessions <n>            sessions to open (default: 100)
+              --calls-per-session <n>   tool calls each session keeps in flight (default: 1)
+              --warmup <seconds>        unmeasured warmup (default: 5)
+              --duration <seconds>      measurement window (default: 30)
+              --timeout <seconds>       request timeout (default: 30)
+              --mix <tool:weight,...>   tool call mix (default: %s)
+                                        built-in tools: echo, sleep, payload, stream
+              --port <port>             port of the embedded target (default: %d)
+              --url <url>               load an external server instead of the embedded target
+              --mcp-endpoint <path>     Streamable HTTP endpoint of the external server (default: %s)
+              --sse-endpoint <path>     SSE endpoint of the external server (default: %s)
+            """.formatted(ToolMix.DEFAULT_MIX,
+            LoadScenario.DEFAULT_PORT,
+            McpServerConfig.DEFAULT_MCP_ENDPOINT,
+            McpServerConfig.DEFAULT_SSE_ENDPOINT);
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadScenario scenario;
+        try {
+            scenario = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        System.out.printf("%d sessions x %d calls in flight, warmup %d s, duration %d s%n%n",
+                scenario.getSessions(),
+                scenario.getCallsPerSession(),
+                scenario.getWarmup().toSeconds(),
+                scenario.getDuration().toSeconds());
+        System.out.print(TransportReport.header());
+
+        new LoadRunner(scenario).run(report -> {
+            System.out.print(report.row());
+            if (report.firstError() != null) {
+                System.out.println("  first error: " + report.firstError());
+            }
+        });
+    }
+
+    static LoadScenario parse(String[] args) {
+        LoadScenario.LoadScenarioBuilder builder = LoadScenario.builder();
+        String url = null;
+        String mcpEndpoint = McpServerConfig.DEFAULT_MCP_ENDPOINT;
+        String sseEndpoint = McpServerConfig.DEFAULT_SSE_ENDPOINT;
+
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value of " + args[i]);
+            }
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--transports" -> builder.transports(transports(value));
+                case "--sessions" -> builder.sessions(positive(args[i], value));
+                case "--calls-per-session" -> builder.callsPerSession(positive(args[i], value));
+                case "--warmup" -> builder.warmup(Duration.ofSeconds(Integer.parseInt(value)));
+                case "--duration" -> builder.duration(Duration.ofSeconds(positive(args[i], value)));
+                case "--timeout" -> builder.requestTimeout(Duration.ofSeconds(positive(args[i], value)));
+                case "--mix" -> builder.mix(ToolMix.parse(value));
+                case "--port" -> builder.port(positive(args[i], value));
+                case "--url" -> url = value;
+                case "--mcp-endpoint" -> mcpEndpoint = value;
+                case "--sse-endpoint" -> sseEndpoint = value;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if (url != null) {
+            builder.target(new LoadTarget(URI.create(url), mcpEndpoint, sseEndpoint));
+        }
+        return builder.build();
+    }
+
+    private static List<McpServerConfig.Transport> transports(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::strip)
+                .map(McpServerConfig.Transport::of)
+                .toList();
+    }
+
+    private static int positive(String option, String value) {
+        int number = Integer.parseInt(value);
+        if (number < 1) {
+            throw new IllegalArgumentException(option + " must be a positive number, got: " + value);
+        }
+        return number;
+    }
+}
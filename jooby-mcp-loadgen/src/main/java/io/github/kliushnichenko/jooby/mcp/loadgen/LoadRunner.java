@@ -0,0 +1,176 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kliushnichenko.jooby.mcp.internal.LatencyHistogram;
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs a {@link LoadScenario}: for every transport it opens the sessions, keeps the configured number of tool calls
+ * in flight on each of them for the warmup and the measurement window, then closes the sessions.
+ * <p>
+ * Sessions and calls run on virtual threads, so the number of sessions is bound by sockets, not by threads.
+ *
+ * @author kliushnichenko
+ */
+public class LoadRunner {
+
+    /**
+     * Percentiles of a single run are compared across transports, so they are kept to about 3%.
+     */
+    private static final int LATENCY_PRECISION_BITS = 5;
+
+    private final LoadScenario scenario;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public LoadRunner(LoadScenario scenario) {
+        this.scenario = scenario;
+    }
+
+    /**
+     * Runs the scenario for all of its transports, against the embedded target unless an external one is set.
+     *
+     * @param onReport called with the report of every transport as soon as its run completes
+     */
+    public List<TransportReport> run(Consumer<TransportReport> onReport) throws InterruptedException {
+        List<TransportReport> reports = new ArrayList<>();
+        for (McpServerConfig.Transport transport : scenario.getTransports()) {
+            TransportReport report;
+            if (scenario.getTarget() != null) {
+                report = run(transport, scenario.getTarget());
+            } else {
+                try (EmbeddedTarget embedded = EmbeddedTarget.start(transport, scenario.getPort())) {
+                    report = run(transport, embedded.target());
+                }
+            }
+            onReport.accept(report);
+            reports.add(report);
+        }
+        return reports;
+    }
+
+    public TransportReport run(McpServerConfig.Transport transport, LoadTarget target) throws InterruptedException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(scenario.getRequestTimeout())
+                     .build()) {
+            var notifications = new LongAdder();
+
+            var setupLatency = new LatencyHistogram(LATENCY_PRECISION_BITS);
+            var sessionFailures = new LongAdder();
+            var firstError = new AtomicReference<String>();
+            Queue<LoadSession> sessions = new ConcurrentLinkedQueue<>();
+            long setupStart = System.nanoTime();
+            List<Future<?>> opening = new ArrayList<>();
+            for (int i = 0; i < scenario.getSessions(); i++) {
+                opening.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        sessions.add(LoadSession.open(transport, target, http, mapper,
+                                scenario.getRequestTimeout(), notifications));
+                        setupLatency.recordNanos(System.nanoTime() - start);
+                    } catch (Exception e) {
+                        sessionFailures.increment();
+                        firstError.compareAndSet(null, "session: " + e.getMessage());
+                    }
+                    return null;
+                }));
+            }
+            awaitAll(opening);
+            Duration setupTime = Duration.ofNanos(System.nanoTime() - setupStart);
+
+            var callLatency = new LatencyHistogram(LATENCY_PRECISION_BITS);
+            var errors = new LongAdder();
+            long measureStart = System.nanoTime() + scenario.getWarmup().toNanos();
+            long measureEnd = measureStart + scenario.getDuration().toNanos();
+            List<Future<?>> workers = new ArrayList<>();
+            for (LoadSession session : sessions) {
+                for (int i = 0; i < scenario.getCallsPerSession(); i++) {
+                    workers.add(executor.submit(() -> {
+                        callLoop(session, measureStart, measureEnd, callLatency, errors, firstError);
+                        return null;
+                    }));
+                }
+            }
+
+            TimeUnit.NANOSECONDS.sleep(measureStart - System.nanoTime());
+            long notificationsBefore = notifications.sum();
+            TimeUnit.NANOSECONDS.sleep(measureEnd - System.nanoTime());
+            long measuredNotifications = notifications.sum() - notificationsBefore;
+            awaitAll(workers);
+
+            List<Future<?>> closing = new ArrayList<>();
+            for (LoadSession session : sessions) {
+                closing.add(executor.submit(session::close));
+            }
+            awaitAll(closing);
+
+            return new TransportReport(transport,
+                    sessions.size(),
+                    sessionFailures.sum(),
+                    setupTime,
+                    setupLatency,
+                    scenario.getDuration(),
+                    callLatency,
+                    errors.sum(),
+                    measuredNotifications,
+                    firstError.get());
+        }
+    }
+
+    private void callLoop(LoadSession session,
+                          long measureStart,
+                          long measureEnd,
+                          LatencyHistogram latency,
+                          LongAdder errors,
+                          AtomicReference<String> firstError) throws InterruptedException {
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= measureEnd) {
+                return;
+            }
+
+            boolean succeeded;
+            try {
+                succeeded = session.callTool(scenario.getMix().next());
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                succeeded = false;
+                firstError.compareAndSet(null, "call: " + e.getMessage());
+            }
+
+            if (start >= measureStart) {
+                latency.recordNanos(System.nanoTime() - start);
+                if (!succeeded) {
+                    errors.increment();
+                }
+            }
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // failures are counted by the tasks themselves
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * What load to generate and against what.
+ *
+ * @author kliushnichenko
+ */
+@Getter
+@Builder
+public class LoadScenario {
+
+    public static final int DEFAULT_PORT = 8199;
+
+    /**
+     * Transports to run the scenario for, one after another.
+     */
+    @Builder.Default
+    private final List<McpServerConfig.Transport> transports = List.of(McpServerConfig.Transport.values());
+
+    /**
+     * Sessions opened before the calls start.
+     */
+    @Builder.Default
+    private final int sessions = 100;
+
+    /**
+     * Calls every session keeps in flight.
+     */
+    @Builder.Default
+    private final int callsPerSession = 1;
+
+    /**
+     * Calls made during the warmup are not measured.
+     */
+    @Builder.Default
+    private final Duration warmup = Duration.ofSeconds(5);
+
+    @Builder.Default
+    private final Duration duration = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final Duration requestTimeout = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final ToolMix mix = ToolMix.parse(ToolMix.DEFAULT_MIX);
+
+    /**
+     * External server to load, {@code null} to start the embedded {@link LoadTargetApp} for every transport.
+     */
+    private final LoadTarget target;
+
+    /**
+     * Port of the embedded target.
+     */
+    @Builder.Default
+    private final int port = DEFAULT_PORT;
+}
@@ -0,0 +1,152 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scriptable MCP client session speaking raw JSON-RPC over the JDK HTTP client. It keeps no state besides
+ * what the transport needs, so thousands of sessions fit in one JVM and the client side stays out of the
+ * measurements.
+ *
+ * @author kliushnichenko
+ */
+public abstract class LoadSession implements AutoCloseable {
+
+    static final String PROTOCOL_VERSION = "2025-06-18";
+
+    private static final String CLIENT_NAME = "jooby-mcp-loadgen";
+
+    protected final HttpClient http;
+    protected final ObjectMapper mapper;
+    protected final Duration requestTimeout;
+    private final AtomicLong ids = new AtomicLong();
+    private final LongAdder notifications;
+
+    protected LoadSession(HttpClient http, ObjectMapper mapper, Duration requestTimeout, LongAdder notifications) {
+        this.http = http;
+        this.mapper = mapper;
+        this.requestTimeout = requestTimeout;
+        this.notifications = notifications;
+    }
+
+    /**
+     * Connects to the target over the transport and performs the {@code initialize} handshake.
+     *
+     * @param notifications counter of the notifications received by the session
+     */
+    public static LoadSession open(McpServerConfig.Transport transport,
+                                   LoadTarget target,
+                                   HttpClient http,
+                                   ObjectMapper mapper,
+                                   Duration requestTimeout,
+                                   LongAdder notifications) throws IOException, InterruptedException {
+        LoadSession session;
+        if (transport == McpServerConfig.Transport.SSE) {
+            session = new SseSession(target.sseUri(), http, mapper, requestTimeout, notifications);
+        } else {
+            session = new StreamableSession(target.mcpUri(), http, mapper, requestTimeout, notifications);
+        }
+
+        try {
+            if (session instanceof SseSession sse) {
+                sse.connect();
+            }
+            session.initialize();
+            return session;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a request and waits for its response.
+     *
+     * @return {@code result} of the response
+     * @throws LoadSessionException if the server answered with an error
+     */
+    public abstract JsonNode request(String method, Object params) throws IOException, InterruptedException;
+
+    /**
+     * Sends a notification, no response is expected.
+     */
+    public abstract void notify(String method, Object params) throws IOException, InterruptedException;
+
+    /**
+     * Performs the {@code initialize} handshake.
+     */
+    public void initialize() throws IOException, InterruptedException {
+        JsonNode result = request("initialize", Map.of(
+                "protocolVersion", PROTOCOL_VERSION,
+                "capabilities", Map.of(),
+                "clientInfo", Map.of("name", CLIENT_NAME, "version", "1.0")
+        ));
+        onInitialized(result);
+        notify("notifications/initialized", null);
+    }
+
+    /**
+     * Calls a tool.
+     *
+     * @return {@code true} if the tool succeeded, {@code false} if it returned an error result
+     */
+    public boolean callTool(ToolCall call) throws IOException, InterruptedException {
+        ObjectNode params = mapper.createObjectNode();
+        params.put("name", call.name());
+        params.set("arguments", mapper.valueToTree(call.arguments()));
+        if (call.progress()) {
+            params.putObject("_meta").put("progressToken", CLIENT_NAME + "-" + ids.incrementAndGet());
+        }
+        return !request("tools/call", params).path("isError").asBoolean(false);
+    }
+
+    protected void onInitialized(JsonNode result) {
+    }
+
+    protected long nextId() {
+        return ids.incrementAndGet();
+    }
+
+    protected byte[] message(Long id, String method, Object params) throws IOException {
+        ObjectNode message = mapper.createObjectNode();
+        message.put("jsonrpc", "2.0");
+        if (id != null) {
+            message.put("id", id);
+        }
+        message.put("method", method);
+        if (params != null) {
+            message.set("params", mapper.valueToTree(params));
+        }
+        return mapper.writeValueAsBytes(message);
+    }
+
+    protected static boolean isResponse(JsonNode message) {
+        return message.has("id") && (message.has("result") || message.has("error"));
+    }
+
+    protected JsonNode result(String method, JsonNode response) {
+        JsonNode error = response.get("error");
+        if (error != null) {
+            throw new LoadSessionException(method + " failed: " + error.path("message").asText());
+        }
+        return response.path("result");
+    }
+
+    protected void onNotification(JsonNode message) {
+        if (message.has("method")) {
+            notifications.increment();
+        }
+    }
+
+    @Override
+    public abstract void close();
+}
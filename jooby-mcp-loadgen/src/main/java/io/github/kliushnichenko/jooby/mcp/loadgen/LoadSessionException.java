@@ -0,0 +1,13 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+/**
+ * Thrown when the server rejects a request of a {@link LoadSession}.
+ *
+ * @author kliushnichenko
+ */
+public class LoadSessionException extends RuntimeException {
+
+    public LoadSessionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+
+import java.net.URI;
+
+/**
+ * Where the MCP server under load listens.
+ *
+ * @param baseUri     scheme, host and port of the server
+ * @param mcpEndpoint Streamable HTTP endpoint
+ * @param sseEndpoint SSE endpoint, the message endpoint is announced by the server
+ * @author kliushnichenko
+ */
+public record LoadTarget(URI baseUri, String mcpEndpoint, String sseEndpoint) {
+
+    public static LoadTarget local(int port) {
+        return new LoadTarget(URI.create("http://localhost:" + port),
+                McpServerConfig.DEFAULT_MCP_ENDPOINT,
+                McpServerConfig.DEFAULT_SSE_ENDPOINT);
+    }
+
+    URI mcpUri() {
+        return baseUri.resolve(mcpEndpoint);
+    }
+
+    URI sseUri() {
+        return baseUri.resolve(sseEndpoint);
+    }
+}
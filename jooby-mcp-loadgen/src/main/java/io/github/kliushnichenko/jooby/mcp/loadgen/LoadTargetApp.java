@@ -0,0 +1,24 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import io.github.kliushnichenko.jooby.mcp.McpModule;
+import io.jooby.Jooby;
+import io.jooby.jackson.JacksonModule;
+
+/**
+ * Jooby app the load is generated against when no external target is given.
+ * The transport is taken from {@code mcp.loadgen.transport}.
+ *
+ * @author kliushnichenko
+ */
+public class LoadTargetApp extends Jooby {
+
+    {
+        install(new JacksonModule());
+        getServices().put(LoadTools.class, new LoadTools());
+        install(new McpModule(new LoadgenMcpServer()));
+    }
+
+    public static void main(String[] args) {
+        runApp(args, LoadTargetApp::new);
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
+import io.github.kliushnichenko.jooby.mcp.annotation.ToolArg;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tools served by the embedded load target, each one stressing a different part of the request path.
+ *
+ * @author kliushnichenko
+ */
+public class LoadTools {
+
+    @Tool(name = "echo", description = "Returns the text as is, measures the bare request overhead")
+    public String echo(@ToolArg(name = "text") String text) {
+        return text;
+    }
+
+    @Tool(name = "sleep", description = "Holds the worker thread, simulates a blocking backend call")
+    public String sleep(@ToolArg(name = "millis") int millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return "slept " + millis + " ms";
+    }
+
+    @Tool(name = "payload", description = "Returns a text of the given size, measures serialization and I/O")
+    public String payload(@ToolArg(name = "size") int size) {
+        return "x".repeat(size);
+    }
+
+    @Tool(name = "stream", description = "Streams chunks as progress notifications, measures SSE fan-out")
+    public Stream<String> stream(@ToolArg(name = "chunks") int chunks) {
+        return IntStream.range(0, chunks).mapToObj(i -> "chunk " + i);
+    }
+}
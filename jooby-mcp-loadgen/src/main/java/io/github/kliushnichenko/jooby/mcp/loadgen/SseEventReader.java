@@ -0,0 +1,49 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal {@code text/event-stream} parser, only the {@code event} and {@code data} fields are read.
+ *
+ * @author kliushnichenko
+ */
+final class SseEventReader {
+
+    private static final String DEFAULT_EVENT = "message";
+
+    private final BufferedReader reader;
+
+    SseEventReader(InputStream stream) {
+        this.reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return next event, {@code null} once the stream is closed
+     */
+    Event next() throws IOException {
+        String name = DEFAULT_EVENT;
+        StringBuilder data = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (data != null) {
+                    return new Event(name, data.toString());
+                }
+                name = DEFAULT_EVENT;
+            } else if (line.startsWith("event:")) {
+                name = line.substring(6).strip();
+            } else if (line.startsWith("data:")) {
+                String value = line.substring(5).stripLeading();
+                data = data == null ? new StringBuilder(value) : data.append('\n').append(value);
+            }
+        }
+        return null;
+    }
+
+    record Event(String name, String data) {
+    }
+}
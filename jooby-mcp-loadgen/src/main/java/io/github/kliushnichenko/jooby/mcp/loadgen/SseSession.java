@@ -0,0 +1,150 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Session over the SSE transport. Requests are POSTed to the message endpoint announced by the server,
+ * responses and notifications arrive on the long-lived event stream and are matched by request id.
+ *
+ * @author kliushnichenko
+ */
+final class SseSession extends LoadSession {
+
+    private final URI sseUri;
+    private final Map<Long, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+    private final CompletableFuture<URI> messageUri = new CompletableFuture<>();
+    private InputStream stream;
+    private Thread reader;
+
+    SseSession(URI sseUri,
+               HttpClient http,
+               ObjectMapper mapper,
+               Duration requestTimeout,
+               LongAdder notifications) {
+        super(http, mapper, requestTimeout, notifications);
+        this.sseUri = sseUri;
+    }
+
+    /**
+     * Opens the event stream and waits for the message endpoint.
+     */
+    void connect() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(sseUri)
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = http.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() >= 400) {
+            response.body().close();
+            throw new LoadSessionException("SSE connection failed with HTTP " + response.statusCode());
+        }
+
+        stream = response.body();
+        reader = Thread.ofVirtual().name("loadgen-sse-reader").start(this::readEvents);
+        await(messageUri, "endpoint event");
+    }
+
+    private void readEvents() {
+        try {
+            var events = new SseEventReader(stream);
+            for (var event = events.next(); event != null; event = events.next()) {
+                if ("endpoint".equals(event.name())) {
+                    messageUri.complete(sseUri.resolve(event.data()));
+                    continue;
+                }
+
+                JsonNode message = mapper.readTree(event.data());
+                if (isResponse(message)) {
+                    CompletableFuture<JsonNode> response = pending.remove(message.get("id").asLong());
+                    if (response != null) {
+                        response.complete(message);
+                    }
+                } else {
+                    onNotification(message);
+                }
+            }
+            failPending(new LoadSessionException("SSE stream closed by the server"));
+        } catch (IOException e) {
+            failPending(e);
+        }
+    }
+
+    private void failPending(Throwable error) {
+        messageUri.completeExceptionally(error);
+        pending.values().forEach(response -> response.completeExceptionally(error));
+        pending.clear();
+    }
+
+    @Override
+    public JsonNode request(String method, Object params) throws IOException, InterruptedException {
+        long id = nextId();
+        var response = new CompletableFuture<JsonNode>();
+        pending.put(id, response);
+        try {
+            send(method, message(id, method, params));
+            return result(method, await(response, method));
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    @Override
+    public void notify(String method, Object params) throws IOException, InterruptedException {
+        send(method, message(null, method, params));
+    }
+
+    private void send(String method, byte[] message) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(messageUri.join())
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(message))
+                .build();
+        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 400) {
+            throw new LoadSessionException(method + " failed with HTTP " + response.statusCode());
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future, String what) throws IOException, InterruptedException {
+        try {
+            return future.get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new LoadSessionException("No " + what + " within " + requestTimeout.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new LoadSessionException(what + " failed: " + e.getCause().getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (stream != null) {
+                stream.close();
+            }
+        } catch (IOException e) {
+            // closing anyway
+        }
+        if (reader != null) {
+            reader.interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Session over the Streamable HTTP transport, stateful or stateless. Every request is a POST, the response
+ * comes back either as JSON or as an SSE stream carrying the notifications sent while the request ran.
+ *
+ * @author kliushnichenko
+ */
+final class StreamableSession extends LoadSession {
+
+    private static final String SESSION_ID_HEADER = "Mcp-Session-Id";
+    private static final String PROTOCOL_VERSION_HEADER = "MCP-Protocol-Version";
+    private static final String ACCEPT = "application/json, text/event-stream";
+
+    private final URI endpoint;
+    private volatile String sessionId;
+    private volatile String protocolVersion;
+
+    StreamableSession(URI endpoint,
+                      HttpClient http,
+                      ObjectMapper mapper,
+                      Duration requestTimeout,
+                      LongAdder notifications) {
+        super(http, mapper, requestTimeout, notifications);
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public JsonNode request(String method, Object params) throws IOException, InterruptedException {
+        long id = nextId();
+        HttpResponse<InputStream> response = http.send(post(message(id, method, params)),
+                HttpResponse.BodyHandlers.ofInputStream());
+        if (sessionId == null) {
+            sessionId = response.headers().firstValue(SESSION_ID_HEADER).orElse(null);
+        }
+
+        try (InputStream body = response.body()) {
+            if (response.statusCode() >= 400) {
+                throw new LoadSessionException(method + " failed with HTTP " + response.statusCode());
+            }
+            String contentType = response.headers().firstValue("Content-Type").orElse("");
+            if (!contentType.startsWith("text/event-stream")) {
+                return result(method, mapper.readTree(body));
+            }
+
+            var events = new SseEventReader(body);
+            for (var event = events.next(); event != null; event = events.next()) {
+                JsonNode message = mapper.readTree(event.data());
+                if (isResponse(message) && message.get("id").asLong() == id) {
+                    return result(method, message);
+                }
+                onNotification(message);
+            }
+            throw new LoadSessionException("Stream closed before the response to " + method);
+        }
+    }
+
+    @Override
+    public void notify(String method, Object params) throws IOException, InterruptedException {
+        HttpResponse<Void> response = http.send(post(message(null, method, params)),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 400) {
+            throw new LoadSessionException(method + " failed with HTTP " + response.statusCode());
+        }
+    }
+
+    @Override
+    protected void onInitialized(JsonNode result) {
+        protocolVersion = result.path("protocolVersion").asText(PROTOCOL_VERSION);
+    }
+
+    private HttpRequest post(byte[] message) {
+        return request()
+                .header("Content-Type", "application/json")
+                .header("Accept", ACCEPT)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(message))
+                .build();
+    }
+
+    private HttpRequest.Builder request() {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(endpoint).timeout(requestTimeout);
+        if (sessionId != null) {
+            builder.header(SESSION_ID_HEADER, sessionId);
+        }
+        if (protocolVersion != null) {
+            builder.header(PROTOCOL_VERSION_HEADER, protocolVersion);
+        }
+        return builder;
+    }
+
+    /**
+     * Ends the session on the server, stateless sessions have nothing to end.
+     */
+    @Override
+    public void close() {
+        if (sessionId == null) {
+            return;
+        }
+        try {
+            http.send(request().DELETE().build(), HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            // the server drops the session on its own
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import java.util.Map;
+
+/**
+ * A tool call of the load mix.
+ *
+ * @param name      tool name
+ * @param arguments tool arguments
+ * @param progress  whether a {@code progressToken} is sent, so chunks of streaming tools come back as notifications
+ * @author kliushnichenko
+ */
+public record ToolCall(String name, Map<String, Object> arguments, boolean progress) {
+
+    public ToolCall(String name, Map<String, Object> arguments) {
+        this(name, arguments, false);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted set of tool calls, each call of a worker picks one at random.
+ *
+ * @author kliushnichenko
+ */
+public final class ToolMix {
+
+    /**
+     * Calls of the {@link LoadTools} served by the embedded target, referenced by name in {@link #parse(String)}.
+     */
+    static final Map<String, ToolCall> BUILT_IN_CALLS = Map.of(
+            "echo", new ToolCall("echo", Map.of("text", "hello")),
+            "sleep", new ToolCall("sleep", Map.of("millis", 10)),
+            "payload", new ToolCall("payload", Map.of("size", 16 * 1024)),
+            "stream", new ToolCall("stream", Map.of("chunks", 10), true)
+    );
+
+    static final String DEFAULT_MIX = "echo:80,payload:10,stream:10";
+
+    private final List<ToolCall> calls;
+    private final int[] cumulativeWeights;
+
+    private ToolMix(List<ToolCall> calls, int[] cumulativeWeights) {
+        this.calls = calls;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Parses a mix like {@code echo:80,stream:20}. Built-in tool names get their default arguments,
+     * any other tool is called without arguments.
+     */
+    public static ToolMix parse(String spec) {
+        Builder builder = builder();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.strip().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected <tool>:<weight>, got: " + entry);
+            }
+            String name = parts[0].strip();
+            builder.add(BUILT_IN_CALLS.getOrDefault(name, new ToolCall(name, Map.of())),
+                    Integer.parseInt(parts[1].strip()));
+        }
+        return builder.build();
+    }
+
+    public ToolCall next() {
+        int total = cumulativeWeights[cumulativeWeights.length - 1];
+        int point = ThreadLocalRandom.current().nextInt(total);
+        int index = Arrays.binarySearch(cumulativeWeights, point + 1);
+        return calls.get(index >= 0 ? index : -index - 1);
+    }
+
+    public static final class Builder {
+
+        private final List<ToolCall> calls = new ArrayList<>();
+        private final List<Integer> weights = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder add(ToolCall call, int weight) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("Weight must be a positive number, got: " + weight);
+            }
+            calls.add(call);
+            weights.add(weight);
+            return this;
+        }
+
+        public ToolMix build() {
+            if (calls.isEmpty()) {
+                throw new IllegalArgumentException("Tool mix must contain at least one call");
+            }
+            int[] cumulative = new int[weights.size()];
+            int sum = 0;
+            for (int i = 0; i < cumulative.length; i++) {
+                sum += weights.get(i);
+                cumulative[i] = sum;
+            }
+            return new ToolMix(List.copyOf(calls), cumulative);
+        }
+    }
+}
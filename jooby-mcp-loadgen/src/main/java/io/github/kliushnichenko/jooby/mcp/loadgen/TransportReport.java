@@ -0,0 +1,81 @@
+package io.github.kliushnichenko.jooby.mcp.loadgen;
+
+import io.github.kliushnichenko.jooby.mcp.internal.LatencyHistogram;
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Results of a scenario run over one transport.
+ *
+ * @param transport        transport the load was generated over
+ * @param sessions         sessions opened
+ * @param sessionFailures  sessions that failed to open
+ * @param setupTime        time it took to open all sessions
+ * @param setupLatency     latency of opening a single session, {@code initialize} handshake included
+ * @param measured         measurement window, warmup excluded
+ * @param callLatency      latency of the tool calls started within the window
+ * @param errors           calls that failed or returned an error result
+ * @param notifications    notifications received within the window
+ * @param firstError       message of the first failed call, {@code null} if none failed
+ * @author kliushnichenko
+ */
+public record TransportReport(McpServerConfig.Transport transport,
+                              int sessions,
+                              long sessionFailures,
+                              Duration setupTime,
+                              LatencyHistogram setupLatency,
+                              Duration measured,
+                              LatencyHistogram callLatency,
+                              long errors,
+                              long notifications,
+                              String firstError) {
+
+    private static final String ROW_FORMAT =
+            "%-26s %9s %9s %10s %8s %9s %9s %9s %9s %9s %10s%n";
+
+    public double sessionsPerSecond() {
+        return perSecond(sessions, setupTime);
+    }
+
+    public double callsPerSecond() {
+        return perSecond(callLatency.count(), measured);
+    }
+
+    public double notificationsPerSecond() {
+        return perSecond(notifications, measured);
+    }
+
+    public static String header() {
+        return String.format(Locale.ROOT, ROW_FORMAT, "transport", "sessions", "sess/s", "calls/s", "errors",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "notif/s");
+    }
+
+    public String row() {
+        return String.format(Locale.ROOT, ROW_FORMAT,
+                transport.getValue(),
+                sessions + (sessionFailures > 0 ? "/" + (sessions + sessionFailures) : ""),
+                decimal(sessionsPerSecond()),
+                decimal(callsPerSecond()),
+                errors,
+                millis(callLatency.percentileMicros(50)),
+                millis(callLatency.percentileMicros(90)),
+                millis(callLatency.percentileMicros(99)),
+                millis(callLatency.percentileMicros(99.9)),
+                millis(callLatency.maxMicros()),
+                decimal(notificationsPerSecond()));
+    }
+
+    private static double perSecond(long count, Duration time) {
+        return time.isZero() ? 0 : count * 1_000_000_000d / time.toNanos();
+    }
+
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2f", micros / 1_000d);
+    }
+}
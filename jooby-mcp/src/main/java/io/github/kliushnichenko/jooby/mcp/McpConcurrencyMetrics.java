@@ -0,0 +1,43 @@
+package io.github.kliushnichenko.jooby.mcp;
+
+/**
+ * Metrics of the adaptive concurrency limiter guarding {@code tools/call} requests.
+ * Published in the Jooby service registry when {@code adaptiveConcurrency} is enabled:
+ *
+ * <pre>{@code
+ * McpConcurrencyMetrics metrics = require(McpConcurrencyMetrics.class);
+ *
+ * gauge("mcp.concurrency.limit", metrics::limit);
+ * gauge("mcp.concurrency.in_flight", metrics::inFlight);
+ * gauge("mcp.concurrency.rejection_rate", metrics::rejectionRate);
+ * }</pre>
+ *
+ * @author kliushnichenko
+ */
+public interface McpConcurrencyMetrics {
+
+    /**
+     * @return current concurrency limit, as estimated from observed latency
+     */
+    int limit();
+
+    /**
+     * @return number of tool calls being executed
+     */
+    int inFlight();
+
+    /**
+     * @return total number of accepted tool calls
+     */
+    long accepted();
+
+    /**
+     * @return total number of tool calls rejected with {@code 503 Service Unavailable}
+     */
+    long rejected();
+
+    /**
+     * @return share of tool calls rejected within the last completed one-second window, from {@code 0.0} to {@code 1.0}
+     */
+    double rejectionRate();
+}
@@ -0,0 +1,70 @@
+package io.github.kliushnichenko.jooby.mcp;
+
+/**
+ * Drain control of a Streamable HTTP MCP server, for rolling deployments.
+ * Published in the Jooby service registry for {@code streamable-http} servers, and reported by
+ * {@code GET /mcp-admin/drain} of the admin module:
+ *
+ * <pre>{@code
+ * McpDrainControl drain = require(McpDrainControl.class);
+ *
+ * post("/admin/drain", ctx -> {
+ *     drain.drain();
+ *     return StatusCode.ACCEPTED;
+ * });
+ * get("/ready", ctx -> drain.isDraining() ? StatusCode.SERVICE_UNAVAILABLE : StatusCode.OK);
+ * }</pre>
+ *
+ * <p>
+ * A drain has three phases:
+ * </p>
+ * <ol>
+ *   <li>no new sessions are accepted, {@code initialize} is answered with {@code 503 Service Unavailable}</li>
+ *   <li>for the {@code drainTimeout} grace period, requests of open sessions are still served,
+ *   so in-flight tool calls can finish</li>
+ *   <li>once the grace period elapses, listening streams are closed and new requests of open sessions are
+ *   answered with {@code 503} and {@code Retry-After}. Responses to server requests and cancellations of
+ *   in-flight calls are still accepted. Clients retry, by then on another node, which answers {@code 404}
+ *   for the unknown session, and the client reinitializes there.</li>
+ * </ol>
+ * <p>
+ * On application stop the server waits up to {@code drainTimeout} for in-flight tool calls to finish before
+ * sessions are closed, clients of closed sessions get {@code 404 Not Found} and reinitialize.
+ * </p>
+ *
+ * @author kliushnichenko
+ */
+public interface McpDrainControl {
+
+    /**
+     * @return name of the server
+     */
+    String serverName();
+
+    /**
+     * Starts draining, new sessions are rejected with {@code 503 Service Unavailable}. Idempotent.
+     */
+    void drain();
+
+    /**
+     * @return {@code true} once draining has started
+     */
+    boolean isDraining();
+
+    /**
+     * @return number of open sessions
+     */
+    int activeSessions();
+
+    /**
+     * @return number of tool calls being executed
+     */
+    int inFlightCalls();
+
+    /**
+     * @return {@code true} when draining and no tool call is being executed
+     */
+    default boolean isDrained() {
+        return isDraining() && inFlightCalls() == 0;
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.kliushnichenko.jooby.mcp;
+
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.Map;
+
+/**
+ * Adds and removes tools, prompts and resources of a running MCP server, on top of the ones generated
+ * from annotations. Every server gets its own registry, published in the Jooby service registry:
+ *
+ * <pre>{@code
+ * McpFeatureRegistry registry = require(McpFeatureRegistry.class);            // single server
+ * McpFeatureRegistry registry = require(McpFeatureRegistry.class, "weather"); // multiple servers
+ *
+ * registry.addTool(McpSchema.Tool.builder()
+ *                 .name("echo")
+ *                 .inputSchema(jsonMapper, "{\"type\":\"object\"}")
+ *                 .build(),
+ *         (args, exchange) -> args.get("text"));
+ * }</pre>
+ *
+ * <p>
+ * Connected clients are told about the changes with {@code list_changed} notifications. Notifications of
+ * the same kind are debounced (see {@code listChangedDebounce} config option), so a bulk update results in
+ * a single broadcast.
+ * </p>
+ *
+ * <p>
+ * Handler results are converted the same way as the results of annotated methods.
+ * </p>
+ *
+ * @author kliushnichenko
+ */
+public interface McpFeatureRegistry {
+
+    /**
+     * Adds a tool or replaces the one with the same name.
+     *
+     * @param tool    tool definition
+     * @param handler tool handler
+     */
+    void addTool(McpSchema.Tool tool, ToolHandler handler);
+
+    /**
+     * Removes a tool. Unknown names are ignored.
+     *
+     * @param name tool name
+     */
+    void removeTool(String name);
+
+    /**
+     * Adds a prompt or replaces the one with the same name.
+     *
+     * @param prompt  prompt definition
+     * @param handler prompt handler
+     */
+    void addPrompt(McpSchema.Prompt prompt, PromptHandler handler);
+
+    /**
+     * Removes a prompt. Unknown names are ignored.
+     *
+     * @param name prompt name
+     */
+    void removePrompt(String name);
+
+    /**
+     * Adds a resource or replaces the one with the same URI.
+     *
+     * @param resource resource definition
+     * @param handler  resource handler
+     */
+    void addResource(McpSchema.Resource resource, ResourceHandler handler);
+
+    /**
+     * Removes a resource. Unknown URIs are ignored.
+     *
+     * @param uri resource URI
+     */
+    void removeResource(String uri);
+
+    @FunctionalInterface
+    interface ToolHandler {
+
+        /**
+         * @param arguments tool call arguments
+         * @param exchange  exchange with the client, {@code null} for stateless servers
+         * @return tool result
+         * @throws Exception reported to the client as a tool error
+         */
+        Object handle(Map<String, Object> arguments, McpSyncServerExchange exchange) throws Exception;
+    }
+
+    @FunctionalInterface
+    interface PromptHandler {
+
+        /**
+         * @param arguments prompt arguments
+         * @param exchange  exchange with the client, {@code null} for stateless servers
+         * @return prompt result
+         * @throws Exception reported to the client as an internal error
+         */
+        Object handle(Map<String, Object> arguments, McpSyncServerExchange exchange) throws Exception;
+    }
+
+    @FunctionalInterface
+    interface ResourceHandler {
+
+        /**
+         * @param uri requested resource URI
+         * @return resource content
+         * @throws Exception reported to the client as an internal error
+         */
+        Object read(String uri) throws Exception;
+    }
+}
@@ -1,21 +1,27 @@
 package io.github.kliushnichenko.jooby.mcp;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.typesafe.config.Config;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.github.kliushnichenko.jooby.mcp.internal.BaseMcpServerRunner;
+import io.github.kliushnichenko.jooby.mcp.internal.McpCheckpointHooks;
+import io.github.kliushnichenko.jooby.mcp.internal.McpHubConfig;
+import io.github.kliushnichenko.jooby.mcp.internal.McpJsonMappers;
 import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
 import io.github.kliushnichenko.jooby.mcp.internal.McpSyncServerRunner;
 import io.github.kliushnichenko.jooby.mcp.internal.McpStatelessServerRunner;
+import io.github.kliushnichenko.jooby.mcp.transport.JoobyStreamableServerHub;
+import io.github.kliushnichenko.jooby.mcp.transport.KeepAliveWheel;
+import io.github.kliushnichenko.jooby.mcp.transport.McpCheckpointAware;
 import io.jooby.Extension;
 import io.jooby.Jooby;
 import io.jooby.exception.StartupException;
 import io.modelcontextprotocol.json.McpJsonMapper;
-import io.modelcontextprotocol.json.jackson2.JacksonMcpJsonMapper;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig.Transport.STATELESS_STREAMABLE_HTTP;
 
@@ -108,15 +114,65 @@ import static io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig.Transp
  *
  * }</pre>
  *
+ * <h2>Shared endpoint</h2>
+ *
+ * <p>
+ * Many servers can share a single Streamable HTTP endpoint, session registry and keep-alive scheduler
+ * by declaring an {@code mcp.hub} block. Requests are routed to a server by path, e.g. {@code /mcp/calculator},
+ * or by the {@code Mcp-Server} header on the bare endpoint:
+ * </p>
+ *
+ * <pre>{@code
+ * mcp {
+ *  hub {
+ *    endpoint: "/mcp"                # Optional (default: /mcp)
+ *    keepAliveInterval: 30           # Optional, seconds
+ *  }
+ * }
+ * }</pre>
+ *
+ * <h2>JSON mapper</h2>
+ *
+ * <p>
+ * MCP messages are (de)serialized with a plain Jackson mapper by default. A faster backend can be selected
+ * with {@code mcp.jsonMapper: "blackbird"} (see {@link McpJsonMappers}) or a custom mapper can be passed
+ * to {@link #mcpJsonMapper(McpJsonMapper)}.
+ * </p>
+ *
+ * <h2>Resource providers</h2>
+ *
+ * <p>
+ * Resources backed by a large or changing store can be served lazily by a {@link McpResourceProvider}
+ * instead of being declared with {@code @Resource}:
+ * </p>
+ *
+ * <pre>{@code
+ * {
+ *   install(new McpModule(new DefaultMcpServer())
+ *           .resourceProvider(new InvoiceResourceProvider(dataSource)));
+ * }
+ * }</pre>
+ *
+ * <h2>CRaC</h2>
+ *
+ * <p>
+ * On a JVM with CRaC support, sessions of all servers are closed before a checkpoint and keep-alive pings
+ * are paused until the process is restored. Clients of closed sessions reinitialize against the restored
+ * process.
+ * </p>
+ *
  * @author kliushnichenko
  * @since 1.0.0
  */
 public class McpModule implements Extension {
 
     private static final String MODULE_CONFIG_PREFIX = "mcp";
+    private static final String JSON_MAPPER_CONFIG_PATH = MODULE_CONFIG_PREFIX + ".jsonMapper";
+    private static final String HUB_CONFIG_PATH = MODULE_CONFIG_PREFIX + ".hub";
 
-    private McpJsonMapper mcpJsonMapper = new JacksonMcpJsonMapper(new ObjectMapper());
+    private McpJsonMapper mcpJsonMapper;
     private final List<JoobyMcpServer> mcpServers = new ArrayList<>();
+    private final Map<String, List<McpResourceProvider>> resourceProviders = new LinkedHashMap<>();
 
     public McpModule(JoobyMcpServer joobyMcpServer, JoobyMcpServer... moreMcpServers) {
         mcpServers.add(joobyMcpServer);
@@ -132,27 +188,57 @@ public class McpModule implements Extension {
             throw new StartupException("Missing required config path: " + MODULE_CONFIG_PREFIX);
         }
 
+        verifyResourceProviders();
+
+        if (mcpJsonMapper == null) {
+            String backend = config.hasPath(JSON_MAPPER_CONFIG_PATH)
+                    ? config.getString(JSON_MAPPER_CONFIG_PATH)
+                    : null;
+            mcpJsonMapper = McpJsonMappers.create(backend);
+        }
+
+        var keepAliveWheel = new KeepAliveWheel();
+        app.onStop(keepAliveWheel);
+
+        JoobyStreamableServerHub hub = null;
+        if (config.hasPath(HUB_CONFIG_PATH)) {
+            var hubConfig = McpHubConfig.fromConfig(config.getConfig(HUB_CONFIG_PATH));
+            hub = new JoobyStreamableServerHub(app, hubConfig.getEndpoint(), hubConfig.getKeepAliveInterval());
+        }
+
+        List<McpCheckpointAware> checkpointAware = new ArrayList<>();
         for (JoobyMcpServer joobyMcpServer : mcpServers) {
             McpServerConfig serverConfig = resolveServerConfig(config, joobyMcpServer.getServerKey());
             joobyMcpServer.init(app, mcpJsonMapper);
 
-            var runner = buildMcpServerRunner(app, joobyMcpServer, serverConfig);
+            var runner = buildMcpServerRunner(app, joobyMcpServer, serverConfig, hub, keepAliveWheel);
             runner.run();
+            checkpointAware.add(runner.getCheckpointAware());
             app.getServices().listOf(McpServerConfig.class).add(serverConfig);
         }
+
+        checkpointAware.add(keepAliveWheel);
+        if (McpCheckpointHooks.isSupported()) {
+            var checkpointHooks = new McpCheckpointHooks(checkpointAware).register();
+            app.getServices().put(McpCheckpointHooks.class, checkpointHooks);
+        }
     }
 
     private BaseMcpServerRunner<?> buildMcpServerRunner(Jooby app,
                                                         JoobyMcpServer joobyMcpServer,
-                                                        McpServerConfig serverConfig) {
+                                                        McpServerConfig serverConfig,
+                                                        JoobyStreamableServerHub hub,
+                                                        KeepAliveWheel keepAliveWheel) {
         var isSingleServer = hasSingleMcpServer();
+        var providers = resourceProviders.getOrDefault(joobyMcpServer.getServerKey(), List.of());
         if (STATELESS_STREAMABLE_HTTP == serverConfig.getTransport()) {
             return new McpStatelessServerRunner(
                     app,
                     joobyMcpServer,
                     serverConfig,
                     mcpJsonMapper,
-                    isSingleServer
+                    isSingleServer,
+                    providers
             );
         } else {
             return new McpSyncServerRunner(
@@ -160,7 +246,10 @@ public class McpModule implements Extension {
                     joobyMcpServer,
                     serverConfig,
                     mcpJsonMapper,
-                    isSingleServer
+                    isSingleServer,
+                    providers,
+                    hub,
+                    keepAliveWheel
             );
         }
     }
@@ -169,6 +258,16 @@ public class McpModule implements Extension {
         return this.mcpServers.size() == 1;
     }
 
+    private void verifyResourceProviders() {
+        for (String serverKey : resourceProviders.keySet()) {
+            boolean serverExists = mcpServers.stream().anyMatch(server -> server.getServerKey().equals(serverKey));
+            if (!serverExists) {
+                throw new StartupException(
+                        "Resource provider is registered for unknown MCP server: %s".formatted(serverKey));
+            }
+        }
+    }
+
     private McpServerConfig resolveServerConfig(Config config, String serverKey) {
         String path = MODULE_CONFIG_PREFIX + "." + serverKey;
         if (!config.hasPath(path)) {
@@ -181,4 +280,26 @@ public class McpModule implements Extension {
         this.mcpJsonMapper = mcpJsonMapper;
         return this;
     }
+
+    /**
+     * Registers a resource provider for the first MCP server passed to the module.
+     *
+     * @param provider resource provider
+     * @return this module
+     */
+    public McpModule resourceProvider(McpResourceProvider provider) {
+        return resourceProvider(mcpServers.getFirst().getServerKey(), provider);
+    }
+
+    /**
+     * Registers a resource provider for the MCP server with the given key.
+     *
+     * @param serverKey MCP server key, e.g. {@code default}
+     * @param provider  resource provider
+     * @return this module
+     */
+    public McpModule resourceProvider(String serverKey, McpResourceProvider provider) {
+        resourceProviders.computeIfAbsent(serverKey, key -> new ArrayList<>()).add(provider);
+        return this;
+    }
 }
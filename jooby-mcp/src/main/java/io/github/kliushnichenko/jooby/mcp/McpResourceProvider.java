@@ -0,0 +1,63 @@
+package io.github.kliushnichenko.jooby.mcp;
+
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.List;
+
+/**
+ * Source of resources that are resolved on demand instead of being declared with {@code @Resource}.
+ * Useful when resources come from a large or changing backing store (database rows, object storage, etc.)
+ * and keeping all of them on the heap is not an option.
+ *
+ * <p>
+ * A provider owns all URIs that start with {@link #uriPrefix()}. {@code resources/read} requests for such URIs
+ * are routed to {@link #read(String)}, while {@code resources/list} pages through {@link #list(String, int)}
+ * after the statically declared resources.
+ * </p>
+ *
+ * <pre>{@code
+ * {
+ *   install(new McpModule(new DefaultMcpServer())
+ *           .resourceProvider(new InvoiceResourceProvider(dataSource)));
+ * }
+ * }</pre>
+ *
+ * @author kliushnichenko
+ */
+public interface McpResourceProvider {
+
+    /**
+     * @return URI prefix served by this provider, e.g. {@code db://invoices/}
+     */
+    String uriPrefix();
+
+    /**
+     * Lists a single page of resources.
+     *
+     * @param cursor provider specific position returned as {@link Page#nextCursor()} of the previous page,
+     *               or {@code null} for the first page
+     * @param limit  maximum number of resources the page may contain
+     * @return page of resources, never {@code null}
+     */
+    Page list(String cursor, int limit);
+
+    /**
+     * Reads resource content. Supported return types are the same as for {@code @Resource} methods.
+     *
+     * @param uri resource URI, always starts with {@link #uriPrefix()}
+     * @return resource content
+     * @throws Exception if the resource cannot be read
+     */
+    Object read(String uri) throws Exception;
+
+    /**
+     * @param resources  resources of the page
+     * @param nextCursor position of the next page, {@code null} when there are no more resources
+     */
+    record Page(List<McpSchema.Resource> resources, String nextCursor) {
+
+        public static Page last(List<McpSchema.Resource> resources) {
+            return new Page(resources, null);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.kliushnichenko.jooby.mcp;
+
+/**
+ * Notifies clients subscribed via {@code resources/subscribe} that a resource has changed.
+ * Published in the Jooby service registry for every stateful (SSE or Streamable HTTP) MCP server:
+ *
+ * <pre>{@code
+ * McpResourceSubscriptions subscriptions = require(McpResourceSubscriptions.class);
+ *
+ * subscriptions.resourceUpdated("db://invoices/42");
+ * }</pre>
+ *
+ * <p>
+ * Updates are coalesced: no matter how many times a resource changes within the window configured by
+ * {@code resourceUpdateWindow}, each subscriber gets a single {@code notifications/resources/updated} for it.
+ * Clients that are not subscribed to the URI are not notified at all.
+ * </p>
+ *
+ * @author kliushnichenko
+ */
+public interface McpResourceSubscriptions {
+
+    /**
+     * Marks the resource as updated.
+     *
+     * @param uri URI of the updated resource
+     */
+    void resourceUpdated(String uri);
+}
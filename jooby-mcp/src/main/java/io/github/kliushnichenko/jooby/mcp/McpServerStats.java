@@ -0,0 +1,101 @@
+package io.github.kliushnichenko.jooby.mcp;
+
+import java.util.List;
+
+/**
+ * Runtime statistics of an MCP server. Published in the Jooby service registry for every server,
+ * and in the {@code List<McpServerStats>} of all servers:
+ *
+ * <pre>{@code
+ * McpServerStats stats = require(McpServerStats.class);
+ *
+ * gauge("mcp.sessions", stats::activeSessions);
+ * get("/admin/tools", ctx -> stats.tools());
+ * }</pre>
+ *
+ * <p>
+ * Values are read from counters updated on the request path, taking a snapshot does not block requests.
+ * Tool counters and latencies are cumulative since the server started.
+ * </p>
+ *
+ * @author kliushnichenko
+ */
+public interface McpServerStats {
+
+    /**
+     * @return name of the MCP server
+     */
+    String serverName();
+
+    /**
+     * @return transport of the MCP server, as configured
+     */
+    String transport();
+
+    /**
+     * @return number of open sessions, {@code 0} for the stateless transport
+     */
+    int activeSessions();
+
+    /**
+     * @return number of open SSE streams, listening streams and streams of requests being answered
+     */
+    int openStreams();
+
+    /**
+     * @return current concurrency limit of tool calls, {@code 0} when {@code adaptiveConcurrency} is disabled
+     */
+    int concurrencyLimit();
+
+    /**
+     * @return statistics of every tool called at least once, ordered by name
+     */
+    List<ToolStats> tools();
+
+    /**
+     * @return statistics of the caches of the server
+     */
+    List<CacheStats> caches();
+
+    /**
+     * Calls of a single tool.
+     *
+     * @param name       tool name
+     * @param calls      total number of completed calls
+     * @param errors     completed calls that returned an error result
+     * @param inFlight   calls being executed
+     * @param waiting    calls waiting for an identical call to complete, see idempotent tools
+     * @param coalesced  completed calls answered by an identical call
+     * @param p50Millis  median latency in milliseconds
+     * @param p90Millis  90th percentile latency in milliseconds
+     * @param p99Millis  99th percentile latency in milliseconds
+     * @param maxMillis  highest latency in milliseconds
+     */
+    record ToolStats(String name,
+                     long calls,
+                     long errors,
+                     int inFlight,
+                     int waiting,
+                     long coalesced,
+                     double p50Millis,
+                     double p90Millis,
+                     double p99Millis,
+                     double maxMillis) {
+    }
+
+    /**
+     * Lookups of a single cache.
+     *
+     * @param name     cache name
+     * @param hits     lookups served from the cache
+     * @param misses   lookups that had to build the value
+     * @param hitRatio share of lookups served from the cache, from {@code 0.0} to {@code 1.0}
+     */
+    record CacheStats(String name, long hits, long misses, double hitRatio) {
+
+        public static CacheStats of(String name, long hits, long misses) {
+            long lookups = hits + misses;
+            return new CacheStats(name, hits, misses, lookups == 0 ? 0.0 : (double) hits / lookups);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.kliushnichenko.jooby.mcp;
+
+import java.util.List;
+
+/**
+ * Estimated in-flight request memory of the sessions of a Streamable HTTP MCP server. Published in the Jooby service registry
+ * for {@code streamable-http} servers, and in the {@code List<McpSessionMemory>} of all servers:
+ *
+ * <pre>{@code
+ * McpSessionMemory memory = require(McpSessionMemory.class);
+ *
+ * gauge("mcp.sessions.in_flight_bytes", memory::inFlightBytes);
+ * get("/admin/sessions", ctx -> memory.topSessions(10));
+ * }</pre>
+ *
+ * <p>
+ * A session is charged a flat amount for its own state and for every request it has in flight: the request body,
+ * its parsed form and the transport context with the copied request headers. Messages sent to the client are
+ * not charged, neither those being written to a slow client nor those kept for replay. With {@code sessionMemoryQuota}
+ * configured, a request that would take a session over the quota is rejected with
+ * {@code 413 Request Entity Too Large}, the session and its other requests are kept.
+ * </p>
+ *
+ * @author kliushnichenko
+ */
+public interface McpSessionMemory {
+
+    /**
+     * @return name of the MCP server
+     */
+    String serverName();
+
+    /**
+     * @return per-session quota in bytes, {@code 0} when sessions are not limited
+     */
+    long quota();
+
+    /**
+     * @return number of open sessions
+     */
+    int sessions();
+
+    /**
+     * @return estimated bytes held by all open sessions and their in-flight requests
+     */
+    long inFlightBytes();
+
+    /**
+     * @return total number of requests rejected for going over the quota
+     */
+    long quotaRejections();
+
+    /**
+     * @param limit maximum number of sessions to return
+     * @return sessions holding the most memory, largest first
+     */
+    List<SessionUsage> topSessions(int limit);
+
+    /**
+     * In-flight request memory of a single session.
+     *
+     * @param sessionId         session id
+     * @param clientName        name the client reported on initialization
+     * @param inFlightBytes     estimated bytes held now
+     * @param peakInFlightBytes highest estimate since the session was opened
+     * @param inFlightRequests  number of requests being executed
+     */
+    record SessionUsage(String sessionId,
+                        String clientName,
+                        long inFlightBytes,
+                        long peakInFlightBytes,
+                        int inFlightRequests) {
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.github.kliushnichenko.jooby.mcp.McpFeatureRegistry;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.Objects;
+
+/**
+ * Keeps list snapshots in sync with the features added or removed at runtime.
+ *
+ * @author kliushnichenko
+ */
+abstract class BaseMcpFeatureRegistry implements McpFeatureRegistry, McpListPaginator.CatalogSource {
+
+    protected final McpListPaginator listPaginator;
+    protected final McpToolHandler toolHandler;
+    protected final McpResourceHandler resourceHandler;
+
+    BaseMcpFeatureRegistry(McpListPaginator listPaginator,
+                           McpToolHandler toolHandler,
+                           McpResourceHandler resourceHandler) {
+        this.listPaginator = listPaginator;
+        this.toolHandler = toolHandler;
+        this.resourceHandler = resourceHandler;
+    }
+
+    @Override
+    public void addTool(McpSchema.Tool tool, ToolHandler handler) {
+        Objects.requireNonNull(tool, "tool must not be null");
+        Objects.requireNonNull(handler, "handler must not be null");
+        doAddTool(tool, handler);
+        listPaginator.invalidateTools();
+    }
+
+    @Override
+    public void removeTool(String name) {
+        doRemoveTool(name);
+        listPaginator.invalidateTools();
+    }
+
+    @Override
+    public void addPrompt(McpSchema.Prompt prompt, PromptHandler handler) {
+        Objects.requireNonNull(prompt, "prompt must not be null");
+        Objects.requireNonNull(handler, "handler must not be null");
+        doAddPrompt(prompt, handler);
+        listPaginator.invalidatePrompts();
+    }
+
+    @Override
+    public void removePrompt(String name) {
+        doRemovePrompt(name);
+        listPaginator.invalidatePrompts();
+    }
+
+    @Override
+    public void addResource(McpSchema.Resource resource, ResourceHandler handler) {
+        Objects.requireNonNull(resource, "resource must not be null");
+        Objects.requireNonNull(handler, "handler must not be null");
+        doAddResource(resource, handler);
+        listPaginator.invalidateResources();
+    }
+
+    @Override
+    public void removeResource(String uri) {
+        doRemoveResource(uri);
+        listPaginator.invalidateResources();
+    }
+
+    protected abstract void doAddTool(McpSchema.Tool tool, ToolHandler handler);
+
+    protected abstract void doRemoveTool(String name);
+
+    protected abstract void doAddPrompt(McpSchema.Prompt prompt, PromptHandler handler);
+
+    protected abstract void doRemovePrompt(String name);
+
+    protected abstract void doAddResource(McpSchema.Resource resource, ResourceHandler handler);
+
+    protected abstract void doRemoveResource(String uri);
+}
@@ -1,48 +1,74 @@
 package io.github.kliushnichenko.jooby.mcp.internal;
 
 import io.github.kliushnichenko.jooby.mcp.JoobyMcpServer;
+import io.github.kliushnichenko.jooby.mcp.McpConcurrencyMetrics;
+import io.github.kliushnichenko.jooby.mcp.McpFeatureRegistry;
+import io.github.kliushnichenko.jooby.mcp.McpResourceProvider;
+import io.github.kliushnichenko.jooby.mcp.McpServerStats;
+import io.github.kliushnichenko.jooby.mcp.transport.AdaptiveConcurrencyLimiter;
+import io.github.kliushnichenko.jooby.mcp.transport.HeadersContextExtractor;
+import io.github.kliushnichenko.jooby.mcp.transport.McpCheckpointAware;
+import io.github.kliushnichenko.jooby.mcp.transport.McpConcurrencyLimiter;
+import io.github.kliushnichenko.jooby.mcp.transport.McpRequestInterceptor;
+import io.github.kliushnichenko.jooby.mcp.transport.McpTransportMetrics;
 import io.jooby.Context;
 import io.jooby.Jooby;
-import io.modelcontextprotocol.common.McpTransportContext;
+import io.jooby.ServiceKey;
+import io.modelcontextprotocol.json.McpJsonDefaults;
 import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
 import io.modelcontextprotocol.server.McpTransportContextExtractor;
 import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public abstract class BaseMcpServerRunner<S> {
 
-    protected static final McpTransportContextExtractor<Context> CTX_EXTRACTOR = ctx -> {
-        var transportContext = Map.<String, Object>of(
-                "HEADERS", ctx.headerMap()
-        );
-        return McpTransportContext.create(transportContext);
-    };
+    private static final Logger LOG = LoggerFactory.getLogger(BaseMcpServerRunner.class);
 
     protected final Jooby app;
     protected final JoobyMcpServer joobyMcpServer;
     protected final McpServerConfig serverConfig;
     protected final McpJsonMapper mcpJsonMapper;
     protected final boolean isSingleServer;
+    protected final List<McpResourceProvider> resourceProviders;
 
     protected final McpToolHandler toolHandler;
     protected final McpResourceHandler resourceHandler;
     protected final McpResourceTemplateHandler resourceTemplateHandler;
+    protected final McpListPaginator listPaginator;
+    protected final McpConcurrencyLimiter concurrencyLimiter;
+    protected final McpTransportContextExtractor<Context> contextExtractor;
+    protected McpTransportMetrics transportMetrics = McpTransportMetrics.NONE;
+    protected McpCheckpointAware checkpointAware = McpCheckpointAware.NONE;
+    protected final JsonSchemaValidator schemaValidator = McpJsonDefaults.getSchemaValidator();
 
     public BaseMcpServerRunner(Jooby app,
                                JoobyMcpServer joobyMcpServer,
                                McpServerConfig serverConfig,
                                McpJsonMapper mcpJsonMapper,
-                               boolean isSingleServer) {
+                               boolean isSingleServer,
+                               List<McpResourceProvider> resourceProviders) {
         this.app = app;
         this.joobyMcpServer = joobyMcpServer;
         this.serverConfig = serverConfig;
         this.mcpJsonMapper = mcpJsonMapper;
         this.isSingleServer = isSingleServer;
+        this.resourceProviders = resourceProviders;
 
-        this.toolHandler = new McpToolHandler(mcpJsonMapper);
+        this.toolHandler = new McpToolHandler(mcpJsonMapper, serverConfig.getToolTimeout());
         this.resourceHandler = new McpResourceHandler(mcpJsonMapper);
         this.resourceTemplateHandler = new McpResourceTemplateHandler(mcpJsonMapper);
+        this.listPaginator = new McpListPaginator(serverConfig.getPageSize(), resourceProviders, mcpJsonMapper);
+        this.concurrencyLimiter = serverConfig.isAdaptiveConcurrency()
+                ? new AdaptiveConcurrencyLimiter(
+                        serverConfig.getInitialConcurrencyLimit(),
+                        serverConfig.getMaxConcurrencyLimit())
+                : McpConcurrencyLimiter.NONE;
+        this.contextExtractor = new HeadersContextExtractor(serverConfig.getTransportHeaders());
     }
 
     public void run() {
@@ -53,11 +79,45 @@ public abstract class BaseMcpServerRunner<S> {
         initResources(mcpServer);
         initResourceTemplates(mcpServer);
 
+        if (serverConfig.isWarmup()) {
+            warmup();
+        }
+
+        BaseMcpFeatureRegistry featureRegistry = createFeatureRegistry(mcpServer);
+        listPaginator.setCatalogSource(featureRegistry);
+
         addToJoobyRegistry(mcpServer);
+        addToJoobyRegistry(McpFeatureRegistry.class, featureRegistry);
+        if (concurrencyLimiter instanceof McpConcurrencyMetrics metrics) {
+            addToJoobyRegistry(McpConcurrencyMetrics.class, metrics);
+        }
+        var stats = new McpServerStatsCollector(
+                serverConfig, transportMetrics, toolHandler, listPaginator, concurrencyLimiter);
+        addToJoobyRegistry(McpServerStats.class, stats);
+        app.getServices().listOf(McpServerStats.class).add(stats);
         logMcpStart(mcpServer);
         app.onStop(() -> close(mcpServer));
     }
 
+    private void warmup() {
+        long start = System.nanoTime();
+        McpToolWarmup.Summary summary = new McpToolWarmup(mcpJsonMapper, schemaValidator, toolHandler)
+                .run(joobyMcpServer.getTools().values(), serverConfig.getWarmupIterations());
+        LOG.info("Warmed up {} tools of MCP server '{}' with {} iterations in {} ms, skipped: {}",
+                summary.warmedTools().size(),
+                serverConfig.getName(),
+                serverConfig.getWarmupIterations(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                summary.skippedTools());
+    }
+
+    /**
+     * @return transport state to release before a CRaC checkpoint, available once the server is running
+     */
+    public McpCheckpointAware getCheckpointAware() {
+        return checkpointAware;
+    }
+
     protected abstract S initMcpServer();
 
     protected abstract void initTools(S mcpServer);
@@ -72,8 +132,29 @@ public abstract class BaseMcpServerRunner<S> {
 
     protected abstract void addToJoobyRegistry(S mcpServer);
 
+    protected abstract BaseMcpFeatureRegistry createFeatureRegistry(S mcpServer);
+
     protected abstract void close(S mcpServer);
 
+    protected McpRequestInterceptor requestInterceptor() {
+        if (resourceProviders.isEmpty()) {
+            return listPaginator;
+        }
+        return listPaginator.andThen(new McpResourceProviderRouter(resourceProviders, mcpJsonMapper));
+    }
+
+    /**
+     * Registers a service in the Jooby registry, keyed by the server key when multiple servers are running.
+     */
+    protected <T> void addToJoobyRegistry(Class<T> type, T service) {
+        var registry = app.getServices();
+        if (isSingleServer) {
+            registry.put(type, service);
+        } else {
+            registry.put(ServiceKey.key(type, joobyMcpServer.getServerKey()), service);
+        }
+    }
+
     protected McpSchema.Tool buildTool(ToolSpec toolSpec) {
         McpSchema.Tool.Builder toolBuilder = McpSchema.Tool.builder()
                 .name(toolSpec.getName())
@@ -96,11 +177,13 @@ public abstract class BaseMcpServerRunner<S> {
     protected McpSchema.ServerCapabilities computeCapabilities() {
         var builder = McpSchema.ServerCapabilities.builder();
 
-        if (!joobyMcpServer.getTools().isEmpty()) {
+        var dynamicFeatures = serverConfig.isDynamicFeatures();
+
+        if (dynamicFeatures || !joobyMcpServer.getTools().isEmpty()) {
             builder.tools(true);
         }
 
-        if (!joobyMcpServer.getPrompts().isEmpty()) {
+        if (dynamicFeatures || !joobyMcpServer.getPrompts().isEmpty()) {
             builder.prompts(true);
         }
 
@@ -108,7 +191,7 @@ public abstract class BaseMcpServerRunner<S> {
             builder.completions();
         }
 
-        if (!joobyMcpServer.getResources().isEmpty()) {
+        if (dynamicFeatures || !joobyMcpServer.getResources().isEmpty() || !resourceProviders.isEmpty()) {
             builder.resources(true, true);
         }
 
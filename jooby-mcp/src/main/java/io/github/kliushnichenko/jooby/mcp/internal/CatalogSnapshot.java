@@ -0,0 +1,74 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable, key-ordered view over a catalogue of MCP items (tools, prompts, resources, etc.).
+ * Pages are addressed by the key of the last item returned, so a cursor stays valid when items
+ * are added or removed between requests. Lookups are a binary search and pages are list views,
+ * so serving a page never copies the whole catalogue.
+ *
+ * @param <T> item type
+ * @author kliushnichenko
+ */
+final class CatalogSnapshot<T> {
+
+    private final String[] keys;
+    private final List<T> items;
+
+    private CatalogSnapshot(String[] keys, List<T> items) {
+        this.keys = keys;
+        this.items = items;
+    }
+
+    static <T> CatalogSnapshot<T> of(Collection<T> items, Function<T, String> keyFn) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(keyFn));
+
+        String[] keys = new String[sorted.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyFn.apply(sorted.get(i));
+        }
+        return new CatalogSnapshot<>(keys, Collections.unmodifiableList(sorted));
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    List<T> items() {
+        return items;
+    }
+
+    /**
+     * Returns up to {@code pageSize} items whose keys strictly follow {@code afterKey}.
+     *
+     * @param afterKey key of the last item of the previous page, or {@code null} for the first page
+     * @param pageSize maximum number of items in the page
+     * @return page of items, never {@code null}
+     */
+    Page<T> page(String afterKey, int pageSize) {
+        int from = afterKey == null ? 0 : firstIndexAfter(afterKey);
+        int to = Math.min(from + pageSize, keys.length);
+        String lastKey = to < keys.length ? keys[to - 1] : null;
+        return new Page<>(items.subList(from, to), lastKey);
+    }
+
+    private int firstIndexAfter(String key) {
+        int idx = Arrays.binarySearch(keys, key);
+        return idx >= 0 ? idx + 1 : -idx - 1;
+    }
+
+    /**
+     * @param items   items of the page
+     * @param lastKey key of the last item when more items follow, {@code null} on the last page
+     */
+    record Page<T>(List<T> items, String lastKey) {
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.github.kliushnichenko.jooby.mcp.McpResourceSubscriptions;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects updated URIs and flushes them once per window. Subscribers per URI are tracked by the SDK itself:
+ * its {@code resources/subscribe} handler keeps a URI to session ids index, and
+ * {@link McpAsyncServer#notifyResourcesUpdated} sends the notification only to the sessions found there.
+ * So only the set of URIs changed within the current window is kept here.
+ *
+ * @author kliushnichenko
+ */
+class CoalescingResourceSubscriptions implements McpResourceSubscriptions {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CoalescingResourceSubscriptions.class);
+
+    private final McpAsyncServer mcpServer;
+    private final long windowMillis;
+    private final Set<String> updatedUris = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile Disposable flushTask;
+
+    CoalescingResourceSubscriptions(McpAsyncServer mcpServer, long windowMillis) {
+        this.mcpServer = mcpServer;
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    public void resourceUpdated(String uri) {
+        if (windowMillis == 0) {
+            send(uri);
+            return;
+        }
+
+        if (updatedUris.add(uri) && flushScheduled.compareAndSet(false, true)) {
+            flushTask = Schedulers.parallel().schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void dispose() {
+        var task = flushTask;
+        if (task != null) {
+            task.dispose();
+        }
+        updatedUris.clear();
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+
+        Iterator<String> it = updatedUris.iterator();
+        while (it.hasNext()) {
+            String uri = it.next();
+            it.remove();
+            send(uri);
+        }
+    }
+
+    private void send(String uri) {
+        mcpServer.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification(uri))
+                .subscribe(
+                        v -> {
+                        },
+                        e -> LOG.error("Failed to notify subscribers of resource '{}': {}", uri, e.getMessage())
+                );
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of latencies in microseconds. Every power of two is split into
+ * {@code 2^precisionBits} buckets, so percentiles are accurate to about {@code 100 / 2^precisionBits} percent
+ * at a fixed footprint, regardless of the number of recorded values. The default of
+ * {@value #DEFAULT_PRECISION_BITS} bits gives about 6% in a few kilobytes.
+ *
+ * @author kliushnichenko
+ */
+public final class LatencyHistogram {
+
+    public static final int DEFAULT_PRECISION_BITS = 4;
+
+    private final int subBucketBits;
+    private final int subBuckets;
+    private final AtomicLongArray counts;
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public LatencyHistogram() {
+        this(DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * @param precisionBits number of bits every power of two is split by, between 1 and 10
+     */
+    public LatencyHistogram(int precisionBits) {
+        if (precisionBits < 1 || precisionBits > 10) {
+            throw new IllegalArgumentException("precisionBits must be between 1 and 10, got: " + precisionBits);
+        }
+        this.subBucketBits = precisionBits;
+        this.subBuckets = 1 << precisionBits;
+        this.counts = new AtomicLongArray(subBuckets + (Long.SIZE - subBucketBits) * subBuckets);
+    }
+
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(index(micros));
+        total.incrementAndGet();
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    public long count() {
+        return total.get();
+    }
+
+    public long maxMicros() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile percentile in the {@code (0, 100]} range
+     * @return upper bound of the bucket the percentile falls into, in microseconds, 0 when nothing was recorded
+     */
+    public long percentileMicros(double percentile) {
+        long count = total.get();
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private int index(long micros) {
+        if (micros < subBuckets) {
+            return (int) micros;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - subBucketBits)) - subBuckets;
+        return subBuckets + (exponent - subBucketBits) * subBuckets + subBucket;
+    }
+
+    private long upperBound(int index) {
+        if (index < subBuckets) {
+            return index;
+        }
+        int exponent = (index - subBuckets) / subBuckets + subBucketBits;
+        long subBucket = (index - subBuckets) % subBuckets;
+        return ((subBuckets + subBucket + 1) << (exponent - subBucketBits)) - 1;
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.github.kliushnichenko.jooby.mcp.CancellationToken;
+import io.modelcontextprotocol.common.McpTransportContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default {@link CancellationToken}, created by transports for every {@code tools/call} request
+ * and exposed to the tool handler through the request {@link McpTransportContext}.
+ *
+ * @author kliushnichenko
+ */
+public final class McpCancellationToken implements CancellationToken {
+
+    private static final Logger LOG = LoggerFactory.getLogger(McpCancellationToken.class);
+
+    private final List<Runnable> callbacks = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
+    private volatile String reason;
+    private volatile boolean timedOut;
+    private volatile Instant deadline;
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public String reason() {
+        return reason;
+    }
+
+    @Override
+    public Optional<Instant> deadline() {
+        return Optional.ofNullable(deadline);
+    }
+
+    /**
+     * @return {@code true} if the token has been cancelled because its deadline passed
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Sets the deadline and schedules cancellation once it passes.
+     *
+     * @param timeoutMillis timeout in milliseconds
+     * @return handle to dispose the scheduled cancellation once the invocation is complete
+     */
+    public Disposable expireAfter(long timeoutMillis) {
+        this.deadline = Instant.now().plusMillis(timeoutMillis);
+        return Schedulers.parallel().schedule(
+                () -> cancel("Timed out after " + timeoutMillis + " ms", true),
+                timeoutMillis,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void onCancel(Runnable callback) {
+        callbacks.add(callback);
+        if (cancelled && callbacks.remove(callback)) {
+            run(callback);
+        }
+    }
+
+    /**
+     * Cancels the token and runs registered callbacks. Subsequent calls have no effect.
+     *
+     * @param reason cancellation reason, may be {@code null}
+     */
+    public void cancel(String reason) {
+        cancel(reason, false);
+    }
+
+    private void cancel(String reason, boolean timedOut) {
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            this.reason = reason;
+            this.timedOut = timedOut;
+            this.cancelled = true;
+        }
+
+        for (Runnable callback : callbacks) {
+            if (callbacks.remove(callback)) {
+                run(callback);
+            }
+        }
+    }
+
+    /**
+     * Returns a transport context that resolves {@link CancellationToken#CTX_KEY} to this token
+     * and delegates any other key to the given context.
+     *
+     * @param delegate original transport context
+     * @return transport context carrying this token
+     */
+    public McpTransportContext bindTo(McpTransportContext delegate) {
+        return key -> CTX_KEY.equals(key) ? this : delegate.get(key);
+    }
+
+    /**
+     * Looks the token up in the transport context.
+     *
+     * @param transportContext transport context of the request, may be {@code null}
+     * @return the bound token, or a fresh one that is never cancelled
+     */
+    public static McpCancellationToken from(McpTransportContext transportContext) {
+        if (transportContext != null && transportContext.get(CTX_KEY) instanceof McpCancellationToken token) {
+            return token;
+        }
+        return new McpCancellationToken();
+    }
+
+    private static void run(Runnable callback) {
+        try {
+            callback.run();
+        } catch (Exception e) {
+            LOG.warn("Cancellation callback failed: {}", e.getMessage());
+        }
+    }
+}
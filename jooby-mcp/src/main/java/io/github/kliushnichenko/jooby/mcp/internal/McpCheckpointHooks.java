@@ -0,0 +1,90 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.github.kliushnichenko.jooby.mcp.transport.McpCheckpointAware;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * CRaC hooks of the MCP module. Releases client connections and timer threads of all MCP servers before
+ * a checkpoint and recreates them after restore. On a JVM without CRaC support the hooks are never called.
+ * <p>
+ * {@code org.crac:crac} is an optional dependency, the hooks can only be registered when it is on the class path.
+ * The global CRaC context only keeps weak references to resources, the hooks have to be referenced by the
+ * application for as long as it runs.
+ *
+ * @author kliushnichenko
+ */
+public class McpCheckpointHooks {
+
+    private static final Logger LOG = LoggerFactory.getLogger(McpCheckpointHooks.class);
+    private static final String CRAC_CORE = "org.crac.Core";
+
+    private final List<McpCheckpointAware> resources;
+    /**
+     * Strong reference to the registered CRaC resource.
+     */
+    private Object cracResource;
+
+    /**
+     * @param resources released in the given order before a checkpoint, and restored in the reverse order
+     */
+    public McpCheckpointHooks(List<McpCheckpointAware> resources) {
+        this.resources = List.copyOf(resources);
+    }
+
+    /**
+     * @return true if {@code org.crac:crac} is on the class path
+     */
+    public static boolean isSupported() {
+        return OptionalDependencies.isPresent(CRAC_CORE);
+    }
+
+    /**
+     * Registers the hooks with the global CRaC context, check {@link #isSupported()} first.
+     */
+    public McpCheckpointHooks register() {
+        cracResource = CracHolder.register(this);
+        return this;
+    }
+
+    public boolean isRegistered() {
+        return cracResource != null;
+    }
+
+    public void beforeCheckpoint() {
+        LOG.info("Preparing MCP servers for checkpoint");
+        resources.forEach(McpCheckpointAware::beforeCheckpoint);
+    }
+
+    public void afterRestore() {
+        resources.reversed().forEach(McpCheckpointAware::afterRestore);
+        LOG.info("MCP servers restored from checkpoint");
+    }
+
+    /**
+     * Keeps the optional CRaC classes out of {@link McpCheckpointHooks} so they are only loaded when present.
+     */
+    private static final class CracHolder {
+
+        static Object register(McpCheckpointHooks hooks) {
+            Resource resource = new Resource() {
+                @Override
+                public void beforeCheckpoint(Context<? extends Resource> context) {
+                    hooks.beforeCheckpoint();
+                }
+
+                @Override
+                public void afterRestore(Context<? extends Resource> context) {
+                    hooks.afterRestore();
+                }
+            };
+            Core.getGlobalContext().register(resource);
+            return resource;
+        }
+    }
+}
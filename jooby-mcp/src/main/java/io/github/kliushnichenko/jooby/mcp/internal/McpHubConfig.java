@@ -0,0 +1,34 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import com.typesafe.config.Config;
+import io.jooby.exception.StartupException;
+import lombok.Getter;
+
+/**
+ * Configuration of the shared Streamable HTTP hub, see {@code mcp.hub}.
+ *
+ * @author kliushnichenko
+ */
+@Getter
+public class McpHubConfig {
+    public static final String DEFAULT_HUB_ENDPOINT = "/mcp";
+
+    private final String endpoint;
+    private final Integer keepAliveInterval;
+
+    public McpHubConfig(String endpoint, Integer keepAliveInterval) {
+        this.endpoint = endpoint;
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
+    public static McpHubConfig fromConfig(Config config) {
+        String endpoint = config.hasPath("endpoint") ? config.getString("endpoint") : DEFAULT_HUB_ENDPOINT;
+        Integer keepAliveInterval = config.hasPath("keepAliveInterval") ? config.getInt("keepAliveInterval") : null;
+
+        if (keepAliveInterval != null && keepAliveInterval < 1) {
+            throw new StartupException("hub.keepAliveInterval must be a positive number, got: " + keepAliveInterval);
+        }
+
+        return new McpHubConfig(endpoint, keepAliveInterval);
+    }
+}
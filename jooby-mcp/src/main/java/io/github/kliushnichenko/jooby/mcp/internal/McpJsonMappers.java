@@ -0,0 +1,72 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.jooby.exception.StartupException;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.jackson2.JacksonMcpJsonMapper;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Creates {@link McpJsonMapper} backends selectable with the {@code mcp.jsonMapper} config property.
+ *
+ * <ul>
+ *   <li>{@code jackson} — plain Jackson {@link ObjectMapper}, the default</li>
+ *   <li>{@code blackbird} — Jackson with the Blackbird module, which replaces reflective access to
+ *   getters, setters and constructors with generated lambdas, plus the fast number parser and writer.
+ *   Requires {@code com.fasterxml.jackson.module:jackson-module-blackbird} on the classpath</li>
+ * </ul>
+ *
+ * @author kliushnichenko
+ */
+@UtilityClass
+public class McpJsonMappers {
+
+    public static final String JACKSON = "jackson";
+    public static final String BLACKBIRD = "blackbird";
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    public static McpJsonMapper create(String backend) {
+        if (backend == null || JACKSON.equalsIgnoreCase(backend)) {
+            return new JacksonMcpJsonMapper(new ObjectMapper());
+        } else if (BLACKBIRD.equalsIgnoreCase(backend)) {
+            return new JacksonMcpJsonMapper(blackbirdObjectMapper());
+        }
+        throw new StartupException("Unknown jsonMapper value: %s, expected one of: %s, %s"
+                .formatted(backend, JACKSON, BLACKBIRD));
+    }
+
+    private static ObjectMapper blackbirdObjectMapper() {
+        if (!OptionalDependencies.isPresent(BLACKBIRD_MODULE)) {
+            throw new StartupException(
+                    "jsonMapper 'blackbird' requires com.fasterxml.jackson.module:jackson-module-blackbird "
+                    + "on the classpath");
+        }
+
+        JsonFactory jsonFactory = JsonFactory.builder()
+                .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+                .enable(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER)
+                .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+                .build();
+
+        return JsonMapper.builder(jsonFactory)
+                .addModule(BlackbirdHolder.module())
+                .build();
+    }
+
+    /**
+     * Keeps the optional Blackbird classes out of {@link McpJsonMappers} so they are only loaded when selected.
+     */
+    private static final class BlackbirdHolder {
+
+        static Module module() {
+            return new BlackbirdModule();
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.github.kliushnichenko.jooby.mcp.McpResourceProvider;
+import io.github.kliushnichenko.jooby.mcp.McpServerStats;
+import io.github.kliushnichenko.jooby.mcp.transport.McpRequestInterceptor;
+import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Serves {@code tools/list}, {@code prompts/list}, {@code resources/list} and {@code resources/templates/list}
+ * page by page. The SDK always returns the full catalogue, so the requests are answered here, before they
+ * reach the MCP session.
+ *
+ * <p>
+ * Cursors are opaque to clients: a base64url-encoded key of the last item on the previous page, prefixed
+ * with the list kind, so a cursor obtained from one list is rejected by another.
+ * </p>
+ *
+ * <p>
+ * When {@link McpResourceProvider}s are registered, {@code resources/list} is always paginated: statically
+ * declared resources come first, followed by every provider in registration order. The resources cursor
+ * then also carries the index of the current segment and the provider's own cursor.
+ * </p>
+ *
+ * @author kliushnichenko
+ */
+public class McpListPaginator implements McpRequestInterceptor {
+
+    private static final String TOOLS = "tools";
+    private static final String PROMPTS = "prompts";
+    private static final String RESOURCES = "resources";
+    private static final String TEMPLATES = "templates";
+    private static final char KIND_SEPARATOR = ':';
+    private static final int DEFAULT_PROVIDER_PAGE_SIZE = 100;
+    private static final int STATIC_SEGMENT = 0;
+
+    private final Integer pageSize;
+    private final List<McpResourceProvider> resourceProviders;
+    private final McpJsonMapper mcpJsonMapper;
+
+    private final SnapshotRef<McpSchema.Tool> tools = new SnapshotRef<>(McpSchema.Tool::name);
+    private final SnapshotRef<McpSchema.Prompt> prompts = new SnapshotRef<>(McpSchema.Prompt::name);
+    private final SnapshotRef<McpSchema.Resource> resources = new SnapshotRef<>(McpSchema.Resource::uri);
+    private final SnapshotRef<McpSchema.ResourceTemplate> templates =
+            new SnapshotRef<>(McpSchema.ResourceTemplate::uriTemplate);
+
+    public McpListPaginator(Integer pageSize,
+                            List<McpResourceProvider> resourceProviders,
+                            McpJsonMapper mcpJsonMapper) {
+        this.pageSize = pageSize;
+        this.resourceProviders = List.copyOf(resourceProviders);
+        this.mcpJsonMapper = mcpJsonMapper;
+    }
+
+    /**
+     * Sets the source the snapshots are (re)built from.
+     *
+     * @param source current catalogue of the MCP server
+     */
+    public void setCatalogSource(CatalogSource source) {
+        tools.setSource(source::tools);
+        prompts.setSource(source::prompts);
+        resources.setSource(source::resources);
+        templates.setSource(source::resourceTemplates);
+    }
+
+    /**
+     * Drops the tools snapshot, the next {@code tools/list} request builds a new one.
+     */
+    public void invalidateTools() {
+        tools.invalidate();
+    }
+
+    /**
+     * Drops the prompts snapshot, the next {@code prompts/list} request builds a new one.
+     */
+    public void invalidatePrompts() {
+        prompts.invalidate();
+    }
+
+    /**
+     * Drops the resources snapshot, the next {@code resources/list} request builds a new one.
+     */
+    public void invalidateResources() {
+        resources.invalidate();
+    }
+
+    /**
+     * @return hits and misses of the list snapshots, a miss is a list request that had to rebuild its snapshot
+     */
+    public List<McpServerStats.CacheStats> cacheStats() {
+        return List.of(
+                tools.stats(McpSchema.METHOD_TOOLS_LIST),
+                prompts.stats(McpSchema.METHOD_PROMPT_LIST),
+                resources.stats(McpSchema.METHOD_RESOURCES_LIST),
+                templates.stats(McpSchema.METHOD_RESOURCES_TEMPLATES_LIST)
+        );
+    }
+
+    @Override
+    public McpSchema.JSONRPCResponse intercept(McpTransportContext transportContext,
+                                               McpSchema.JSONRPCRequest request) {
+        if (McpSchema.METHOD_RESOURCES_LIST.equals(request.method())) {
+            return pageSize == null && resourceProviders.isEmpty() ? null : pageResources(request);
+        }
+
+        if (pageSize == null) {
+            return null;
+        }
+
+        return switch (request.method()) {
+            case McpSchema.METHOD_TOOLS_LIST -> page(request, TOOLS, tools.get(), McpSchema.ListToolsResult::new);
+            case McpSchema.METHOD_PROMPT_LIST ->
+                    page(request, PROMPTS, prompts.get(), McpSchema.ListPromptsResult::new);
+            case McpSchema.METHOD_RESOURCES_TEMPLATES_LIST ->
+                    page(request, TEMPLATES, templates.get(), McpSchema.ListResourceTemplatesResult::new);
+            default -> null;
+        };
+    }
+
+    /**
+     * Fills the page from the static resources and then from providers, moving to the next segment
+     * whenever the current one is exhausted.
+     */
+    private McpSchema.JSONRPCResponse pageResources(McpSchema.JSONRPCRequest request) {
+        int segment;
+        String position;
+        try {
+            String afterKey = decodeCursor(RESOURCES, readCursor(request));
+            if (afterKey == null) {
+                segment = STATIC_SEGMENT;
+                position = null;
+            } else {
+                int separatorIdx = afterKey.indexOf(KIND_SEPARATOR);
+                segment = Integer.parseInt(afterKey.substring(0, separatorIdx));
+                position = separatorIdx + 1 == afterKey.length() ? null : afterKey.substring(separatorIdx + 1);
+                if (segment < STATIC_SEGMENT || segment > resourceProviders.size()) {
+                    throw new IllegalArgumentException("Unknown resources segment: " + segment);
+                }
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            return invalidCursor(request);
+        }
+
+        int limit = pageSize == null ? DEFAULT_PROVIDER_PAGE_SIZE : pageSize;
+        List<McpSchema.Resource> items = new ArrayList<>(Math.min(limit, DEFAULT_PROVIDER_PAGE_SIZE));
+        String nextPosition = null;
+
+        CatalogSnapshot<McpSchema.Resource> staticResources = resources.get();
+        while (segment <= resourceProviders.size() && items.size() < limit) {
+            int remaining = limit - items.size();
+            if (segment == STATIC_SEGMENT) {
+                CatalogSnapshot.Page<McpSchema.Resource> page = staticResources.page(position, remaining);
+                items.addAll(page.items());
+                nextPosition = page.lastKey();
+            } else {
+                McpResourceProvider.Page page = resourceProviders.get(segment - 1).list(position, remaining);
+                items.addAll(page.resources());
+                nextPosition = page.nextCursor();
+            }
+
+            if (nextPosition != null) {
+                break;
+            }
+            segment++;
+            position = null;
+        }
+
+        String nextCursor = null;
+        if (segment <= resourceProviders.size()) {
+            String segmentPosition = nextPosition == null ? "" : nextPosition;
+            nextCursor = encodeCursor(RESOURCES, String.valueOf(segment) + KIND_SEPARATOR + segmentPosition);
+        }
+
+        return new McpSchema.JSONRPCResponse(
+                McpSchema.JSONRPC_VERSION,
+                request.id(),
+                new McpSchema.ListResourcesResult(items, nextCursor),
+                null
+        );
+    }
+
+    private <T, R> McpSchema.JSONRPCResponse page(McpSchema.JSONRPCRequest request,
+                                                  String kind,
+                                                  CatalogSnapshot<T> snapshot,
+                                                  BiFunction<List<T>, String, R> resultFactory) {
+        String afterKey;
+        try {
+            afterKey = decodeCursor(kind, readCursor(request));
+        } catch (IllegalArgumentException e) {
+            return invalidCursor(request);
+        }
+
+        CatalogSnapshot.Page<T> page = snapshot.page(afterKey, pageSize);
+        String nextCursor = page.lastKey() == null ? null : encodeCursor(kind, page.lastKey());
+        return new McpSchema.JSONRPCResponse(
+                McpSchema.JSONRPC_VERSION,
+                request.id(),
+                resultFactory.apply(page.items(), nextCursor),
+                null
+        );
+    }
+
+    private McpSchema.JSONRPCResponse invalidCursor(McpSchema.JSONRPCRequest request) {
+        return new McpSchema.JSONRPCResponse(
+                McpSchema.JSONRPC_VERSION,
+                request.id(),
+                null,
+                new McpSchema.JSONRPCResponse.JSONRPCError(
+                        McpSchema.ErrorCodes.INVALID_PARAMS,
+                        "Invalid cursor",
+                        null)
+        );
+    }
+
+    private String readCursor(McpSchema.JSONRPCRequest request) {
+        if (request.params() == null) {
+            return null;
+        }
+        var paginatedRequest = mcpJsonMapper.convertValue(request.params(), McpSchema.PaginatedRequest.class);
+        return paginatedRequest.cursor();
+    }
+
+    static String encodeCursor(String kind, String key) {
+        byte[] raw = (kind + KIND_SEPARATOR + key).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    static String decodeCursor(String kind, String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (raw.length() <= kind.length() || raw.charAt(kind.length()) != KIND_SEPARATOR || !raw.startsWith(kind)) {
+            throw new IllegalArgumentException("Cursor does not belong to " + kind + " list");
+        }
+        return raw.substring(kind.length() + 1);
+    }
+
+    /**
+     * Current catalogue of the MCP server.
+     */
+    public interface CatalogSource {
+
+        List<McpSchema.Tool> tools();
+
+        List<McpSchema.Prompt> prompts();
+
+        List<McpSchema.Resource> resources();
+
+        List<McpSchema.ResourceTemplate> resourceTemplates();
+    }
+
+    /**
+     * Lazily built snapshot. Invalidation bumps the version, so a snapshot that was being built
+     * concurrently with a change is never published as the current one.
+     */
+    private static final class SnapshotRef<T> {
+
+        private final Function<T, String> keyFn;
+        private final AtomicLong version = new AtomicLong();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private volatile Supplier<? extends Collection<T>> source = List::of;
+        private volatile Versioned<T> current;
+
+        private SnapshotRef(Function<T, String> keyFn) {
+            this.keyFn = keyFn;
+        }
+
+        void setSource(Supplier<? extends Collection<T>> source) {
+            this.source = source;
+            invalidate();
+        }
+
+        void invalidate() {
+            version.incrementAndGet();
+        }
+
+        CatalogSnapshot<T> get() {
+            long expectedVersion = version.get();
+            Versioned<T> snapshot = current;
+            if (snapshot != null && snapshot.version() == expectedVersion) {
+                hits.increment();
+                return snapshot.snapshot();
+            }
+
+            misses.increment();
+            var rebuilt = new Versioned<>(CatalogSnapshot.of(source.get(), keyFn), expectedVersion);
+            if (version.get() == expectedVersion) {
+                current = rebuilt;
+            }
+            return rebuilt.snapshot();
+        }
+
+        McpServerStats.CacheStats stats(String name) {
+            return McpServerStats.CacheStats.of(name, hits.sum(), misses.sum());
+        }
+    }
+
+    private record Versioned<T>(CatalogSnapshot<T> snapshot, long version) {
+    }
+}
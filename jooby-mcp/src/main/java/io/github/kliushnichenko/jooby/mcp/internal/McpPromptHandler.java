@@ -1,6 +1,7 @@
 package io.github.kliushnichenko.jooby.mcp.internal;
 
 import io.github.kliushnichenko.jooby.mcp.JoobyMcpServer;
+import io.github.kliushnichenko.jooby.mcp.McpFeatureRegistry;
 import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -9,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 
 import static io.modelcontextprotocol.spec.McpSchema.ErrorCodes.INTERNAL_ERROR;
 import static io.modelcontextprotocol.spec.McpSchema.ErrorCodes.INVALID_PARAMS;
@@ -43,6 +45,22 @@ class McpPromptHandler {
         }
     }
 
+    public static McpSchema.GetPromptResult handle(McpFeatureRegistry.PromptHandler handler,
+                                                   McpSchema.GetPromptRequest request,
+                                                   McpSyncServerExchange exchange) {
+        try {
+            Map<String, Object> arguments = request.arguments() == null ? Map.of() : request.arguments();
+            return toPromptResult(handler.handle(arguments, exchange));
+        } catch (Exception ex) {
+            LOG.error("Error invoking prompt '{}':", request.name(), ex);
+            throw new McpError(new McpSchema.JSONRPCResponse.JSONRPCError(
+                    INTERNAL_ERROR,
+                    ex.getMessage(),
+                    null
+            ));
+        }
+    }
+
     @SuppressWarnings("PMD.NcssCount")
     private static McpSchema.GetPromptResult toPromptResult(Object result) {
         if (result == null) {
@@ -1,6 +1,7 @@
 package io.github.kliushnichenko.jooby.mcp.internal;
 
 import io.github.kliushnichenko.jooby.mcp.JoobyMcpServer;
+import io.github.kliushnichenko.jooby.mcp.McpFeatureRegistry;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -41,6 +42,23 @@ class McpResourceHandler {
         }
     }
 
+    public McpSchema.ReadResourceResult handle(McpFeatureRegistry.ResourceHandler handler,
+                                               McpSchema.ReadResourceRequest request) {
+        var uri = request.uri();
+
+        try {
+            Object result = handler.read(uri);
+            return toResourceResult(result, uri, mcpJsonMapper);
+        } catch (Exception ex) {
+            LOG.error("Error reading resource by URI '{}':", uri, ex);
+            throw new McpError(new McpSchema.JSONRPCResponse.JSONRPCError(
+                    INTERNAL_ERROR,
+                    ex.getMessage(),
+                    null
+            ));
+        }
+    }
+
     static McpSchema.ReadResourceResult toResourceResult(Object result,
                                                          String uri,
                                                          McpJsonMapper mcpJsonMapper) throws IOException {
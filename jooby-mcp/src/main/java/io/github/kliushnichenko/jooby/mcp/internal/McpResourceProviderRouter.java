@@ -0,0 +1,80 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.github.kliushnichenko.jooby.mcp.McpResourceProvider;
+import io.github.kliushnichenko.jooby.mcp.transport.McpRequestInterceptor;
+import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static io.modelcontextprotocol.spec.McpSchema.ErrorCodes.INTERNAL_ERROR;
+
+/**
+ * Routes {@code resources/read} requests to the {@link McpResourceProvider} with the longest matching URI prefix.
+ * Requests for URIs not covered by any provider are left to the MCP session.
+ *
+ * @author kliushnichenko
+ */
+public class McpResourceProviderRouter implements McpRequestInterceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(McpResourceProviderRouter.class);
+
+    private final List<McpResourceProvider> providers;
+    private final McpJsonMapper mcpJsonMapper;
+
+    public McpResourceProviderRouter(List<McpResourceProvider> providers, McpJsonMapper mcpJsonMapper) {
+        this.providers = providers.stream()
+                .sorted(Comparator.comparingInt((McpResourceProvider p) -> p.uriPrefix().length()).reversed())
+                .toList();
+        this.mcpJsonMapper = mcpJsonMapper;
+    }
+
+    @Override
+    public McpSchema.JSONRPCResponse intercept(McpTransportContext transportContext,
+                                               McpSchema.JSONRPCRequest request) {
+        if (!McpSchema.METHOD_RESOURCES_READ.equals(request.method()) || request.params() == null) {
+            return null;
+        }
+
+        var readRequest = mcpJsonMapper.convertValue(request.params(), McpSchema.ReadResourceRequest.class);
+        var uri = readRequest.uri();
+        McpResourceProvider provider = findProvider(uri);
+        if (provider == null) {
+            return null;
+        }
+
+        try {
+            Object result = provider.read(uri);
+            return new McpSchema.JSONRPCResponse(
+                    McpSchema.JSONRPC_VERSION,
+                    request.id(),
+                    McpResourceHandler.toResourceResult(result, uri, mcpJsonMapper),
+                    null
+            );
+        } catch (Exception ex) {
+            LOG.error("Error reading resource by URI '{}':", uri, ex);
+            return new McpSchema.JSONRPCResponse(
+                    McpSchema.JSONRPC_VERSION,
+                    request.id(),
+                    null,
+                    new McpSchema.JSONRPCResponse.JSONRPCError(INTERNAL_ERROR, ex.getMessage(), null)
+            );
+        }
+    }
+
+    private McpResourceProvider findProvider(String uri) {
+        if (uri == null) {
+            return null;
+        }
+        for (McpResourceProvider provider : providers) {
+            if (uri.startsWith(provider.uriPrefix())) {
+                return provider;
+            }
+        }
+        return null;
+    }
+}
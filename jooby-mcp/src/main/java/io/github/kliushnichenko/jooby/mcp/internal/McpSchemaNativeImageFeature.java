@@ -0,0 +1,38 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.graalvm.nativeimage.hosted.Feature;
+import org.graalvm.nativeimage.hosted.RuntimeReflection;
+
+/**
+ * GraalVM native-image feature registering the MCP protocol types for reflection, Jackson binds every
+ * JSON-RPC message to them. The types are read from {@link McpSchema} of the MCP SDK on the class path
+ * while the image is built, so the registration follows SDK upgrades.
+ * <p>
+ * Enabled by {@code META-INF/native-image/io.github.kliushnichenko/jooby-mcp/native-image.properties},
+ * never loaded on a regular JVM.
+ *
+ * @author kliushnichenko
+ */
+public class McpSchemaNativeImageFeature implements Feature {
+
+    @Override
+    public String getDescription() {
+        return "Registers MCP protocol types for reflection";
+    }
+
+    @Override
+    public void beforeAnalysis(BeforeAnalysisAccess access) {
+        register(McpSchema.class);
+    }
+
+    private static void register(Class<?> type) {
+        RuntimeReflection.register(type);
+        RuntimeReflection.register(type.getDeclaredConstructors());
+        RuntimeReflection.register(type.getDeclaredMethods());
+        RuntimeReflection.register(type.getDeclaredFields());
+        for (Class<?> nested : type.getDeclaredClasses()) {
+            register(nested);
+        }
+    }
+}
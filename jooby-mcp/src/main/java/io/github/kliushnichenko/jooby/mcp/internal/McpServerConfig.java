@@ -5,6 +5,8 @@ import io.jooby.exception.StartupException;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 /**
  * @author kliushnichenko
  */
@@ -14,6 +16,13 @@ public class McpServerConfig {
     public static final String DEFAULT_SSE_ENDPOINT = "/mcp/sse";
     public static final String DEFAULT_MESSAGE_ENDPOINT = "/mcp/message";
     public static final String DEFAULT_MCP_ENDPOINT = "/mcp";
+    public static final int DEFAULT_LIST_CHANGED_DEBOUNCE = 100;
+    public static final int DEFAULT_RESOURCE_UPDATE_WINDOW = 100;
+    public static final int DEFAULT_INITIAL_CONCURRENCY_LIMIT = 20;
+    public static final int DEFAULT_MAX_CONCURRENCY_LIMIT = 200;
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+    public static final int DEFAULT_COMPRESSION_MIN_SIZE = 1024;
+    public static final int DEFAULT_WARMUP_ITERATIONS = 100;
 
     private String name;
     private String version;
@@ -24,6 +33,22 @@ public class McpServerConfig {
     private boolean disallowDelete;
     private Integer keepAliveInterval;
     private String instructions;
+    private Integer pageSize;
+    private int listChangedDebounce = DEFAULT_LIST_CHANGED_DEBOUNCE;
+    private boolean dynamicFeatures;
+    private int resourceUpdateWindow = DEFAULT_RESOURCE_UPDATE_WINDOW;
+    private Integer toolTimeout;
+    private boolean adaptiveConcurrency;
+    private int initialConcurrencyLimit = DEFAULT_INITIAL_CONCURRENCY_LIMIT;
+    private int maxConcurrencyLimit = DEFAULT_MAX_CONCURRENCY_LIMIT;
+    private boolean compression;
+    private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    private int compressionMinSize = DEFAULT_COMPRESSION_MIN_SIZE;
+    private int drainTimeout;
+    private int sessionMemoryQuota;
+    private List<String> transportHeaders;
+    private boolean warmup;
+    private int warmupIterations = DEFAULT_WARMUP_ITERATIONS;
 
     public McpServerConfig(String name, String version) {
         this.name = name;
@@ -71,6 +96,76 @@ public class McpServerConfig {
         srvConfig.setInstructions(getStrProp("instructions", null, config));
         srvConfig.setDisallowDelete(getBoolProp("disallowDelete", false, config));
         srvConfig.setKeepAliveInterval(getIntProp("keepAliveInterval", null, config));
+        srvConfig.setPageSize(getIntProp("pageSize", null, config));
+        srvConfig.setListChangedDebounce(getIntProp("listChangedDebounce", DEFAULT_LIST_CHANGED_DEBOUNCE, config));
+        srvConfig.setDynamicFeatures(getBoolProp("dynamicFeatures", false, config));
+        srvConfig.setResourceUpdateWindow(getIntProp("resourceUpdateWindow", DEFAULT_RESOURCE_UPDATE_WINDOW, config));
+        srvConfig.setToolTimeout(getIntProp("toolTimeout", null, config));
+        srvConfig.setAdaptiveConcurrency(getBoolProp("adaptiveConcurrency", false, config));
+        srvConfig.setInitialConcurrencyLimit(
+                getIntProp("initialConcurrencyLimit", DEFAULT_INITIAL_CONCURRENCY_LIMIT, config));
+        srvConfig.setMaxConcurrencyLimit(getIntProp("maxConcurrencyLimit", DEFAULT_MAX_CONCURRENCY_LIMIT, config));
+        srvConfig.setCompression(getBoolProp("compression", false, config));
+        srvConfig.setCompressionLevel(getIntProp("compressionLevel", DEFAULT_COMPRESSION_LEVEL, config));
+        srvConfig.setCompressionMinSize(getIntProp("compressionMinSize", DEFAULT_COMPRESSION_MIN_SIZE, config));
+        srvConfig.setDrainTimeout(getIntProp("drainTimeout", 0, config));
+        srvConfig.setSessionMemoryQuota(getIntProp("sessionMemoryQuota", 0, config));
+        srvConfig.setTransportHeaders(getStrListProp("transportHeaders", config));
+        srvConfig.setWarmup(getBoolProp("warmup", false, config));
+        srvConfig.setWarmupIterations(getIntProp("warmupIterations", DEFAULT_WARMUP_ITERATIONS, config));
+
+        if (srvConfig.getPageSize() != null && srvConfig.getPageSize() < 1) {
+            throw new StartupException("pageSize must be a positive number, got: " + srvConfig.getPageSize());
+        }
+
+        if (srvConfig.getListChangedDebounce() < 0) {
+            throw new StartupException(
+                    "listChangedDebounce must not be negative, got: " + srvConfig.getListChangedDebounce());
+        }
+
+        if (srvConfig.getResourceUpdateWindow() < 0) {
+            throw new StartupException(
+                    "resourceUpdateWindow must not be negative, got: " + srvConfig.getResourceUpdateWindow());
+        }
+
+        if (srvConfig.getToolTimeout() != null && srvConfig.getToolTimeout() < 0) {
+            throw new StartupException("toolTimeout must not be negative, got: " + srvConfig.getToolTimeout());
+        }
+
+        if (srvConfig.getInitialConcurrencyLimit() < 1) {
+            throw new StartupException("initialConcurrencyLimit must be a positive number, got: "
+                                       + srvConfig.getInitialConcurrencyLimit());
+        }
+
+        if (srvConfig.getMaxConcurrencyLimit() < srvConfig.getInitialConcurrencyLimit()) {
+            throw new StartupException(
+                    "maxConcurrencyLimit must not be less than initialConcurrencyLimit, got: "
+                    + srvConfig.getMaxConcurrencyLimit());
+        }
+
+        if (srvConfig.getCompressionLevel() < 1 || srvConfig.getCompressionLevel() > 9) {
+            throw new StartupException(
+                    "compressionLevel must be between 1 and 9, got: " + srvConfig.getCompressionLevel());
+        }
+
+        if (srvConfig.getCompressionMinSize() < 0) {
+            throw new StartupException(
+                    "compressionMinSize must not be negative, got: " + srvConfig.getCompressionMinSize());
+        }
+
+        if (srvConfig.getDrainTimeout() < 0) {
+            throw new StartupException("drainTimeout must not be negative, got: " + srvConfig.getDrainTimeout());
+        }
+
+        if (srvConfig.getSessionMemoryQuota() < 0) {
+            throw new StartupException(
+                    "sessionMemoryQuota must not be negative, got: " + srvConfig.getSessionMemoryQuota());
+        }
+
+        if (srvConfig.getWarmupIterations() < 1) {
+            throw new StartupException(
+                    "warmupIterations must be a positive number, got: " + srvConfig.getWarmupIterations());
+        }
 
         return srvConfig;
     }
@@ -94,6 +189,14 @@ public class McpServerConfig {
         }
     }
 
+    private static List<String> getStrListProp(String propName, Config config) {
+        if (config.hasPath(propName)) {
+            return config.getStringList(propName);
+        } else {
+            return null;
+        }
+    }
+
     private static boolean getBoolProp(String propName, boolean defaultValue, Config config) {
         if (config.hasPath(propName)) {
             return config.getBoolean(propName);
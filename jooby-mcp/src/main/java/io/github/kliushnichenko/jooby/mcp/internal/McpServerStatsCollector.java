@@ -0,0 +1,70 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.github.kliushnichenko.jooby.mcp.McpConcurrencyMetrics;
+import io.github.kliushnichenko.jooby.mcp.McpServerStats;
+import io.github.kliushnichenko.jooby.mcp.transport.McpConcurrencyLimiter;
+import io.github.kliushnichenko.jooby.mcp.transport.McpTransportMetrics;
+
+import java.util.List;
+
+/**
+ * Reads the statistics of a server from the counters kept by its transport, tool handler, list paginator
+ * and concurrency limiter.
+ *
+ * @author kliushnichenko
+ */
+class McpServerStatsCollector implements McpServerStats {
+
+    private final McpServerConfig serverConfig;
+    private final McpTransportMetrics transportMetrics;
+    private final McpToolHandler toolHandler;
+    private final McpListPaginator listPaginator;
+    private final McpConcurrencyLimiter concurrencyLimiter;
+
+    McpServerStatsCollector(McpServerConfig serverConfig,
+                            McpTransportMetrics transportMetrics,
+                            McpToolHandler toolHandler,
+                            McpListPaginator listPaginator,
+                            McpConcurrencyLimiter concurrencyLimiter) {
+        this.serverConfig = serverConfig;
+        this.transportMetrics = transportMetrics;
+        this.toolHandler = toolHandler;
+        this.listPaginator = listPaginator;
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @Override
+    public String serverName() {
+        return serverConfig.getName();
+    }
+
+    @Override
+    public String transport() {
+        return serverConfig.getTransport().getValue();
+    }
+
+    @Override
+    public int activeSessions() {
+        return transportMetrics.activeSessions();
+    }
+
+    @Override
+    public int openStreams() {
+        return transportMetrics.openStreams();
+    }
+
+    @Override
+    public int concurrencyLimit() {
+        return concurrencyLimiter instanceof McpConcurrencyMetrics metrics ? metrics.limit() : 0;
+    }
+
+    @Override
+    public List<ToolStats> tools() {
+        return toolHandler.toolStats();
+    }
+
+    @Override
+    public List<CacheStats> caches() {
+        return listPaginator.cacheStats();
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.modelcontextprotocol.server.McpStatelessServerFeatures;
+import io.modelcontextprotocol.server.McpStatelessSyncServer;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.List;
+
+/**
+ * @author kliushnichenko
+ */
+class McpStatelessFeatureRegistry extends BaseMcpFeatureRegistry {
+
+    private final McpStatelessSyncServer mcpServer;
+
+    McpStatelessFeatureRegistry(McpStatelessSyncServer mcpServer,
+                                McpListPaginator listPaginator,
+                                McpToolHandler toolHandler,
+                                McpResourceHandler resourceHandler) {
+        super(listPaginator, toolHandler, resourceHandler);
+        this.mcpServer = mcpServer;
+    }
+
+    @Override
+    protected void doAddTool(McpSchema.Tool tool, ToolHandler handler) {
+        var syncToolSpec = new McpStatelessServerFeatures.SyncToolSpecification.Builder()
+                .tool(tool)
+                .callHandler((ctx, request) -> toolHandler.handle(request, tool, handler, null))
+                .build();
+        mcpServer.addTool(syncToolSpec);
+    }
+
+    @Override
+    protected void doRemoveTool(String name) {
+        mcpServer.removeTool(name);
+    }
+
+    @Override
+    protected void doAddPrompt(McpSchema.Prompt prompt, PromptHandler handler) {
+        mcpServer.addPrompt(
+                new McpStatelessServerFeatures.SyncPromptSpecification(
+                        prompt,
+                        (ctx, request) -> McpPromptHandler.handle(handler, request, null)
+                )
+        );
+    }
+
+    @Override
+    protected void doRemovePrompt(String name) {
+        mcpServer.removePrompt(name);
+    }
+
+    @Override
+    protected void doAddResource(McpSchema.Resource resource, ResourceHandler handler) {
+        mcpServer.addResource(
+                new McpStatelessServerFeatures.SyncResourceSpecification(
+                        resource,
+                        (ctx, request) -> resourceHandler.handle(handler, request)
+                )
+        );
+    }
+
+    @Override
+    protected void doRemoveResource(String uri) {
+        mcpServer.removeResource(uri);
+    }
+
+    @Override
+    public List<McpSchema.Tool> tools() {
+        return mcpServer.listTools();
+    }
+
+    @Override
+    public List<McpSchema.Prompt> prompts() {
+        return mcpServer.listPrompts();
+    }
+
+    @Override
+    public List<McpSchema.Resource> resources() {
+        return mcpServer.listResources();
+    }
+
+    @Override
+    public List<McpSchema.ResourceTemplate> resourceTemplates() {
+        return mcpServer.listResourceTemplates();
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.kliushnichenko.jooby.mcp.internal;
 
 import io.github.kliushnichenko.jooby.mcp.JoobyMcpServer;
+import io.github.kliushnichenko.jooby.mcp.McpResourceProvider;
 import io.github.kliushnichenko.jooby.mcp.transport.JoobyStatelessServerTransport;
 import io.jooby.Jooby;
 import io.jooby.ServiceKey;
@@ -27,8 +28,9 @@ public class McpStatelessServerRunner extends BaseMcpServerRunner<McpStatelessSy
                                     JoobyMcpServer joobyMcpServer,
                                     McpServerConfig serverConfig,
                                     McpJsonMapper mcpJsonMapper,
-                                    boolean isSingleServer) {
-        super(app, joobyMcpServer, serverConfig, mcpJsonMapper, isSingleServer);
+                                    boolean isSingleServer,
+                                    List<McpResourceProvider> resourceProviders) {
+        super(app, joobyMcpServer, serverConfig, mcpJsonMapper, isSingleServer, resourceProviders);
     }
 
     @Override
@@ -39,12 +41,15 @@ public class McpStatelessServerRunner extends BaseMcpServerRunner<McpStatelessSy
                 app,
                 mcpJsonMapper,
                 serverConfig,
-                CTX_EXTRACTOR);
+                contextExtractor);
+        transportProvider.setRequestInterceptor(requestInterceptor());
+        transportProvider.setConcurrencyLimiter(concurrencyLimiter);
         return McpServer.sync(transportProvider)
                 .serverInfo(serverConfig.getName(), serverConfig.getVersion())
                 .capabilities(computeCapabilities())
                 .completions(completions)
                 .instructions(serverConfig.getInstructions())
+                .jsonSchemaValidator(schemaValidator)
                 .build();
     }
 
@@ -66,7 +71,7 @@ public class McpStatelessServerRunner extends BaseMcpServerRunner<McpStatelessSy
             ToolSpec toolSpec = entry.getValue();
             var syncToolSpec = new McpStatelessServerFeatures.SyncToolSpecification.Builder()
                     .tool(buildTool(toolSpec))
-                    .callHandler((ctx, request) -> toolHandler.handle(request, joobyMcpServer, null))
+                    .callHandler((ctx, request) -> toolHandler.handle(request, joobyMcpServer, toolSpec, null))
                     .build();
 
             mcpServer.addTool(syncToolSpec);
@@ -119,6 +124,11 @@ public class McpStatelessServerRunner extends BaseMcpServerRunner<McpStatelessSy
         }
     }
 
+    @Override
+    protected BaseMcpFeatureRegistry createFeatureRegistry(McpStatelessSyncServer mcpServer) {
+        return new McpStatelessFeatureRegistry(mcpServer, listPaginator, toolHandler, resourceHandler);
+    }
+
     @Override
     protected void close(McpStatelessSyncServer mcpServer) {
         mcpServer.close();
@@ -132,11 +142,21 @@ public class McpStatelessServerRunner extends BaseMcpServerRunner<McpStatelessSy
                             name: {}
                             version: {}
                             transport: {}
+                            pageSize: {}
+                            toolTimeout: {}
+                            adaptiveConcurrency: {}
+                            compression: {}
+                            warmup: {}
                             capabilities: {}
                         """,
                 mcpServer.getServerInfo().name(),
                 mcpServer.getServerInfo().version(),
                 serverConfig.getTransport().getValue(),
+                serverConfig.getPageSize() == null ? "N/A" : serverConfig.getPageSize(),
+                serverConfig.getToolTimeout() == null ? "N/A" : serverConfig.getToolTimeout() + " ms",
+                serverConfig.isAdaptiveConcurrency(),
+                serverConfig.isCompression(),
+                serverConfig.isWarmup() ? serverConfig.getWarmupIterations() + " iterations" : "N/A",
                 mcpServer.getServerCapabilities());
     }
 }
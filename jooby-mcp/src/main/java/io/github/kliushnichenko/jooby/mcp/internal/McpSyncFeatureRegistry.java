@@ -0,0 +1,87 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.List;
+
+/**
+ * @author kliushnichenko
+ */
+class McpSyncFeatureRegistry extends BaseMcpFeatureRegistry {
+
+    private final McpSyncServer mcpServer;
+
+    McpSyncFeatureRegistry(McpSyncServer mcpServer,
+                           McpListPaginator listPaginator,
+                           McpToolHandler toolHandler,
+                           McpResourceHandler resourceHandler) {
+        super(listPaginator, toolHandler, resourceHandler);
+        this.mcpServer = mcpServer;
+    }
+
+    @Override
+    protected void doAddTool(McpSchema.Tool tool, ToolHandler handler) {
+        var syncToolSpec = new McpServerFeatures.SyncToolSpecification.Builder()
+                .tool(tool)
+                .callHandler((exchange, request) -> toolHandler.handle(request, tool, handler, exchange))
+                .build();
+        mcpServer.addTool(syncToolSpec);
+    }
+
+    @Override
+    protected void doRemoveTool(String name) {
+        mcpServer.removeTool(name);
+    }
+
+    @Override
+    protected void doAddPrompt(McpSchema.Prompt prompt, PromptHandler handler) {
+        mcpServer.addPrompt(
+                new McpServerFeatures.SyncPromptSpecification(
+                        prompt,
+                        (exchange, request) -> McpPromptHandler.handle(handler, request, exchange)
+                )
+        );
+    }
+
+    @Override
+    protected void doRemovePrompt(String name) {
+        mcpServer.removePrompt(name);
+    }
+
+    @Override
+    protected void doAddResource(McpSchema.Resource resource, ResourceHandler handler) {
+        mcpServer.addResource(
+                new McpServerFeatures.SyncResourceSpecification(
+                        resource,
+                        (exchange, request) -> resourceHandler.handle(handler, request)
+                )
+        );
+    }
+
+    @Override
+    protected void doRemoveResource(String uri) {
+        mcpServer.removeResource(uri);
+    }
+
+    @Override
+    public List<McpSchema.Tool> tools() {
+        return mcpServer.listTools();
+    }
+
+    @Override
+    public List<McpSchema.Prompt> prompts() {
+        return mcpServer.listPrompts();
+    }
+
+    @Override
+    public List<McpSchema.Resource> resources() {
+        return mcpServer.listResources();
+    }
+
+    @Override
+    public List<McpSchema.ResourceTemplate> resourceTemplates() {
+        return mcpServer.listResourceTemplates();
+    }
+}
@@ -1,8 +1,14 @@
 package io.github.kliushnichenko.jooby.mcp.internal;
 
 import io.github.kliushnichenko.jooby.mcp.JoobyMcpServer;
+import io.github.kliushnichenko.jooby.mcp.McpDrainControl;
+import io.github.kliushnichenko.jooby.mcp.McpSessionMemory;
+import io.github.kliushnichenko.jooby.mcp.McpResourceProvider;
+import io.github.kliushnichenko.jooby.mcp.McpResourceSubscriptions;
 import io.github.kliushnichenko.jooby.mcp.transport.JoobySseTransportProvider;
+import io.github.kliushnichenko.jooby.mcp.transport.JoobyStreamableServerHub;
 import io.github.kliushnichenko.jooby.mcp.transport.JoobyStreamableServerTransportProvider;
+import io.github.kliushnichenko.jooby.mcp.transport.KeepAliveWheel;
 import io.jooby.Jooby;
 import io.jooby.ServiceKey;
 import io.modelcontextprotocol.json.McpJsonMapper;
@@ -24,12 +30,21 @@ public class McpSyncServerRunner extends BaseMcpServerRunner<McpSyncServer> {
 
     private static final Logger LOG = LoggerFactory.getLogger(McpSyncServerRunner.class);
 
+    private final JoobyStreamableServerHub hub;
+    private final KeepAliveWheel keepAliveWheel;
+    private CoalescingResourceSubscriptions resourceSubscriptions;
+
     public McpSyncServerRunner(Jooby app,
                                JoobyMcpServer joobyMcpServer,
                                McpServerConfig serverConfig,
                                McpJsonMapper mcpJsonMapper,
-                               boolean isSingleServer) {
-        super(app, joobyMcpServer, serverConfig, mcpJsonMapper, isSingleServer);
+                               boolean isSingleServer,
+                               List<McpResourceProvider> resourceProviders,
+                               JoobyStreamableServerHub hub,
+                               KeepAliveWheel keepAliveWheel) {
+        super(app, joobyMcpServer, serverConfig, mcpJsonMapper, isSingleServer, resourceProviders);
+        this.hub = hub;
+        this.keepAliveWheel = keepAliveWheel;
     }
 
     @Override
@@ -38,25 +53,42 @@ public class McpSyncServerRunner extends BaseMcpServerRunner<McpSyncServer> {
 
         if (McpServerConfig.Transport.SSE == serverConfig.getTransport()) {
             var transportProvider = new JoobySseTransportProvider(app, serverConfig, mcpJsonMapper);
+            transportProvider.setRequestInterceptor(requestInterceptor());
+            transportProvider.setConcurrencyLimiter(concurrencyLimiter);
+            transportMetrics = transportProvider;
+            checkpointAware = transportProvider;
             return McpServer.sync(transportProvider)
                     .serverInfo(serverConfig.getName(), serverConfig.getVersion())
                     .capabilities(computeCapabilities())
                     .completions(completions)
                     .instructions(serverConfig.getInstructions())
+                    .jsonSchemaValidator(schemaValidator)
                     .build();
         } else if (McpServerConfig.Transport.STREAMABLE_HTTP == serverConfig.getTransport()) {
-            var transportProvider = new JoobyStreamableServerTransportProvider(
-                    app,
-                    mcpJsonMapper,
-                    serverConfig,
-                    CTX_EXTRACTOR
-            );
+            var transportProvider = hub == null
+                    ? new JoobyStreamableServerTransportProvider(app, mcpJsonMapper, serverConfig, contextExtractor)
+                    : new JoobyStreamableServerTransportProvider(
+                            hub,
+                            joobyMcpServer.getServerKey(),
+                            mcpJsonMapper,
+                            serverConfig,
+                            contextExtractor);
+            transportProvider.setRequestInterceptor(requestInterceptor());
+            transportProvider.setConcurrencyLimiter(concurrencyLimiter);
+            transportProvider.setKeepAliveWheel(keepAliveWheel);
+            transportMetrics = transportProvider;
+            checkpointAware = transportProvider;
+            addToJoobyRegistry(McpDrainControl.class, transportProvider);
+            app.getServices().listOf(McpDrainControl.class).add(transportProvider);
+            addToJoobyRegistry(McpSessionMemory.class, transportProvider.getSessionMemory());
+            app.getServices().listOf(McpSessionMemory.class).add(transportProvider.getSessionMemory());
 
             return McpServer.sync(transportProvider)
                     .serverInfo(serverConfig.getName(), serverConfig.getVersion())
                     .capabilities(computeCapabilities())
                     .completions(completions)
                     .instructions(serverConfig.getInstructions())
+                    .jsonSchemaValidator(schemaValidator)
                     .build();
         } else {
             throw new IllegalStateException("Unsupported transport: " + serverConfig.getTransport());
@@ -82,7 +114,7 @@ public class McpSyncServerRunner extends BaseMcpServerRunner<McpSyncServer> {
 
             var syncToolSpec = new McpServerFeatures.SyncToolSpecification.Builder()
                     .tool(buildTool(toolSpec))
-                    .callHandler((exchange, request) -> toolHandler.handle(request, joobyMcpServer, exchange))
+                    .callHandler((exchange, request) -> toolHandler.handle(request, joobyMcpServer, toolSpec, exchange))
                     .build();
 
             mcpServer.addTool(syncToolSpec);
@@ -133,11 +165,23 @@ public class McpSyncServerRunner extends BaseMcpServerRunner<McpSyncServer> {
             var serviceKey = ServiceKey.key(McpSyncServer.class, joobyMcpServer.getServerKey());
             registry.put(serviceKey, mcpServer);
         }
+
+        resourceSubscriptions = new CoalescingResourceSubscriptions(
+                mcpServer.getAsyncServer(),
+                serverConfig.getResourceUpdateWindow()
+        );
+        addToJoobyRegistry(McpResourceSubscriptions.class, resourceSubscriptions);
+    }
+
+    @Override
+    protected BaseMcpFeatureRegistry createFeatureRegistry(McpSyncServer mcpServer) {
+        return new McpSyncFeatureRegistry(mcpServer, listPaginator, toolHandler, resourceHandler);
     }
 
     @Override
     protected void close(McpSyncServer mcpServer) {
-        mcpServer.close();
+        resourceSubscriptions.dispose();
+        mcpServer.closeGracefully();
     }
 
     @Override
@@ -150,6 +194,13 @@ public class McpSyncServerRunner extends BaseMcpServerRunner<McpSyncServer> {
                             transport: {}
                             keepAliveInterval: {}
                             disallowDelete: {}
+                            pageSize: {}
+                            toolTimeout: {}
+                            adaptiveConcurrency: {}
+                            compression: {}
+                            drainTimeout: {}
+                            sessionMemoryQuota: {}
+                            warmup: {}
                             capabilities: {}
                         """,
                 mcpServer.getServerInfo().name(),
@@ -157,6 +208,13 @@ public class McpSyncServerRunner extends BaseMcpServerRunner<McpSyncServer> {
                 serverConfig.getTransport().getValue(),
                 serverConfig.getKeepAliveInterval() == null ? "N/A" : serverConfig.getKeepAliveInterval() + " s",
                 serverConfig.isDisallowDelete(),
+                serverConfig.getPageSize() == null ? "N/A" : serverConfig.getPageSize(),
+                serverConfig.getToolTimeout() == null ? "N/A" : serverConfig.getToolTimeout() + " ms",
+                serverConfig.isAdaptiveConcurrency(),
+                serverConfig.isCompression(),
+                serverConfig.getDrainTimeout() + " ms",
+                serverConfig.getSessionMemoryQuota() == 0 ? "N/A" : serverConfig.getSessionMemoryQuota() + " bytes",
+                serverConfig.isWarmup() ? serverConfig.getWarmupIterations() + " iterations" : "N/A",
                 mcpServer.getServerCapabilities());
     }
 }
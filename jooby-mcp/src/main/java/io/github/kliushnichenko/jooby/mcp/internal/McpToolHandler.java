@@ -1,18 +1,32 @@
 package io.github.kliushnichenko.jooby.mcp.internal;
 
+import io.github.kliushnichenko.jooby.mcp.CancellationToken;
 import io.github.kliushnichenko.jooby.mcp.JoobyMcpServer;
+import io.github.kliushnichenko.jooby.mcp.McpFeatureRegistry;
+import io.github.kliushnichenko.jooby.mcp.McpServerStats;
+import io.github.kliushnichenko.jooby.mcp.RawJson;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.server.McpSyncServerExchange;
-import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-
-import static io.modelcontextprotocol.spec.McpSchema.ErrorCodes.INVALID_PARAMS;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 /**
  * @author kliushnichenko
@@ -20,40 +34,237 @@ import static io.modelcontextprotocol.spec.McpSchema.ErrorCodes.INVALID_PARAMS;
 public class McpToolHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(McpToolHandler.class);
+    private static final String TIMEOUT_META_KEY = "timeoutMillis";
 
     private final McpJsonMapper mcpJsonMapper;
+    private final long defaultTimeout;
+    private final SingleFlight<FlightKey, McpSchema.CallToolResult> flights = new SingleFlight<>();
+    private final ToolCallStats stats = new ToolCallStats();
 
-    public McpToolHandler(McpJsonMapper mcpJsonMapper) {
+    public McpToolHandler(McpJsonMapper mcpJsonMapper, Integer defaultTimeout) {
         this.mcpJsonMapper = mcpJsonMapper;
+        this.defaultTimeout = defaultTimeout != null ? defaultTimeout : 0;
+    }
+
+    /**
+     * @return statistics of the tools called so far
+     */
+    public List<McpServerStats.ToolStats> toolStats() {
+        return stats.snapshot();
     }
 
+    /**
+     * Handles a call of an annotated tool, resolved by the caller when the tool was registered.
+     */
     public McpSchema.CallToolResult handle(McpSchema.CallToolRequest request,
                                            JoobyMcpServer server,
+                                           ToolSpec toolSpec,
                                            McpSyncServerExchange exchange) {
-        String toolName = request.name();
-        ToolSpec toolSpec = server.getTools().get(toolName);
-        if (toolSpec == null) {
-            throwUnknownToolErr(toolName);
+        ToolCallStats.Recording recording = stats.start(toolSpec.getName());
+        McpSchema.CallToolResult result = null;
+        try {
+            result = invoke(request, server, toolSpec, exchange, recording);
+            return result;
+        } finally {
+            recording.finish(result);
         }
+    }
+
+    public McpSchema.CallToolResult handle(McpSchema.CallToolRequest request,
+                                           McpSchema.Tool tool,
+                                           McpFeatureRegistry.ToolHandler handler,
+                                           McpSyncServerExchange exchange) {
+        ToolCallStats.Recording recording = stats.start(tool.name());
+        McpSchema.CallToolResult result = null;
         try {
-            verifyRequiredArguments(request.arguments(), toolSpec.getRequiredArguments());
+            result = invoke(request, tool, handler, exchange, recording);
+            return result;
+        } finally {
+            recording.finish(result);
+        }
+    }
+
+    private McpSchema.CallToolResult invoke(McpSchema.CallToolRequest request,
+                                            JoobyMcpServer server,
+                                            ToolSpec toolSpec,
+                                            McpSyncServerExchange exchange,
+                                            ToolCallStats.Recording recording) {
+        String toolName = toolSpec.getName();
+        long timeout = toolSpec.getTimeout() != null ? toolSpec.getTimeout() : defaultTimeout;
+        McpCancellationToken cancellation = cancellationToken(exchange);
+        Disposable deadline = startDeadline(cancellation, timeout);
+        try (var ignored = new CancellationScope(cancellation)) {
+            verifyArguments(request.arguments(), toolSpec);
+
+            Map<String, Object> args = request.arguments() == null
+                    ? new HashMap<>()
+                    : new HashMap<>(request.arguments());
+            args.put(CancellationToken.CTX_KEY, cancellation);
 
-            Object result = server.invokeTool(toolName, request.arguments(), exchange);
-            return toCallToolResult(toolSpec, result);
+            SingleFlight.Call<McpSchema.CallToolResult> call = () -> {
+                recording.executing();
+                Object result = await(server.invokeTool(toolSpec.getId(), args, exchange), cancellation);
+                return toCallToolResult(toolSpec.getOutputSchema() != null, result, request, exchange, cancellation);
+            };
+            if (isCoalesced(toolSpec, request)) {
+                recording.waiting();
+                return flights.execute(flightKey(toolName, request.arguments()), call, cancellation);
+            }
+            return call.call();
+        } catch (Exception ex) {
+            return errorResult(toolName, ex, cancellation, timeout);
+        } finally {
+            deadline.dispose();
+        }
+    }
+
+    private McpSchema.CallToolResult invoke(McpSchema.CallToolRequest request,
+                                            McpSchema.Tool tool,
+                                            McpFeatureRegistry.ToolHandler handler,
+                                            McpSyncServerExchange exchange,
+                                            ToolCallStats.Recording recording) {
+        McpCancellationToken cancellation = cancellationToken(exchange);
+        Disposable deadline = startDeadline(cancellation, defaultTimeout);
+        try (var ignored = new CancellationScope(cancellation)) {
+            Map<String, Object> arguments = request.arguments() == null ? Map.of() : request.arguments();
+            verifyRequiredArguments(arguments, requiredArguments(tool));
+
+            recording.executing();
+            Object result = await(handler.handle(arguments, exchange), cancellation);
+            return toCallToolResult(tool.outputSchema() != null, result, request, exchange, cancellation);
         } catch (Exception ex) {
-            LOG.error("Error invoking tool '{}':", toolName, ex);
-            return buildTextResult(ex.getMessage(), true);
+            return errorResult(tool.name(), ex, cancellation, defaultTimeout);
+        } finally {
+            deadline.dispose();
         }
     }
 
-    private McpSchema.CallToolResult toCallToolResult(ToolSpec spec, Object result) throws IOException {
-        var hasOutputSchema = spec.getOutputSchema() != null;
+    /**
+     * Identical concurrent calls of a tool that opted in share one execution. The key holds no caller identity,
+     * which is why only tools without access to the exchange can opt in. Calls reporting progress are not
+     * coalesced, as the notifications of the shared execution would only reach one of the callers.
+     */
+    private static boolean isCoalesced(ToolSpec toolSpec, McpSchema.CallToolRequest request) {
+        return toolSpec.isCoalesce() && request.progressToken() == null;
+    }
+
+    private FlightKey flightKey(String toolName, Map<String, Object> arguments) throws IOException {
+        String canonicalArgs = arguments == null ? "{}" : mcpJsonMapper.writeValueAsString(canonical(arguments));
+        return new FlightKey(toolName, canonicalArgs);
+    }
+
+    /**
+     * Orders object keys, so arguments that differ only in key order produce the same key.
+     */
+    private static Object canonical(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            map.forEach((key, nested) -> sorted.put(String.valueOf(key), canonical(nested)));
+            return sorted;
+        } else if (value instanceof List<?> list) {
+            return list.stream().map(McpToolHandler::canonical).toList();
+        }
+        return value;
+    }
+
+    private McpSchema.CallToolResult errorResult(String toolName,
+                                                 Exception ex,
+                                                 McpCancellationToken cancellation,
+                                                 long timeout) {
+        if (cancellation.isTimedOut()) {
+            LOG.warn("Tool '{}' timed out after {} ms", toolName, timeout);
+            return McpSchema.CallToolResult.builder()
+                    .addTextContent("Tool '" + toolName + "' timed out after " + timeout + " ms")
+                    .isError(true)
+                    .meta(Map.of(TIMEOUT_META_KEY, timeout))
+                    .build();
+        }
+        if (cancellation.isCancelled()) {
+            LOG.debug("Tool '{}' has been cancelled: {}", toolName, cancellation.reason());
+            return buildTextResult(cancellation.reason(), true);
+        }
+        LOG.error("Error invoking tool '{}':", toolName, ex);
+        return buildTextResult(ex.getMessage(), true);
+    }
+
+    /**
+     * Waits for asynchronous results ({@link Mono}, {@link CompletionStage}, {@link Future}),
+     * cancelling them when the request is cancelled.
+     */
+    private static Object await(Object result, CancellationToken cancellation) throws Exception {
+        Future<?> future;
+        if (result instanceof Mono<?> mono) {
+            future = mono.toFuture();
+        } else if (result instanceof CompletionStage<?> stage) {
+            future = stage.toCompletableFuture();
+        } else if (result instanceof Future<?> f) {
+            future = f;
+        } else {
+            return result;
+        }
+
+        cancellation.onCancel(() -> future.cancel(true));
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static McpCancellationToken cancellationToken(McpSyncServerExchange exchange) {
+        return McpCancellationToken.from(exchange != null ? exchange.transportContext() : null);
+    }
+
+    private static Disposable startDeadline(McpCancellationToken cancellation, long timeout) {
+        return timeout > 0 ? cancellation.expireAfter(timeout) : Disposables.disposed();
+    }
+
+    /**
+     * Converts a result the same way as for a call without exchange, used to warm up the conversion.
+     */
+    McpSchema.CallToolResult toCallToolResult(boolean hasOutputSchema,
+                                              Object result,
+                                              McpSchema.CallToolRequest request) throws IOException {
+        return toCallToolResult(hasOutputSchema, result, request, null, new McpCancellationToken());
+    }
+
+    private McpSchema.CallToolResult toCallToolResult(boolean hasOutputSchema,
+                                                      Object result,
+                                                      McpSchema.CallToolRequest request,
+                                                      McpSyncServerExchange exchange,
+                                                      CancellationToken cancellation) throws IOException {
         if (result == null) {
             return buildTextResult("null", false);
+        } else if (result instanceof Stream<?> stream) {
+            try (stream) {
+                return streamChunks(stream.iterator(), request, exchange, cancellation);
+            }
+        } else if (result instanceof Iterator<?> iterator) {
+            try {
+                return streamChunks(iterator, request, exchange, cancellation);
+            } finally {
+                closeIfCloseable(iterator);
+            }
+        } else if (result instanceof Publisher<?> publisher) {
+            // closing the stream cancels the subscription, when the chunks are not drained to the end
+            try (Stream<?> stream = Flux.from(publisher).toStream()) {
+                return streamChunks(stream.iterator(), request, exchange, cancellation);
+            }
         } else if (result instanceof McpSchema.CallToolResult callToolResult) {
             return callToolResult;
         } else if (result instanceof String str) {
             return buildTextResult(str, false);
+        } else if (result instanceof RawJson rawJson) {
+            if (hasOutputSchema) {
+                return McpSchema.CallToolResult.builder()
+                        .structuredContent(new RawJsonValue(rawJson))
+                        .isError(false)
+                        .build();
+            }
+            return buildTextResult(rawJson.asString(), false);
         } else if (result instanceof McpSchema.Content content) {
             return McpSchema.CallToolResult.builder().content(List.of(content)).isError(false).build();
         } else {
@@ -69,6 +280,79 @@ public class McpToolHandler {
         }
     }
 
+    private static void closeIfCloseable(Iterator<?> iterator) {
+        if (iterator instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                LOG.warn("Failed to close the result iterator: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drains chunks of a streaming result. Each chunk is pushed to the client as a {@code notifications/progress}
+     * (over the SSE stream of the {@code tools/call} request) as soon as it is produced, provided the client
+     * supplied a {@code progressToken}. All chunks are then returned as the content of the final result.
+     */
+    private McpSchema.CallToolResult streamChunks(Iterator<?> chunks,
+                                                  McpSchema.CallToolRequest request,
+                                                  McpSyncServerExchange exchange,
+                                                  CancellationToken cancellation) throws IOException {
+        Object progressToken = exchange != null ? request.progressToken() : null;
+        List<McpSchema.Content> content = new ArrayList<>();
+
+        while (chunks.hasNext()) {
+            cancellation.throwIfCancelled();
+            McpSchema.Content chunk = toContent(chunks.next());
+            content.add(chunk);
+
+            if (progressToken != null) {
+                exchange.progressNotification(new McpSchema.ProgressNotification(
+                        progressToken,
+                        content.size(),
+                        null,
+                        chunkMessage(chunk)
+                ));
+            }
+        }
+
+        return McpSchema.CallToolResult.builder().content(content).isError(false).build();
+    }
+
+    private McpSchema.Content toContent(Object chunk) throws IOException {
+        if (chunk instanceof McpSchema.Content content) {
+            return content;
+        } else if (chunk instanceof String str) {
+            return new McpSchema.TextContent(str);
+        } else if (chunk instanceof RawJson rawJson) {
+            return new McpSchema.TextContent(rawJson.asString());
+        } else {
+            return new McpSchema.TextContent(mcpJsonMapper.writeValueAsString(chunk));
+        }
+    }
+
+    private String chunkMessage(McpSchema.Content chunk) throws IOException {
+        if (chunk instanceof McpSchema.TextContent textContent) {
+            return textContent.text();
+        }
+        return mcpJsonMapper.writeValueAsString(chunk);
+    }
+
+    private void verifyArguments(Map<String, Object> actualArguments, ToolSpec toolSpec) {
+        Map<String, Object> arguments = actualArguments == null ? Map.of() : actualArguments;
+        ToolArgumentsValidator validator = toolSpec.getArgumentsValidator();
+        if (validator == null) {
+            verifyRequiredArguments(arguments, toolSpec.getRequiredArguments());
+            return;
+        }
+
+        List<String> violations = validator.validate(arguments);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", violations));
+        }
+    }
+
     private void verifyRequiredArguments(Map<String, Object> actualArguments, List<String> requiredArguments) {
         for (String requiredArg : requiredArguments) {
             var argument = actualArguments.get(requiredArg);
@@ -82,6 +366,13 @@ public class McpToolHandler {
         }
     }
 
+    private static List<String> requiredArguments(McpSchema.Tool tool) {
+        if (tool.inputSchema() == null || tool.inputSchema().required() == null) {
+            return List.of();
+        }
+        return tool.inputSchema().required();
+    }
+
     private McpSchema.CallToolResult buildTextResult(String text, boolean isError) {
         return McpSchema.CallToolResult.builder()
                 .addTextContent(text)
@@ -89,11 +380,38 @@ public class McpToolHandler {
                 .build();
     }
 
-    private static void throwUnknownToolErr(String toolName) {
-        throw new McpError(new McpSchema.JSONRPCResponse.JSONRPCError(
-                INVALID_PARAMS,
-                "Unknown tool '" + toolName + "'. Please verify such a tool is registered.",
-                null
-        ));
+    private record FlightKey(String toolName, String arguments) {
+    }
+
+    /**
+     * Interrupts the invoking thread when the request is cancelled while the tool is running.
+     */
+    private static final class CancellationScope implements AutoCloseable {
+
+        private final Thread thread = Thread.currentThread();
+        private final CancellationToken cancellation;
+        private boolean active = true;
+
+        CancellationScope(CancellationToken cancellation) {
+            this.cancellation = cancellation;
+            cancellation.onCancel(this::interrupt);
+        }
+
+        private synchronized void interrupt() {
+            if (active) {
+                thread.interrupt();
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                active = false;
+            }
+            if (cancellation.isCancelled()) {
+                // clear the flag, the thread goes back to the pool
+                Thread.interrupted();
+            }
+        }
     }
 }
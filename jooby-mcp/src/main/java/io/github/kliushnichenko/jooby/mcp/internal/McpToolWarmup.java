@@ -0,0 +1,281 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.json.jackson2.JacksonMcpJsonMapper;
+import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the per-call work of every tool that does not involve the tool itself, so the first calls after
+ * startup do not pay for it: decoding of a {@code tools/call} request with sample arguments, argument
+ * validation, binding of the arguments to the parameter types of the tool, output schema validation and encoding
+ * of the response.
+ * <p>
+ * Sample values are derived from the input and output schemas. They are not guaranteed to pass validation,
+ * a rejected sample exercises the same code. When the result class of a tool is known, the sample is bound to it
+ * and written with a writer for that class, as the real result would be. Arguments are bound by the generated binder
+ * of the tool, with the conversions of its invoker, yet tools are never invoked, as they may have side effects.
+ * A tool whose warmup fails is skipped from then on.
+ *
+ * @author kliushnichenko
+ */
+public final class McpToolWarmup {
+
+    private static final Logger LOG = LoggerFactory.getLogger(McpToolWarmup.class);
+    private static final TypeRef<Map<String, Object>> SCHEMA_TYPE = new TypeRef<>() {
+    };
+    private static final int MAX_DEPTH = 8;
+    private static final String SAMPLE_TEXT = "sample";
+
+    private final McpJsonMapper mcpJsonMapper;
+    private final JsonSchemaValidator schemaValidator;
+    private final McpToolHandler toolHandler;
+
+    public McpToolWarmup(McpJsonMapper mcpJsonMapper,
+                         JsonSchemaValidator schemaValidator,
+                         McpToolHandler toolHandler) {
+        this.mcpJsonMapper = mcpJsonMapper;
+        this.schemaValidator = schemaValidator;
+        this.toolHandler = toolHandler;
+    }
+
+    /**
+     * @param tools      tools to warm up
+     * @param iterations number of times every tool is walked through
+     * @return names of the tools warmed up and of the ones skipped
+     */
+    public Summary run(Collection<ToolSpec> tools, int iterations) {
+        List<WarmupCall> calls = new ArrayList<>(tools.size());
+        List<String> skipped = new ArrayList<>();
+        for (ToolSpec toolSpec : tools) {
+            try {
+                calls.add(prepare(toolSpec));
+            } catch (IOException | RuntimeException e) {
+                LOG.info("Skipping warmup of tool '{}': {}", toolSpec.getName(), e.getMessage());
+                skipped.add(toolSpec.getName());
+            }
+        }
+
+        for (int i = 0; i < iterations && !calls.isEmpty(); i++) {
+            for (Iterator<WarmupCall> it = calls.iterator(); it.hasNext(); ) {
+                WarmupCall call = it.next();
+                try {
+                    call(call, i);
+                } catch (IOException | RuntimeException e) {
+                    LOG.info("Warmup of tool '{}' failed, skipping it: {}", call.toolSpec().getName(), e.getMessage());
+                    skipped.add(call.toolSpec().getName());
+                    it.remove();
+                }
+            }
+        }
+
+        return new Summary(calls.stream().map(call -> call.toolSpec().getName()).toList(), List.copyOf(skipped));
+    }
+
+    private WarmupCall prepare(ToolSpec toolSpec) throws IOException {
+        Map<String, Object> inputSchema = mcpJsonMapper.readValue(toolSpec.getInputSchema(), SCHEMA_TYPE);
+        Object arguments = sample(inputSchema, inputSchema, 0);
+        if (arguments == null) {
+            arguments = Map.of();
+        }
+
+        var request = new McpSchema.JSONRPCRequest(
+                McpSchema.JSONRPC_VERSION,
+                McpSchema.METHOD_TOOLS_CALL,
+                0,
+                Map.of("name", toolSpec.getName(), "arguments", arguments)
+        );
+        String requestJson = mcpJsonMapper.writeValueAsString(request);
+
+        Map<String, Object> outputSchema = null;
+        Object result = SAMPLE_TEXT;
+        if (toolSpec.getOutputSchema() != null) {
+            outputSchema = mcpJsonMapper.readValue(toolSpec.getOutputSchema(), SCHEMA_TYPE);
+            result = sample(outputSchema, outputSchema, 0);
+        }
+
+        ObjectWriter resultWriter = null;
+        Class<?> resultType = toolSpec.getResultType();
+        if (resultType != null && mcpJsonMapper instanceof JacksonMcpJsonMapper jacksonMapper) {
+            // the writer resolves the serializer of the class up front
+            resultWriter = jacksonMapper.getObjectMapper().writerFor(resultType);
+            result = bindSample(result, resultType);
+        }
+        return new WarmupCall(toolSpec, requestJson, outputSchema, result, resultWriter);
+    }
+
+    /**
+     * Binds the sample to the result class, so it is written as the real result would be. Classes Jackson
+     * cannot create, e.g. without a default constructor, keep the plain sample.
+     */
+    private Object bindSample(Object sample, Class<?> resultType) {
+        try {
+            return mcpJsonMapper.convertValue(sample instanceof Map<?, ?> ? sample : Map.of(), resultType);
+        } catch (RuntimeException e) {
+            LOG.debug("Sample result cannot be bound to {}: {}", resultType.getName(), e.getMessage());
+            return sample;
+        }
+    }
+
+    /**
+     * Follows a {@code tools/call} request through the same decoding and encoding steps as a real call.
+     */
+    private void call(WarmupCall call, int id) throws IOException {
+        var message = (McpSchema.JSONRPCRequest) McpSchema.deserializeJsonRpcMessage(
+                mcpJsonMapper, call.requestJson());
+        var request = mcpJsonMapper.convertValue(message.params(), McpSchema.CallToolRequest.class);
+
+        ToolArgumentsValidator argumentsValidator = call.toolSpec().getArgumentsValidator();
+        if (argumentsValidator != null && request.arguments() != null) {
+            argumentsValidator.validate(request.arguments());
+        }
+
+        ToolArgumentsBinder argumentsBinder = call.toolSpec().getArgumentsBinder();
+        if (argumentsBinder != null) {
+            bind(argumentsBinder, request.arguments() != null ? request.arguments() : Map.of());
+        }
+
+        if (call.resultWriter() != null && call.toolSpec().getResultType().isInstance(call.result())) {
+            call.resultWriter().writeValueAsBytes(call.result());
+        }
+
+        McpSchema.CallToolResult result = toolHandler.toCallToolResult(
+                call.outputSchema() != null, call.result(), request);
+        if (call.outputSchema() != null) {
+            schemaValidator.validate(call.outputSchema(), result.structuredContent());
+        }
+
+        var response = new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, id, result, null);
+        mcpJsonMapper.writeValueAsString(response);
+    }
+
+    /**
+     * A sample the tool would reject, e.g. a {@code null} for a primitive parameter, still exercises the conversions
+     * of the parameters bound before it.
+     */
+    private static void bind(ToolArgumentsBinder argumentsBinder, Map<String, Object> arguments) {
+        try {
+            argumentsBinder.bind(arguments);
+        } catch (RuntimeException e) {
+            LOG.trace("Sample arguments were not bound: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Builds a value matching the schema closely enough to walk the same code paths as a real one.
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static Object sample(Map<String, Object> schema, Map<String, Object> root, int depth) {
+        if (schema == null || depth > MAX_DEPTH) {
+            return null;
+        }
+        if (schema.get("$ref") instanceof String ref) {
+            return sample(resolve(ref, root), root, depth + 1);
+        }
+        if (schema.get("enum") instanceof List<?> values && !values.isEmpty()) {
+            return values.getFirst();
+        }
+
+        Object type = schema.get("type");
+        if (type instanceof List<?> types) {
+            type = types.stream().filter(t -> !"null".equals(t)).findFirst().orElse(null);
+        }
+        if (type == null) {
+            type = schema.containsKey("properties") ? "object" : "string";
+        }
+
+        return switch (String.valueOf(type)) {
+            case "object" -> sampleObject(schema, root, depth);
+            case "array" -> sampleArray(schema, root, depth);
+            case "integer" -> (long) Math.ceil(lowerBound(schema));
+            case "number" -> lowerBound(schema);
+            case "boolean" -> Boolean.TRUE;
+            case "null" -> null;
+            default -> sampleString(schema);
+        };
+    }
+
+    private static Map<String, Object> sampleObject(Map<String, Object> schema, Map<String, Object> root, int depth) {
+        Map<String, Object> object = new LinkedHashMap<>();
+        if (schema.get("properties") instanceof Map<?, ?> properties) {
+            properties.forEach((name, property) ->
+                    object.put(String.valueOf(name), sample(asSchema(property), root, depth + 1)));
+        }
+        return object;
+    }
+
+    private static List<Object> sampleArray(Map<String, Object> schema, Map<String, Object> root, int depth) {
+        int size = schema.get("minItems") instanceof Number minItems ? Math.max(1, minItems.intValue()) : 1;
+        Object item = sample(asSchema(schema.get("items")), root, depth + 1);
+        List<Object> array = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            array.add(item);
+        }
+        return array;
+    }
+
+    private static String sampleString(Map<String, Object> schema) {
+        int minLength = schema.get("minLength") instanceof Number length ? length.intValue() : 0;
+        return minLength > SAMPLE_TEXT.length() ? "s".repeat(minLength) : SAMPLE_TEXT;
+    }
+
+    private static double lowerBound(Map<String, Object> schema) {
+        if (schema.get("minimum") instanceof Number minimum) {
+            return minimum.doubleValue();
+        }
+        if (schema.get("exclusiveMinimum") instanceof Number minimum) {
+            return minimum.doubleValue() + 1;
+        }
+        return 1;
+    }
+
+    /**
+     * Resolves local references, e.g. {@code #/$defs/Pet}.
+     */
+    private static Map<String, Object> resolve(String ref, Map<String, Object> root) {
+        if (!ref.startsWith("#/")) {
+            return null;
+        }
+        Object node = root;
+        for (String segment : ref.substring(2).split("/")) {
+            if (!(node instanceof Map<?, ?> map)) {
+                return null;
+            }
+            node = map.get(segment.replace("~1", "/").replace("~0", "~"));
+        }
+        return asSchema(node);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asSchema(Object node) {
+        return node instanceof Map<?, ?> ? (Map<String, Object>) node : null;
+    }
+
+    /**
+     * Outcome of a warmup run.
+     *
+     * @param warmedTools  tools walked through every iteration
+     * @param skippedTools tools whose warmup could not be prepared or failed
+     */
+    public record Summary(List<String> warmedTools, List<String> skippedTools) {
+    }
+
+    private record WarmupCall(ToolSpec toolSpec,
+                              String requestJson,
+                              Map<String, Object> outputSchema,
+                              Object result,
+                              ObjectWriter resultWriter) {
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Detects optional dependencies, so the classes relying on them are only loaded when they are present.
+ *
+ * @author kliushnichenko
+ */
+@UtilityClass
+class OptionalDependencies {
+
+    /**
+     * @param className fully qualified name of a class of the dependency
+     * @return true if the class can be loaded, it is not initialized
+     */
+    static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, OptionalDependencies.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
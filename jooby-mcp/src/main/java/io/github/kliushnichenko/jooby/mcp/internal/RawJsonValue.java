@@ -0,0 +1,157 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.kliushnichenko.jooby.mcp.RawJson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Jackson view of a {@link RawJson} tool result, used as {@code structuredContent}.
+ * <p>
+ * On the wire the JSON is copied verbatim, UTF-8 bytes go straight into byte based generators.
+ * Only when a tree is built from the result, as for the output schema validation, the JSON is parsed.
+ *
+ * @author kliushnichenko
+ */
+final class RawJsonValue implements JsonSerializable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final RawJson json;
+
+    RawJsonValue(RawJson json) {
+        this.json = json;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (gen instanceof TokenBuffer) {
+            try (JsonParser parser = JSON_FACTORY.createParser(json.asBytes())) {
+                parser.nextToken();
+                gen.copyCurrentStructure(parser);
+            }
+        } else if (json.isBinary()) {
+            gen.writeRawValue(new Utf8Raw(json.asBytes()));
+        } else {
+            gen.writeRawValue(json.asString());
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen,
+                                  SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return json.asString();
+    }
+
+    /**
+     * Raw UTF-8 bytes, written as they are by {@code writeRaw}. The char and quoted forms, not needed on the
+     * byte based generators, are served by a {@link SerializedString} decoded on first use.
+     */
+    private static final class Utf8Raw implements SerializableString {
+
+        private final byte[] utf8;
+        private SerializedString decoded;
+
+        Utf8Raw(byte[] utf8) {
+            this.utf8 = utf8;
+        }
+
+        private SerializedString decoded() {
+            if (decoded == null) {
+                decoded = new SerializedString(new String(utf8, StandardCharsets.UTF_8));
+            }
+            return decoded;
+        }
+
+        @Override
+        public String getValue() {
+            return decoded().getValue();
+        }
+
+        @Override
+        public int charLength() {
+            return decoded().charLength();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return utf8;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + utf8.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+            return utf8.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            return decoded().appendUnquoted(buffer, offset);
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (utf8.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return decoded().asQuotedChars();
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return decoded().asQuotedUTF8();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return decoded().appendQuotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return decoded().appendQuoted(buffer, offset);
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return decoded().writeQuotedUTF8(out);
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            return decoded().putQuotedUTF8(buffer);
+        }
+    }
+}
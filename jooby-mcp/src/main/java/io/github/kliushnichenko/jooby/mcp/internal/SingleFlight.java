@@ -0,0 +1,76 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.github.kliushnichenko.jooby.mcp.CancellationToken;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent calls with the same key into one execution, callers arriving while a call is
+ * in flight wait for its outcome instead of running it again. Nothing is cached, a call arriving after
+ * the execution completed runs again.
+ * <p>
+ * Every caller keeps its own cancellation: a waiting caller that gets cancelled stops waiting without
+ * affecting the others, and when the executing caller gets cancelled the waiting ones start over.
+ *
+ * @author kliushnichenko
+ */
+class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    interface Call<V> {
+        V call() throws Exception;
+    }
+
+    V execute(K key, Call<V> call, CancellationToken cancellation) throws Exception {
+        while (true) {
+            var flight = new CompletableFuture<V>();
+            CompletableFuture<V> existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                return lead(key, flight, call, cancellation);
+            }
+
+            CompletableFuture<V> view = existing.copy();
+            cancellation.onCancel(() -> view.cancel(true));
+            try {
+                return view.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof AbandonedFlight) {
+                    continue;
+                }
+                if (e.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Call<V> call, CancellationToken cancellation) throws Exception {
+        try {
+            V value = call.call();
+            flight.complete(value);
+            return value;
+        } catch (Exception e) {
+            flight.completeExceptionally(cancellation.isCancelled() ? new AbandonedFlight() : e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * The executing caller was cancelled, its outcome does not apply to the waiting ones.
+     */
+    private static final class AbandonedFlight extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        AbandonedFlight() {
+            super(null, null, false, false);
+        }
+    }
+}
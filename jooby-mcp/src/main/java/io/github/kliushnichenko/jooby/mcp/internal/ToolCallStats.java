@@ -0,0 +1,105 @@
+package io.github.kliushnichenko.jooby.mcp.internal;
+
+import io.github.kliushnichenko.jooby.mcp.McpServerStats;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-tool call counters and latencies, recorded by {@link McpToolHandler}.
+ *
+ * @author kliushnichenko
+ */
+final class ToolCallStats {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final Map<String, Counters> tools = new ConcurrentHashMap<>();
+
+    Recording start(String toolName) {
+        Counters counters = tools.computeIfAbsent(toolName, name -> new Counters());
+        counters.inFlight.incrementAndGet();
+        return new Recording(counters, System.nanoTime());
+    }
+
+    List<McpServerStats.ToolStats> snapshot() {
+        return tools.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparing(McpServerStats.ToolStats::name))
+                .toList();
+    }
+
+    /**
+     * A call being executed. Calls of idempotent tools are waiting until they either start executing
+     * or get the result of an identical call.
+     */
+    static final class Recording {
+
+        private final Counters counters;
+        private final long startNanos;
+        private boolean waiting;
+
+        private Recording(Counters counters, long startNanos) {
+            this.counters = counters;
+            this.startNanos = startNanos;
+        }
+
+        void waiting() {
+            waiting = true;
+            counters.waiting.incrementAndGet();
+        }
+
+        void executing() {
+            if (waiting) {
+                waiting = false;
+                counters.waiting.decrementAndGet();
+            }
+        }
+
+        /**
+         * @param result result of the call, {@code null} if the call failed without one
+         */
+        void finish(McpSchema.CallToolResult result) {
+            if (waiting) {
+                counters.waiting.decrementAndGet();
+                counters.coalesced.increment();
+            }
+            if (result == null || Boolean.TRUE.equals(result.isError())) {
+                counters.errors.increment();
+            }
+            counters.latency.recordNanos(System.nanoTime() - startNanos);
+            counters.calls.increment();
+            counters.inFlight.decrementAndGet();
+        }
+    }
+
+    private static final class Counters {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        McpServerStats.ToolStats snapshot(String name) {
+            return new McpServerStats.ToolStats(
+                    name,
+                    calls.sum(),
+                    errors.sum(),
+                    inFlight.get(),
+                    waiting.get(),
+                    coalesced.sum(),
+                    latency.percentileMicros(50) / MICROS_PER_MILLI,
+                    latency.percentileMicros(90) / MICROS_PER_MILLI,
+                    latency.percentileMicros(99) / MICROS_PER_MILLI,
+                    latency.maxMicros() / MICROS_PER_MILLI
+            );
+        }
+    }
+}
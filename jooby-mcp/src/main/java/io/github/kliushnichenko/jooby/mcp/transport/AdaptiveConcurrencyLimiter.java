@@ -0,0 +1,157 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.github.kliushnichenko.jooby.mcp.McpConcurrencyMetrics;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gradient based adaptive concurrency limiter for {@code tools/call} requests, other requests are always admitted.
+ * <p>
+ * The limit follows the ratio between the long-term average latency and the latency of the latest call:
+ * while latency stays flat the limit grows by {@code sqrt(limit)}, once calls start queueing and latency rises
+ * the limit shrinks proportionally (by half at most per sample). Excess calls are rejected upfront,
+ * so the node keeps serving admitted calls at its best throughput instead of queueing all of them.
+ * </p>
+ *
+ * @author kliushnichenko
+ */
+public final class AdaptiveConcurrencyLimiter implements McpConcurrencyLimiter, McpConcurrencyMetrics {
+
+    private static final int MIN_LIMIT = 1;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int WARMUP_SAMPLES = 10;
+    private static final double LONG_WINDOW_FACTOR = 2.0 / (600 + 1);
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRtt;
+    private long samples;
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final LongAdder windowAccepted = new LongAdder();
+    private final LongAdder windowRejected = new LongAdder();
+    private volatile double rejectionRate;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit) {
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = Math.max(MIN_LIMIT, Math.min(initialLimit, maxLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public Permit tryAcquire(McpSchema.JSONRPCRequest request) {
+        if (!McpSchema.METHOD_TOOLS_CALL.equals(request.method())) {
+            return Permit.NOOP;
+        }
+
+        rollWindow();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                windowRejected.increment();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                windowAccepted.increment();
+                return new LimiterPermit(System.nanoTime());
+            }
+        }
+    }
+
+    @Override
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public long accepted() {
+        return accepted.sum();
+    }
+
+    @Override
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public double rejectionRate() {
+        rollWindow();
+        return rejectionRate;
+    }
+
+    private synchronized void onSample(long rtt, int inFlightAtRelease) {
+        samples++;
+        if (samples <= WARMUP_SAMPLES) {
+            // plain average until there are enough samples for a meaningful baseline
+            longRtt = longRtt + (rtt - longRtt) / samples;
+        } else {
+            longRtt = longRtt * (1 - LONG_WINDOW_FACTOR) + rtt * LONG_WINDOW_FACTOR;
+        }
+
+        // latency has recovered well below the average, let the average catch up faster
+        if (longRtt / rtt > 2) {
+            longRtt = longRtt * 0.95;
+        }
+
+        // the limit is not being used, latency says nothing about whether it could grow
+        if (inFlightAtRelease < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / rtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+
+        estimatedLimit = Math.max(MIN_LIMIT, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    private void rollWindow() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start < RATE_WINDOW_NANOS || !windowStart.compareAndSet(start, now)) {
+            return;
+        }
+
+        long windowRejections = windowRejected.sumThenReset();
+        long total = windowAccepted.sumThenReset() + windowRejections;
+        rejectionRate = total == 0 ? 0.0 : (double) windowRejections / total;
+    }
+
+    private final class LimiterPermit implements Permit {
+
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        LimiterPermit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                int inFlightAtRelease = inFlight.getAndDecrement();
+                onSample(Math.max(1, System.nanoTime() - startNanos), inFlightAtRelease);
+            }
+        }
+    }
+}
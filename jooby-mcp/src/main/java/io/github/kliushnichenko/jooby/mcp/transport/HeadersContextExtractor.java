@@ -0,0 +1,107 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.jooby.Context;
+import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.server.McpTransportContextExtractor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exposes the request headers to handlers through the transport context, under {@link #HEADERS_CTX_KEY}.
+ * <p>
+ * With an allow-list only the listed headers are copied, when the request arrives. Without it no header is
+ * copied until a handler asks for them, most requests never do. The full header map is read from the request
+ * at that point, which is only possible while the request is executed: once it completes the request is released,
+ * and a late read, e.g. from a task that outlives the request, gets no headers.
+ * <p>
+ * Header names are case-insensitive in both modes.
+ *
+ * @author kliushnichenko
+ */
+public final class HeadersContextExtractor implements McpTransportContextExtractor<Context> {
+
+    /**
+     * Transport context key of the request headers, a {@code Map<String, String>}.
+     */
+    public static final String HEADERS_CTX_KEY = "HEADERS";
+
+    private final List<String> allowList;
+
+    /**
+     * @param allowList names of the headers to capture, {@code null} to read all of them on demand
+     */
+    public HeadersContextExtractor(List<String> allowList) {
+        this.allowList = allowList != null ? List.copyOf(allowList) : null;
+    }
+
+    @Override
+    public McpTransportContext extract(Context ctx) {
+        if (allowList == null) {
+            var headersContext = new HeadersContext(ctx);
+            ctx.onComplete(completed -> headersContext.detach());
+            return headersContext;
+        }
+
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String name : allowList) {
+            String value = ctx.header(name).valueOrNull();
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return new HeadersContext(headers);
+    }
+
+    /**
+     * Headers materialised by the transport context so far.
+     *
+     * @return captured headers, or {@code null} if none were read from the request
+     */
+    static Map<String, String> capturedHeaders(McpTransportContext transportContext) {
+        return transportContext instanceof HeadersContext headersContext ? headersContext.headers : null;
+    }
+
+    private static final class HeadersContext implements McpTransportContext {
+
+        private Context ctx;
+        private volatile Map<String, String> headers;
+
+        HeadersContext(Context ctx) {
+            this.ctx = ctx;
+        }
+
+        HeadersContext(Map<String, String> headers) {
+            this.headers = headers;
+        }
+
+        @Override
+        public Object get(String key) {
+            if (!HEADERS_CTX_KEY.equals(key)) {
+                return null;
+            }
+
+            Map<String, String> captured = headers;
+            return captured != null ? captured : readHeaders();
+        }
+
+        private synchronized Map<String, String> readHeaders() {
+            if (headers == null) {
+                Map<String, String> captured = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+                if (ctx != null) {
+                    captured.putAll(ctx.headerMap());
+                }
+                headers = captured;
+            }
+            return headers;
+        }
+
+        /**
+         * Called once the request completes, the context must not be read after that.
+         */
+        synchronized void detach() {
+            ctx = null;
+        }
+    }
+}
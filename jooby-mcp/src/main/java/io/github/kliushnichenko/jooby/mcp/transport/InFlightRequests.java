@@ -0,0 +1,121 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.github.kliushnichenko.jooby.mcp.internal.McpCancellationToken;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks cancellation tokens of {@code tools/call} requests being executed, per session,
+ * so that {@code notifications/cancelled} or a dropped connection can stop the invocation.
+ *
+ * @author kliushnichenko
+ */
+class InFlightRequests {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InFlightRequests.class);
+
+    static final String METHOD_NOTIFICATION_CANCELLED = "notifications/cancelled";
+
+    private final Map<String, Map<String, McpCancellationToken>> sessions = new ConcurrentHashMap<>();
+    private final Object completion = new Object();
+
+    /**
+     * @return a token for the request, or {@code null} if the request is not cancellable
+     */
+    McpCancellationToken register(String sessionId, McpSchema.JSONRPCRequest request) {
+        if (!McpSchema.METHOD_TOOLS_CALL.equals(request.method())) {
+            return null;
+        }
+
+        var token = new McpCancellationToken();
+        sessions.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+                .put(String.valueOf(request.id()), token);
+        return token;
+    }
+
+    void complete(String sessionId, Object requestId) {
+        var requests = sessions.get(sessionId);
+        if (requests != null && requests.remove(String.valueOf(requestId)) != null) {
+            signalCompletion();
+        }
+    }
+
+    /**
+     * Cancels the request referenced by a {@code notifications/cancelled} notification.
+     *
+     * @return {@code true} if the notification was a cancellation, {@code false} otherwise
+     */
+    boolean handleCancelled(String sessionId, McpSchema.JSONRPCNotification notification) {
+        if (!METHOD_NOTIFICATION_CANCELLED.equals(notification.method())) {
+            return false;
+        }
+
+        if (notification.params() instanceof Map<?, ?> params && params.get("requestId") != null) {
+            var requests = sessions.get(sessionId);
+            var token = requests != null ? requests.remove(String.valueOf(params.get("requestId"))) : null;
+            if (token != null) {
+                signalCompletion();
+                Object reason = params.get("reason");
+                LOG.debug("Request {} of session {} cancelled by client", params.get("requestId"), sessionId);
+                token.cancel(reason != null ? reason.toString() : "Request cancelled by client");
+            }
+        }
+        return true;
+    }
+
+    void cancelSession(String sessionId, String reason) {
+        var requests = sessions.remove(sessionId);
+        if (requests != null) {
+            for (String requestId : List.copyOf(requests.keySet())) {
+                var token = requests.remove(requestId);
+                if (token != null) {
+                    signalCompletion();
+                    token.cancel(reason);
+                }
+            }
+        }
+    }
+
+    int count() {
+        int count = 0;
+        for (Map<String, McpCancellationToken> requests : sessions.values()) {
+            count += requests.size();
+        }
+        return count;
+    }
+
+    /**
+     * Waits until no request is in flight, woken up by every completed or cancelled request.
+     *
+     * @param deadlineNanos {@link System#nanoTime()} to give up at
+     * @return {@code true} if no request is in flight, {@code false} if the deadline passed first
+     */
+    boolean awaitIdle(long deadlineNanos) throws InterruptedException {
+        synchronized (completion) {
+            while (count() > 0) {
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(completion, remaining);
+            }
+            return true;
+        }
+    }
+
+    private void signalCompletion() {
+        synchronized (completion) {
+            completion.notifyAll();
+        }
+    }
+
+    void cancelAll(String reason) {
+        sessions.keySet().forEach(sessionId -> cancelSession(sessionId, reason));
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.kliushnichenko.jooby.mcp.transport;
 
+import io.github.kliushnichenko.jooby.mcp.internal.McpCancellationToken;
 import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
 import io.jooby.*;
+import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.spec.*;
@@ -11,6 +13,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -21,7 +25,7 @@ import static io.github.kliushnichenko.jooby.mcp.transport.TransportConstants.*;
  * Handles client connections, message routing, and session management.
  */
 @SuppressWarnings("PMD")
-public class JoobySseTransportProvider implements McpServerTransportProvider {
+public class JoobySseTransportProvider implements McpServerTransportProvider, McpTransportMetrics, McpCheckpointAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(JoobySseTransportProvider.class);
 
@@ -31,9 +35,15 @@ public class JoobySseTransportProvider implements McpServerTransportProvider {
     private final String messageEndpoint;
     private final McpJsonMapper mcpJsonMapper;
     private final ConcurrentHashMap<String, McpServerSession> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, JoobyMcpSessionTransport> transports = new ConcurrentHashMap<>();
 
     private McpServerSession.Factory sessionFactory;
     private final AtomicBoolean isClosing = new AtomicBoolean(false);
+    private McpRequestInterceptor requestInterceptor = McpRequestInterceptor.NONE;
+    private McpConcurrencyLimiter concurrencyLimiter = McpConcurrencyLimiter.NONE;
+    private final ListChangedDebouncer listChangedDebouncer;
+    private final InFlightRequests inFlightRequests = new InFlightRequests();
+    private final ResponseCompressor responseCompressor;
 
     /**
      * Constructs a new Jooby Reactive SSE transport provider instance.
@@ -46,9 +56,11 @@ public class JoobySseTransportProvider implements McpServerTransportProvider {
         this.mcpJsonMapper = mcpJsonMapper;
         this.messageEndpoint = serverConfig.getMessageEndpoint();
         String sseEndpoint = serverConfig.getSseEndpoint();
+        this.listChangedDebouncer = new ListChangedDebouncer(serverConfig.getListChangedDebounce(), this::broadcast);
+        this.responseCompressor = new ResponseCompressor(mcpJsonMapper, serverConfig);
 
         app.head(sseEndpoint, ctx -> StatusCode.OK).produces(TEXT_EVENT_STREAM);
-        app.sse(sseEndpoint, this::handleSseConnection);
+        app.get(sseEndpoint, this::handleSseRequest).produces(TEXT_EVENT_STREAM);
         app.post(this.messageEndpoint, this::handleMessage);
     }
 
@@ -57,8 +69,45 @@ public class JoobySseTransportProvider implements McpServerTransportProvider {
         this.sessionFactory = sessionFactory;
     }
 
+    /**
+     * Sets the interceptor that may answer requests before they are dispatched to the session.
+     * Intercepted responses are delivered over the session's SSE stream, same as regular ones.
+     *
+     * @param requestInterceptor request interceptor
+     */
+    public void setRequestInterceptor(McpRequestInterceptor requestInterceptor) {
+        this.requestInterceptor = Objects.requireNonNull(requestInterceptor, "requestInterceptor must not be null");
+    }
+
+    /**
+     * Sets the limiter that admits requests before they are dispatched to the session.
+     * Rejected requests are answered with {@code 503 Service Unavailable}.
+     *
+     * @param concurrencyLimiter concurrency limiter
+     */
+    public void setConcurrencyLimiter(McpConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = Objects.requireNonNull(concurrencyLimiter, "concurrencyLimiter must not be null");
+    }
+
+    @Override
+    public int activeSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Every session holds one SSE stream.
+     */
+    @Override
+    public int openStreams() {
+        return sessions.size();
+    }
+
     @Override
     public Mono<Void> notifyClients(String method, Object params) {
+        return listChangedDebouncer.notifyClients(method, params);
+    }
+
+    private Mono<Void> broadcast(String method, Object params) {
         if (sessions.isEmpty()) {
             LOG.debug("No active sessions to broadcast message to");
             return Mono.empty();
@@ -94,32 +143,75 @@ public class JoobySseTransportProvider implements McpServerTransportProvider {
         return Flux.fromIterable(sessions.values())
                 .doFirst(() -> {
                     isClosing.set(true);
+                    listChangedDebouncer.dispose();
+                    inFlightRequests.cancelAll("Server is shutting down");
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Initiating graceful shutdown with {} active sessions", sessions.size());
                     }
                 })
                 .flatMap(McpServerSession::closeGracefully)
-                .doFinally(signalType -> sessions.clear())
+                .doFinally(signalType -> {
+                    sessions.clear();
+                    transports.clear();
+                })
                 .then();
     }
 
-    private void handleSseConnection(ServerSentEmitter sse) {
+    /**
+     * Closes all SSE streams, client connections cannot be carried over a checkpoint.
+     */
+    @Override
+    public void beforeCheckpoint() {
+        if (!sessions.isEmpty()) {
+            LOG.info("Closing {} sessions before checkpoint", sessions.size());
+        }
+        inFlightRequests.cancelAll("Server is checkpointing");
+        for (String sessionId : List.copyOf(sessions.keySet())) {
+            McpServerSession session = sessions.remove(sessionId);
+            transports.remove(sessionId);
+            if (session != null) {
+                try {
+                    session.closeGracefully().block();
+                } catch (Exception e) {
+                    LOG.error("Failed to close session {}: {}", sessionId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens the SSE stream of a new session, compressed if enabled and accepted by the client.
+     * The stream outlives the request, it is closed by the session or once the client goes away.
+     */
+    private Context handleSseRequest(Context ctx) {
+        SseStream compressed = responseCompressor.eventStream(ctx);
+        if (compressed != null) {
+            handleSseConnection(compressed);
+            return ctx;
+        }
+
+        ctx.setResponseType(TEXT_EVENT_STREAM);
+        return ctx.upgrade(sse -> handleSseConnection(SseStream.of(sse)));
+    }
+
+    private void handleSseConnection(SseStream sse) {
         JoobyMcpSessionTransport transport = new JoobyMcpSessionTransport(sse);
         McpServerSession session = sessionFactory.create(transport);
         String sessionId = session.getId();
 
         LOG.debug("New SSE connection has been established. Session ID: {}", sessionId);
         sessions.put(sessionId, session);
+        transports.put(sessionId, transport);
 
         sse.onClose(() -> {
             LOG.debug("Session with ID {} has been cancelled", sessionId);
             sessions.remove(sessionId);
+            transports.remove(sessionId);
+            inFlightRequests.cancelSession(sessionId, "Connection closed");
         });
 
         LOG.debug("Sending initial endpoint event to session: {}", sessionId);
-        sse.send(new ServerSentMessage(this.messageEndpoint + "?sessionId=" + sessionId)
-                .setEvent(ENDPOINT_EVENT_TYPE)
-        );
+        sse.send(null, ENDPOINT_EVENT_TYPE, this.messageEndpoint + "?sessionId=" + sessionId);
     }
 
     private Object handleMessage(Context ctx) {
@@ -151,12 +243,47 @@ public class JoobySseTransportProvider implements McpServerTransportProvider {
             var body = ctx.body().value();
             McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(this.mcpJsonMapper, body);
 
-            return session.handle(message).then(Mono.just((Object) StatusCode.OK))
-                    .onErrorResume(error -> {
-                        LOG.error("Error processing  message: {}", error.getMessage());
-                        return Mono.just(StatusCode.OK);
-                    }).switchIfEmpty(Mono.just((Object) StatusCode.OK))
-                    .block();
+            if (message instanceof McpSchema.JSONRPCNotification notification
+                && inFlightRequests.handleCancelled(sessionId, notification)) {
+                return StatusCode.OK;
+            }
+
+            McpCancellationToken cancellation = null;
+            McpConcurrencyLimiter.Permit permit = McpConcurrencyLimiter.Permit.NOOP;
+            if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
+                McpSchema.JSONRPCResponse intercepted = this.requestInterceptor.intercept(
+                        McpTransportContext.EMPTY,
+                        jsonrpcRequest
+                );
+                JoobyMcpSessionTransport transport = transports.get(sessionId);
+                if (intercepted != null && transport != null) {
+                    transport.sendMessage(intercepted).block();
+                    return StatusCode.OK;
+                }
+                permit = concurrencyLimiter.tryAcquire(jsonrpcRequest);
+                if (permit == null) {
+                    return SendError.overloaded(ctx);
+                }
+                cancellation = inFlightRequests.register(sessionId, jsonrpcRequest);
+            }
+
+            McpTransportContext transportContext = cancellation != null
+                    ? cancellation.bindTo(McpTransportContext.EMPTY)
+                    : McpTransportContext.EMPTY;
+            try {
+                return session.handle(message).then(Mono.just((Object) StatusCode.OK))
+                        .onErrorResume(error -> {
+                            LOG.error("Error processing  message: {}", error.getMessage());
+                            return Mono.just(StatusCode.OK);
+                        }).switchIfEmpty(Mono.just((Object) StatusCode.OK))
+                        .contextWrite(reactorCtx -> reactorCtx.put(McpTransportContext.KEY, transportContext))
+                        .block();
+            } finally {
+                permit.release();
+                if (cancellation != null) {
+                    inFlightRequests.complete(sessionId, ((McpSchema.JSONRPCRequest) message).id());
+                }
+            }
         } catch (IOException | IllegalArgumentException e) {
             LOG.error("Failed to deserialize message: {}", e.getMessage());
             return McpError.builder(McpSchema.ErrorCodes.PARSE_ERROR)
@@ -167,9 +294,9 @@ public class JoobySseTransportProvider implements McpServerTransportProvider {
 
     private class JoobyMcpSessionTransport implements McpServerTransport {
 
-        private final ServerSentEmitter sse;
+        private final SseStream sse;
 
-        public JoobyMcpSessionTransport(ServerSentEmitter sse) {
+        public JoobyMcpSessionTransport(SseStream sse) {
             this.sse = sse;
         }
 
@@ -178,10 +305,10 @@ public class JoobySseTransportProvider implements McpServerTransportProvider {
             return Mono.fromRunnable(() -> {
                 try {
                     String jsonText = mcpJsonMapper.writeValueAsString(message);
-                    sse.send(new ServerSentMessage(jsonText).setEvent(MESSAGE_EVENT_TYPE));
+                    sse.send(null, MESSAGE_EVENT_TYPE, jsonText);
                 } catch (Exception e) {
                     LOG.error("Failed to send message: {}", e.getMessage());
-                    sse.send(SSE_ERROR_EVENT, e.getMessage());
+                    sse.send(null, SSE_ERROR_EVENT, e.getMessage());
                 }
             });
         }
@@ -17,6 +17,7 @@ import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
 
 import static io.github.kliushnichenko.jooby.mcp.transport.TransportConstants.TEXT_EVENT_STREAM;
 import static io.modelcontextprotocol.spec.McpSchema.ErrorCodes.INVALID_REQUEST;
@@ -36,6 +37,9 @@ public class JoobyStatelessServerTransport implements McpStatelessServerTranspor
     private final McpJsonMapper mcpJsonMapper;
     private final McpTransportContextExtractor<Context> contextExtractor;
     private volatile boolean isClosing = false;
+    private McpRequestInterceptor requestInterceptor = McpRequestInterceptor.NONE;
+    private McpConcurrencyLimiter concurrencyLimiter = McpConcurrencyLimiter.NONE;
+    private final ResponseCompressor responseCompressor;
 
     public JoobyStatelessServerTransport(Jooby app,
                                          McpJsonMapper jsonMapper,
@@ -43,6 +47,7 @@ public class JoobyStatelessServerTransport implements McpStatelessServerTranspor
                                          McpTransportContextExtractor<Context> contextExtractor) {
         this.mcpJsonMapper = jsonMapper;
         this.contextExtractor = contextExtractor;
+        this.responseCompressor = new ResponseCompressor(jsonMapper, serverConfig);
 
         var mcpEndpoint = serverConfig.getMcpEndpoint();
         app.head(mcpEndpoint, ctx -> StatusCode.OK).produces(TEXT_EVENT_STREAM);
@@ -68,15 +73,30 @@ public class JoobyStatelessServerTransport implements McpStatelessServerTranspor
             McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(mcpJsonMapper, body);
 
             if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
+                McpSchema.JSONRPCResponse intercepted = this.requestInterceptor.intercept(
+                        transportContext,
+                        jsonrpcRequest
+                );
+                if (intercepted != null) {
+                    return this.responseCompressor.json(ctx, intercepted);
+                }
+
+                McpConcurrencyLimiter.Permit permit = this.concurrencyLimiter.tryAcquire(jsonrpcRequest);
+                if (permit == null) {
+                    return SendError.overloaded(ctx);
+                }
+
                 try {
                     McpSchema.JSONRPCResponse jsonrpcResponse = this.mcpHandler
                             .handleRequest(transportContext, jsonrpcRequest)
                             .contextWrite(reactorCtx -> reactorCtx.put(McpTransportContext.KEY, transportContext))
                             .block();
-                    return jsonrpcResponse;
+                    return this.responseCompressor.json(ctx, jsonrpcResponse);
                 } catch (Exception e) {
                     LOG.error("Failed to handle request.", e);
                     return SendError.internalError(ctx);
+                } finally {
+                    permit.release();
                 }
             } else if (message instanceof McpSchema.JSONRPCNotification jsonrpcNotification) {
                 try {
@@ -109,6 +129,25 @@ public class JoobyStatelessServerTransport implements McpStatelessServerTranspor
         this.mcpHandler = mcpHandler;
     }
 
+    /**
+     * Sets the interceptor that may answer requests before they are dispatched to the MCP handler.
+     *
+     * @param requestInterceptor request interceptor
+     */
+    public void setRequestInterceptor(McpRequestInterceptor requestInterceptor) {
+        this.requestInterceptor = Objects.requireNonNull(requestInterceptor, "requestInterceptor must not be null");
+    }
+
+    /**
+     * Sets the limiter that admits requests before they are dispatched to the MCP handler.
+     * Rejected requests are answered with {@code 503 Service Unavailable}.
+     *
+     * @param concurrencyLimiter concurrency limiter
+     */
+    public void setConcurrencyLimiter(McpConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = Objects.requireNonNull(concurrencyLimiter, "concurrencyLimiter must not be null");
+    }
+
     @Override
     public Mono<Void> closeGracefully() {
         return Mono.fromRunnable(() -> this.isClosing = true);
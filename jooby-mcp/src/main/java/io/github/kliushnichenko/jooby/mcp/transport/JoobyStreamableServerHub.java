@@ -0,0 +1,109 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.jooby.Context;
+import io.jooby.Jooby;
+import io.jooby.StatusCode;
+import io.modelcontextprotocol.spec.McpStreamableServerSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static io.github.kliushnichenko.jooby.mcp.transport.TransportConstants.TEXT_EVENT_STREAM;
+
+/**
+ * Shared Streamable HTTP endpoint serving many MCP servers of one application.
+ * <p>
+ * Instead of registering an endpoint, a session map and a keep-alive scheduler per server, servers attach to the hub
+ * and requests are routed by the server key, taken from the path ({@code /mcp/{serverKey}}) or, on the bare endpoint,
+ * from the {@value #MCP_SERVER_HEADER} header. All sessions live in one registry and are pinged at the hub
+ * keep-alive interval.
+ *
+ * @author kliushnichenko
+ */
+@SuppressWarnings("PMD")
+public class JoobyStreamableServerHub {
+
+    public static final String MCP_SERVER_HEADER = "Mcp-Server";
+
+    private static final Logger LOG = LoggerFactory.getLogger(JoobyStreamableServerHub.class);
+    private static final String SERVER_KEY_PARAM = "serverKey";
+
+    private final Map<String, JoobyStreamableServerTransportProvider> providers = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentHashMap<String, McpStreamableServerSession>> sessions =
+            new ConcurrentHashMap<>();
+    private final Duration keepAliveInterval;
+    private Long drainStartedAt;
+
+    public JoobyStreamableServerHub(Jooby app, String endpoint, Integer keepAliveInterval) {
+        for (String path : List.of(endpoint, endpoint + "/{" + SERVER_KEY_PARAM + "}")) {
+            app.head(path, ctx -> StatusCode.OK).produces(TEXT_EVENT_STREAM);
+            app.get(path, ctx -> route(ctx, provider -> provider.handleGet(ctx)));
+            app.post(path, ctx -> route(ctx, provider -> provider.handlePost(ctx)));
+            app.delete(path, ctx -> route(ctx, provider -> provider.handleDelete(ctx)));
+        }
+
+        this.keepAliveInterval = keepAliveInterval == null ? null : Duration.ofSeconds(keepAliveInterval);
+    }
+
+    /**
+     * Returns the keep-alive interval of sessions on the hub, {@code null} when keep-alive is off.
+     */
+    Duration getKeepAliveInterval() {
+        return this.keepAliveInterval;
+    }
+
+    /**
+     * Returns the session registry of a server.
+     */
+    ConcurrentHashMap<String, McpStreamableServerSession> sessions(String serverKey) {
+        return this.sessions.computeIfAbsent(serverKey, key -> new ConcurrentHashMap<>());
+    }
+
+    void attach(String serverKey, JoobyStreamableServerTransportProvider provider) {
+        if (this.providers.putIfAbsent(serverKey, provider) != null) {
+            throw new IllegalStateException("MCP server is already attached to the hub: " + serverKey);
+        }
+        LOG.debug("MCP server {} attached to the hub", serverKey);
+    }
+
+    /**
+     * Starts draining every attached server on the first call.
+     *
+     * @return {@link System#nanoTime()} the drain of the hub started at
+     */
+    synchronized long drainAll() {
+        if (this.drainStartedAt == null) {
+            this.drainStartedAt = System.nanoTime();
+            this.providers.values().forEach(JoobyStreamableServerTransportProvider::drain);
+        }
+        return this.drainStartedAt;
+    }
+
+    void detach(String serverKey) {
+        this.providers.remove(serverKey);
+        this.sessions.remove(serverKey);
+    }
+
+    private Object route(Context ctx, Function<JoobyStreamableServerTransportProvider, Object> handler) {
+        String serverKey = ctx.path(SERVER_KEY_PARAM).valueOrNull();
+        if (serverKey == null) {
+            serverKey = ctx.header(MCP_SERVER_HEADER).valueOrNull();
+        }
+
+        if (serverKey == null) {
+            return SendError.badRequest(ctx,
+                    "MCP server key required in the path or %s header".formatted(MCP_SERVER_HEADER));
+        }
+
+        JoobyStreamableServerTransportProvider provider = this.providers.get(serverKey);
+        if (provider == null) {
+            return SendError.serverNotFound(ctx, serverKey);
+        }
+        return handler.apply(provider);
+    }
+}
@@ -1,5 +1,8 @@
 package io.github.kliushnichenko.jooby.mcp.transport;
 
+import io.github.kliushnichenko.jooby.mcp.McpDrainControl;
+import io.github.kliushnichenko.jooby.mcp.McpSessionMemory;
+import io.github.kliushnichenko.jooby.mcp.internal.McpCancellationToken;
 import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
 import io.jooby.*;
 import io.modelcontextprotocol.common.McpTransportContext;
@@ -7,17 +10,22 @@ import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.server.McpTransportContextExtractor;
 import io.modelcontextprotocol.spec.*;
-import io.modelcontextprotocol.util.KeepAliveScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import reactor.core.publisher.Flux;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static io.github.kliushnichenko.jooby.mcp.transport.TransportConstants.*;
 import static io.modelcontextprotocol.spec.McpSchema.ErrorCodes.INVALID_REQUEST;
@@ -28,27 +36,41 @@ import static io.modelcontextprotocol.spec.McpSchema.ErrorCodes.INVALID_REQUEST;
  * @author kliushnichenko
  */
 @SuppressWarnings("PMD")
-public class JoobyStreamableServerTransportProvider implements McpStreamableServerTransportProvider {
+public class JoobyStreamableServerTransportProvider
+        implements McpStreamableServerTransportProvider, McpDrainControl, McpTransportMetrics, McpCheckpointAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(JoobyStreamableServerTransportProvider.class);
 
     private final boolean disallowDelete;
     private final McpJsonMapper mcpJsonMapper;
-    private final ConcurrentHashMap<String, McpStreamableServerSession> sessions = new ConcurrentHashMap<>();
+    private final String serverName;
+    private final ConcurrentHashMap<String, McpStreamableServerSession> sessions;
     private final McpTransportContextExtractor<Context> contextExtractor;
     private volatile boolean isClosing = false;
+    private volatile boolean isDraining = false;
+    private volatile boolean gracePeriodElapsed = false;
+    private final Duration drainTimeout;
+    private Disposable drainGracePeriod = Disposables.disposed();
+    private final Set<SseStream> listeningStreams = ConcurrentHashMap.newKeySet();
     private McpStreamableServerSession.Factory sessionFactory;
-    private KeepAliveScheduler keepAliveScheduler;
+    private McpRequestInterceptor requestInterceptor = McpRequestInterceptor.NONE;
+    private McpConcurrencyLimiter concurrencyLimiter = McpConcurrencyLimiter.NONE;
+    private final ListChangedDebouncer listChangedDebouncer;
+    private final InFlightRequests inFlightRequests = new InFlightRequests();
+    private final ResponseCompressor responseCompressor;
+    private final ConcurrentHashMap<String, KeepAliveWheel.Registration> keepAlives = new ConcurrentHashMap<>();
+    private final SessionMemoryTracker sessionMemory;
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private Duration keepAliveInterval;
+    private KeepAliveWheel keepAliveWheel;
+    private JoobyStreamableServerHub hub;
+    private String serverKey;
 
     public JoobyStreamableServerTransportProvider(Jooby app,
                                                   McpJsonMapper jsonMapper,
                                                   McpServerConfig serverConfig,
                                                   McpTransportContextExtractor<Context> contextExtractor) {
-        Objects.requireNonNull(contextExtractor, "McpTransportContextExtractor must not be null");
-
-        this.mcpJsonMapper = jsonMapper;
-        this.disallowDelete = serverConfig.isDisallowDelete();
-        this.contextExtractor = contextExtractor;
+        this(jsonMapper, serverConfig, contextExtractor, new ConcurrentHashMap<>());
 
         var mcpEndpoint = serverConfig.getMcpEndpoint();
 
@@ -58,23 +80,55 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
         app.delete(mcpEndpoint, this::handleDelete);
 
         if (serverConfig.getKeepAliveInterval() != null) {
-            var keepAliveInterval = Duration.ofSeconds(serverConfig.getKeepAliveInterval());
-            this.keepAliveScheduler = KeepAliveScheduler
-                    .builder(() -> isClosing ? Flux.empty() : Flux.fromIterable(this.sessions.values()))
-                    .initialDelay(keepAliveInterval)
-                    .interval(keepAliveInterval)
-                    .build();
-
-            this.keepAliveScheduler.start();
+            this.keepAliveInterval = Duration.ofSeconds(serverConfig.getKeepAliveInterval());
         }
     }
 
+    /**
+     * Creates a transport served by the shared hub endpoint instead of an endpoint of its own.
+     * Routing and the session registry are owned by the hub, sessions are pinged at the hub keep-alive interval.
+     *
+     * @param hub              shared streamable HTTP hub
+     * @param serverKey        key the hub routes requests by
+     * @param jsonMapper       json mapper
+     * @param serverConfig     server config
+     * @param contextExtractor transport context extractor
+     */
+    public JoobyStreamableServerTransportProvider(JoobyStreamableServerHub hub,
+                                                  String serverKey,
+                                                  McpJsonMapper jsonMapper,
+                                                  McpServerConfig serverConfig,
+                                                  McpTransportContextExtractor<Context> contextExtractor) {
+        this(jsonMapper, serverConfig, contextExtractor, hub.sessions(serverKey));
+        this.hub = hub;
+        this.serverKey = serverKey;
+        this.keepAliveInterval = hub.getKeepAliveInterval();
+        hub.attach(serverKey, this);
+    }
+
+    private JoobyStreamableServerTransportProvider(McpJsonMapper jsonMapper,
+                                                   McpServerConfig serverConfig,
+                                                   McpTransportContextExtractor<Context> contextExtractor,
+                                                   ConcurrentHashMap<String, McpStreamableServerSession> sessions) {
+        Objects.requireNonNull(contextExtractor, "McpTransportContextExtractor must not be null");
+
+        this.mcpJsonMapper = jsonMapper;
+        this.serverName = serverConfig.getName();
+        this.disallowDelete = serverConfig.isDisallowDelete();
+        this.contextExtractor = contextExtractor;
+        this.sessions = sessions;
+        this.drainTimeout = Duration.ofMillis(serverConfig.getDrainTimeout());
+        this.responseCompressor = new ResponseCompressor(jsonMapper, serverConfig);
+        this.listChangedDebouncer = new ListChangedDebouncer(serverConfig.getListChangedDebounce(), this::broadcast);
+        this.sessionMemory = new SessionMemoryTracker(serverConfig.getName(), serverConfig.getSessionMemoryQuota());
+    }
+
     /**
      * Setups the listening SSE connections and message replay.
      *
      * @param ctx The Jooby context for the incoming request
      */
-    private Context handleGet(Context ctx) {
+    Context handleGet(Context ctx) {
         if (this.isClosing) {
             return SendError.serverIsShuttingDown(ctx);
         }
@@ -96,52 +150,76 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
             return SendError.sessionNotFound(ctx, sessionId);
         }
 
+        if (this.gracePeriodElapsed) {
+            return SendError.sessionIsDraining(ctx, sessionId);
+        }
+
+        touchKeepAlive(sessionId);
         LOG.debug("Handling GET request for session: {}", sessionId);
 
         try {
+            SseStream compressed = this.responseCompressor.eventStream(ctx);
+            if (compressed != null) {
+                openListeningStream(ctx, sessionId, session, transportContext, compressed);
+                return ctx;
+            }
+
             ctx.setResponseType(TEXT_EVENT_STREAM);
-            return ctx.upgrade(sse -> {
-                sse.onClose(() -> LOG.debug("SSE connection closed by client for session: {}", sessionId));
+            return ctx.upgrade(sse -> openListeningStream(ctx, sessionId, session, transportContext,
+                    SseStream.of(sse)));
+        } catch (Exception e) {
+            LOG.error("Failed to handle GET request for session {}: {}", sessionId, e.getMessage());
+            return SendError.internalError(ctx, sessionId);
+        }
+    }
 
-                var sessionTransport = new JoobyStreamableMcpSessionTransport(sessionId, sse);
+    private void openListeningStream(Context ctx,
+                                     String sessionId,
+                                     McpStreamableServerSession session,
+                                     McpTransportContext transportContext,
+                                     SseStream sse) {
+        openStreams.incrementAndGet();
+        listeningStreams.add(sse);
+        sse.onClose(() -> {
+            LOG.debug("SSE connection closed by client for session: {}", sessionId);
+            openStreams.decrementAndGet();
+            listeningStreams.remove(sse);
+        });
 
-                // Check if this is a replay request
-                if (ctx.header(HttpHeaders.LAST_EVENT_ID).isPresent()) {
-                    String lastId = ctx.header(HttpHeaders.LAST_EVENT_ID).value();
+        var sessionTransport = new JoobyStreamableMcpSessionTransport(sessionId, sse);
 
-                    try {
-                        session.replay(lastId)
-                                .contextWrite(reactorCtx -> reactorCtx.put(McpTransportContext.KEY, transportContext))
-                                .toIterable()
-                                .forEach(message -> {
-                                    try {
-                                        sessionTransport.sendMessage(message)
-                                                .contextWrite(reactorCtx
-                                                        -> reactorCtx.put(McpTransportContext.KEY, transportContext))
-                                                .block();
-                                    } catch (Exception e) {
-                                        LOG.error("Failed to replay message: {}", e.getMessage());
-                                        sse.send(SSE_ERROR_EVENT, e.getMessage());
-                                    }
-                                });
-                    } catch (Exception e) {
-                        LOG.error("Failed to replay messages: {}", e.getMessage());
-                        sse.send(SSE_ERROR_EVENT, e.getMessage());
-                    }
-                } else {
-                    // Establish new listening stream
-                    McpStreamableServerSession.McpStreamableServerSessionStream listeningStream = session
-                            .listeningStream(sessionTransport);
+        // Check if this is a replay request
+        if (ctx.header(HttpHeaders.LAST_EVENT_ID).isPresent()) {
+            String lastId = ctx.header(HttpHeaders.LAST_EVENT_ID).value();
 
-                    sse.onClose(() -> {
-                        LOG.debug("SSE connection has been closed for session: {}", sessionId);
-                        listeningStream.close();
-                    });
-                }
+            try {
+                session.replay(lastId)
+                        .contextWrite(reactorCtx -> reactorCtx.put(McpTransportContext.KEY, transportContext))
+                        .toIterable()
+                        .forEach(message -> {
+                            try {
+                                sessionTransport.sendMessage(message)
+                                        .contextWrite(reactorCtx
+                                                -> reactorCtx.put(McpTransportContext.KEY, transportContext))
+                                        .block();
+                            } catch (Exception e) {
+                                LOG.error("Failed to replay message: {}", e.getMessage());
+                                sse.send(null, SSE_ERROR_EVENT, e.getMessage());
+                            }
+                        });
+            } catch (Exception e) {
+                LOG.error("Failed to replay messages: {}", e.getMessage());
+                sse.send(null, SSE_ERROR_EVENT, e.getMessage());
+            }
+        } else {
+            // Establish new listening stream
+            McpStreamableServerSession.McpStreamableServerSessionStream listeningStream = session
+                    .listeningStream(sessionTransport);
+
+            sse.onClose(() -> {
+                LOG.debug("SSE connection has been closed for session: {}", sessionId);
+                listeningStream.close();
             });
-        } catch (Exception e) {
-            LOG.error("Failed to handle GET request for session {}: {}", sessionId, e.getMessage());
-            return SendError.internalError(ctx, sessionId);
         }
     }
 
@@ -150,7 +228,7 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
      *
      * @param ctx The Jooby context for the incoming request
      */
-    private Object handlePost(Context ctx) {
+    Object handlePost(Context ctx) {
         if (this.isClosing) {
             return SendError.serverIsShuttingDown(ctx);
         }
@@ -173,6 +251,10 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
             if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest
                 && McpSchema.METHOD_INITIALIZE.equals(jsonrpcRequest.method())) {
 
+                if (this.isDraining) {
+                    return SendError.serverIsDraining(ctx);
+                }
+
                 McpSchema.InitializeRequest initRequest = mcpJsonMapper.convertValue(
                         jsonrpcRequest.params(),
                         McpSchema.InitializeRequest.class
@@ -181,6 +263,8 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
                         .startSession(initRequest);
                 sessionId = initObj.session().getId();
                 this.sessions.put(sessionId, initObj.session());
+                this.sessionMemory.open(sessionId, initRequest.clientInfo());
+                registerKeepAlive(sessionId, initObj.session());
 
                 try {
                     McpSchema.InitializeResult initResult = initObj.initResult().block();
@@ -209,6 +293,7 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
             if (session == null) {
                 return SendError.sessionNotFound(ctx, sessionId);
             }
+            touchKeepAlive(sessionId);
 
             if (message instanceof McpSchema.JSONRPCResponse jsonrpcResponse) {
                 session.accept(jsonrpcResponse)
@@ -216,27 +301,75 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
                         .block();
                 return StatusCode.ACCEPTED;
             } else if (message instanceof McpSchema.JSONRPCNotification jsonrpcNotification) {
+                if (this.inFlightRequests.handleCancelled(sessionId, jsonrpcNotification)) {
+                    return StatusCode.ACCEPTED;
+                }
                 session.accept(jsonrpcNotification)
                         .contextWrite(reactorCtx -> reactorCtx.put(McpTransportContext.KEY, transportContext))
                         .block();
                 return StatusCode.ACCEPTED;
             } else if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
-                ctx.setResponseType(TEXT_EVENT_STREAM);
+                if (this.gracePeriodElapsed) {
+                    return SendError.sessionIsDraining(ctx, sessionId);
+                }
+
+                McpSchema.JSONRPCResponse intercepted = this.requestInterceptor.intercept(
+                        transportContext,
+                        jsonrpcRequest
+                );
+                if (intercepted != null) {
+                    return this.responseCompressor.json(ctx, intercepted);
+                }
 
                 String finalSessionId = sessionId;
-                return ctx.upgrade(sse -> {
-                    sse.onClose(() -> LOG.debug("Request response stream completed for session: {}", finalSessionId));
+                long reservedMemory = SessionMemoryTracker.estimateRequest(body, transportContext);
+                if (!this.sessionMemory.reserve(finalSessionId, reservedMemory)) {
+                    LOG.warn("Request {} would take session {} over the memory quota of {} bytes, rejecting it",
+                            jsonrpcRequest.id(), finalSessionId, this.sessionMemory.quota());
+                    return SendError.sessionMemoryQuotaExceeded(ctx, jsonrpcRequest.id(), finalSessionId);
+                }
+
+                McpConcurrencyLimiter.Permit permit = this.concurrencyLimiter.tryAcquire(jsonrpcRequest);
+                if (permit == null) {
+                    this.sessionMemory.release(finalSessionId, reservedMemory);
+                    return SendError.overloaded(ctx);
+                }
+                Runnable releaseRequest = () -> {
+                    permit.release();
+                    this.sessionMemory.release(finalSessionId, reservedMemory);
+                };
+
+                ctx.setResponseType(TEXT_EVENT_STREAM);
+
+                return stream(ctx, releaseRequest, sse -> {
+                    // registered once the stream is open, a stream that fails to open leaves no token behind
+                    McpCancellationToken cancellation = this.inFlightRequests.register(finalSessionId, jsonrpcRequest);
+                    McpTransportContext requestContext = cancellation != null
+                            ? cancellation.bindTo(transportContext)
+                            : transportContext;
+
+                    openStreams.incrementAndGet();
+                    sse.onClose(() -> {
+                        LOG.debug("Request response stream completed for session: {}", finalSessionId);
+                        if (cancellation != null) {
+                            cancellation.cancel("Connection closed");
+                        }
+                    });
 
                     JoobyStreamableMcpSessionTransport sessionTransport = new JoobyStreamableMcpSessionTransport(
                             finalSessionId, sse);
 
                     try {
                         session.responseStream(jsonrpcRequest, sessionTransport)
-                                .contextWrite(reactorCtx -> reactorCtx.put(McpTransportContext.KEY, transportContext))
+                                .contextWrite(reactorCtx -> reactorCtx.put(McpTransportContext.KEY, requestContext))
                                 .block();
                     } catch (Exception e) {
                         LOG.error("Failed to handle request stream: {}", e.getMessage());
-                        sse.send(SSE_ERROR_EVENT, e.getMessage());
+                        sse.send(null, SSE_ERROR_EVENT, e.getMessage());
+                    } finally {
+                        this.inFlightRequests.complete(finalSessionId, jsonrpcRequest.id());
+                        releaseRequest.run();
+                        openStreams.decrementAndGet();
                     }
                 });
             } else {
@@ -251,13 +384,40 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
         }
     }
 
+    /**
+     * Responds with an SSE stream, compressed if the client accepts it, making sure the permit
+     * and the reserved memory are released if the stream cannot be opened.
+     * The handler completes the request, so a compressed stream is closed right after it.
+     */
+    private Context stream(Context ctx,
+                           Runnable releaseRequest,
+                           Consumer<SseStream> handler) {
+        SseStream compressed;
+        try {
+            compressed = this.responseCompressor.eventStream(ctx);
+            if (compressed == null) {
+                return ctx.upgrade(sse -> handler.accept(SseStream.of(sse)));
+            }
+        } catch (RuntimeException e) {
+            releaseRequest.run();
+            throw e;
+        }
+
+        try {
+            handler.accept(compressed);
+        } finally {
+            compressed.close();
+        }
+        return ctx;
+    }
+
     /**
      * Handles DELETE requests for session deletion.
      *
      * @param ctx The Jooby context for the incoming request
      * @return A ServerResponse indicating success or appropriate error status
      */
-    private Object handleDelete(Context ctx) {
+    Object handleDelete(Context ctx) {
         if (this.isClosing) {
             return SendError.serverIsShuttingDown(ctx);
         }
@@ -280,10 +440,13 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
         }
 
         try {
+            this.inFlightRequests.cancelSession(sessionId, "Session deleted");
             session.delete()
                     .contextWrite(reactorCtx -> reactorCtx.put(McpTransportContext.KEY, transportContext))
                     .block();
             this.sessions.remove(sessionId);
+            this.sessionMemory.close(sessionId);
+            cancelKeepAlive(sessionId);
             return StatusCode.NO_CONTENT;
         } catch (Exception e) {
             LOG.error("Failed to delete session {}: {}", sessionId, e.getMessage());
@@ -291,11 +454,89 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
         }
     }
 
+    private void registerKeepAlive(String sessionId, McpStreamableServerSession session) {
+        if (this.keepAliveWheel != null && this.keepAliveInterval != null) {
+            var registration = this.keepAliveWheel.register(
+                    sessionId,
+                    session,
+                    this.keepAliveInterval,
+                    () -> evict(sessionId, "Session is not responding")
+            );
+            this.keepAlives.put(sessionId, registration);
+        }
+    }
+
+    private void touchKeepAlive(String sessionId) {
+        KeepAliveWheel.Registration registration = this.keepAlives.get(sessionId);
+        if (registration != null) {
+            registration.touch();
+        }
+    }
+
+    private void cancelKeepAlive(String sessionId) {
+        KeepAliveWheel.Registration registration = this.keepAlives.remove(sessionId);
+        if (registration != null) {
+            registration.cancel();
+        }
+    }
+
+    /**
+     * Drops a session whose client stopped answering keep-alive pings.
+     */
+    private void evict(String sessionId, String reason) {
+        cancelKeepAlive(sessionId);
+        this.sessionMemory.close(sessionId);
+        McpStreamableServerSession session = this.sessions.remove(sessionId);
+        if (session != null) {
+            this.inFlightRequests.cancelSession(sessionId, reason);
+            session.closeGracefully()
+                    .doOnError(e -> LOG.warn("Failed to close evicted session {}: {}", sessionId, e.getMessage()))
+                    .onErrorComplete()
+                    .subscribe();
+        }
+    }
+
     @Override
     public void setSessionFactory(McpStreamableServerSession.Factory sessionFactory) {
         this.sessionFactory = sessionFactory;
     }
 
+    /**
+     * Sets the interceptor that may answer requests before they are dispatched to the session.
+     *
+     * @param requestInterceptor request interceptor
+     */
+    public void setRequestInterceptor(McpRequestInterceptor requestInterceptor) {
+        this.requestInterceptor = Objects.requireNonNull(requestInterceptor, "requestInterceptor must not be null");
+    }
+
+
+    /**
+     * Sets the limiter that admits requests before they are dispatched to the session.
+     * Rejected requests are answered with {@code 503 Service Unavailable}.
+     *
+     * @param concurrencyLimiter concurrency limiter
+     */
+    public void setConcurrencyLimiter(McpConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = Objects.requireNonNull(concurrencyLimiter, "concurrencyLimiter must not be null");
+    }
+
+    /**
+     * Sets the shared wheel that pings idle sessions when a keep-alive interval is configured.
+     *
+     * @param keepAliveWheel keep-alive wheel
+     */
+    public void setKeepAliveWheel(KeepAliveWheel keepAliveWheel) {
+        this.keepAliveWheel = Objects.requireNonNull(keepAliveWheel, "keepAliveWheel must not be null");
+    }
+
+    /**
+     * Returns the memory accounting of the sessions of this transport.
+     */
+    public McpSessionMemory getSessionMemory() {
+        return this.sessionMemory;
+    }
+
     @Override
     public Mono<Void> notifyClient(String sessionId, String method, Object params) {
         return Mono.defer(() -> {
@@ -310,6 +551,10 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
 
     @Override
     public Mono<Void> notifyClients(String method, Object params) {
+        return this.listChangedDebouncer.notifyClients(method, params);
+    }
+
+    private Mono<Void> broadcast(String method, Object params) {
         if (this.sessions.isEmpty()) {
             LOG.debug("No active sessions to broadcast message to");
             return Mono.empty();
@@ -330,10 +575,93 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
         });
     }
 
+    @Override
+    public String serverName() {
+        return this.serverName;
+    }
+
+    @Override
+    public synchronized void drain() {
+        if (!this.isDraining) {
+            this.isDraining = true;
+            LOG.info("Draining MCP transport: {} sessions, {} tool calls in flight",
+                    this.sessions.size(), this.inFlightRequests.count());
+            this.drainGracePeriod = Schedulers.parallel().schedule(
+                    this::endGracePeriod, this.drainTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Last phase of a drain: listening streams are closed and requests of open sessions are answered with
+     * {@code 503} and {@code Retry-After}, so clients reconnect, by then to another node.
+     */
+    private synchronized void endGracePeriod() {
+        if (this.gracePeriodElapsed) {
+            return;
+        }
+        this.gracePeriodElapsed = true;
+        LOG.info("Drain grace period elapsed, closing {} listening streams", this.listeningStreams.size());
+        for (SseStream sse : List.copyOf(this.listeningStreams)) {
+            try {
+                sse.close();
+            } catch (Exception e) {
+                LOG.debug("Failed to close listening stream: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isDraining() {
+        return this.isDraining;
+    }
+
+    @Override
+    public int activeSessions() {
+        return this.sessions.size();
+    }
+
+    @Override
+    public int openStreams() {
+        return this.openStreams.get();
+    }
+
+    @Override
+    public int inFlightCalls() {
+        return this.inFlightRequests.count();
+    }
+
+    /**
+     * Waits until the drain timeout, counted from the start of the drain, elapses for in-flight tool calls to finish.
+     */
+    private void awaitInFlightCalls(long drainStartedAt) {
+        if (this.drainTimeout.isZero()) {
+            return;
+        }
+        try {
+            if (this.inFlightRequests.awaitIdle(drainStartedAt + this.drainTimeout.toNanos())) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        LOG.warn("Drain timeout of {} ms elapsed with {} tool calls in flight", this.drainTimeout.toMillis(),
+                this.inFlightRequests.count());
+    }
+
     @Override
     public Mono<Void> closeGracefully() {
         return Mono.fromRunnable(() -> {
+            // servers of a hub are stopped one by one, they share a drain start to wait for their calls in parallel
+            long drainStartedAt = this.hub != null ? this.hub.drainAll() : System.nanoTime();
+            drain();
+            awaitInFlightCalls(drainStartedAt);
             this.isClosing = true;
+            this.drainGracePeriod.dispose();
+            endGracePeriod();
+            this.listChangedDebouncer.dispose();
+            this.inFlightRequests.cancelAll("Server is shutting down");
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Initiating graceful shutdown with {} active sessions", this.sessions.size());
             }
@@ -347,21 +675,48 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
             });
 
             this.sessions.clear();
+            this.sessionMemory.clear();
+            this.keepAlives.values().forEach(KeepAliveWheel.Registration::cancel);
+            this.keepAlives.clear();
             LOG.debug("Graceful shutdown completed");
         }).then().doOnSuccess(v -> {
-            if (this.keepAliveScheduler != null) {
-                this.keepAliveScheduler.shutdown();
+            if (this.hub != null) {
+                this.hub.detach(this.serverKey);
             }
         });
     }
 
+    /**
+     * Closes all sessions, client connections cannot be carried over a checkpoint. Clients get {@code 404 Not Found}
+     * on their next request and reinitialize against the restored process.
+     */
+    @Override
+    public void beforeCheckpoint() {
+        if (!this.sessions.isEmpty()) {
+            LOG.info("Closing {} sessions before checkpoint", this.sessions.size());
+        }
+        this.inFlightRequests.cancelAll("Server is checkpointing");
+        for (String sessionId : List.copyOf(this.sessions.keySet())) {
+            cancelKeepAlive(sessionId);
+            this.sessionMemory.close(sessionId);
+            McpStreamableServerSession session = this.sessions.remove(sessionId);
+            if (session != null) {
+                try {
+                    session.closeGracefully().block();
+                } catch (Exception e) {
+                    LOG.error("Failed to close session {}: {}", sessionId, e.getMessage());
+                }
+            }
+        }
+    }
+
     private class JoobyStreamableMcpSessionTransport implements McpStreamableServerTransport {
 
         private final String sessionId;
-        private final ServerSentEmitter sse;
+        private final SseStream sse;
         private volatile boolean closed = false;
 
-        JoobyStreamableMcpSessionTransport(String sessionId, ServerSentEmitter sse) {
+        JoobyStreamableMcpSessionTransport(String sessionId, SseStream sse) {
             this.sessionId = sessionId;
             this.sse = sse;
             LOG.debug("Streamable session transport {} initialized with SSE", sessionId);
@@ -396,14 +751,12 @@ public class JoobyStreamableServerTransportProvider implements McpStreamableServ
                     }
 
                     String jsonText = mcpJsonMapper.writeValueAsString(message);
-                    sse.send(new ServerSentMessage(jsonText)
-                            .setId(messageId != null ? messageId : this.sessionId)
-                            .setEvent(MESSAGE_EVENT_TYPE));
+                    sse.send(messageId != null ? messageId : this.sessionId, MESSAGE_EVENT_TYPE, jsonText);
                     LOG.debug("Message sent to session {} with ID {}", this.sessionId, messageId);
                 } catch (Exception e) {
                     LOG.error("Failed to send message to session {}: {}", this.sessionId, e.getMessage());
                     try {
-                        sse.send(SSE_ERROR_EVENT, e.getMessage());
+                        sse.send(null, SSE_ERROR_EVENT, e.getMessage());
                     } catch (Exception errorEx) {
                         LOG.error("Failed to send error to SSE session {}: {}", this.sessionId, errorEx.getMessage());
                     }
@@ -0,0 +1,247 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keep-alive pings for sessions of all MCP servers of an application, driven by one hashed timing wheel.
+ * <p>
+ * Every session gets its own timer, so pings are spread over the interval instead of hitting all sessions
+ * on the same tick. The first ping of a session is placed at an offset derived from its id, which also spreads
+ * sessions that were created in a burst. A session that saw traffic within the interval is not pinged,
+ * and a session whose pings time out {@value #MAX_FAILED_PINGS} times in a row is reported as dead.
+ * Pings that cannot be delivered at all, e.g. to a streamable HTTP session without a listening GET stream,
+ * are not counted: the stream is optional, so such a client is not expected to answer.
+ * <p>
+ * The wheel is advanced by a single daemon thread that is started with the first registration.
+ * Pings are sent asynchronously, the ticker thread never blocks on a session. The thread is stopped before
+ * a CRaC checkpoint and started again after restore, so restored sessions are not pinged in a burst of catch-up ticks.
+ *
+ * @author kliushnichenko
+ */
+@SuppressWarnings("PMD")
+public class KeepAliveWheel implements AutoCloseable, McpCheckpointAware {
+
+    static final int MAX_FAILED_PINGS = 3;
+
+    private static final Logger LOG = LoggerFactory.getLogger(KeepAliveWheel.class);
+    private static final long DEFAULT_TICK_MILLIS = 100;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    private static final TypeRef<Object> OBJECT_TYPE_REF = new TypeRef<>() {
+    };
+
+    private final long tickMillis;
+    private final List<List<Registration>> wheel;
+    private final Queue<Registration> pending = new ConcurrentLinkedQueue<>();
+    private ScheduledExecutorService ticker;
+    private long currentTick;
+    private volatile boolean closed;
+
+    public KeepAliveWheel() {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    KeepAliveWheel(long tickMillis, int wheelSize) {
+        this.tickMillis = tickMillis;
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            this.wheel.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Starts pinging the session every {@code interval} while it is idle.
+     *
+     * @param sessionId session id, used to spread the first ping over the interval
+     * @param session   session to ping
+     * @param interval  keep-alive interval
+     * @param onDead    called once when the session stopped answering pings
+     * @return registration to report traffic with and to cancel the keep-alive
+     */
+    public Registration register(String sessionId, McpSession session, Duration interval, Runnable onDead) {
+        long intervalTicks = Math.max(1, interval.toMillis() / tickMillis);
+        var registration = new Registration(sessionId, session, interval, intervalTicks, onDead);
+        if (closed) {
+            return registration;
+        }
+
+        registration.delayTicks = 1 + Math.floorMod(sessionId.hashCode(), intervalTicks);
+        pending.add(registration);
+        startIfNeeded();
+        return registration;
+    }
+
+    private synchronized void startIfNeeded() {
+        if (ticker != null || closed) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mcp-keep-alive");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void tick() {
+        try {
+            currentTick++;
+            Registration added;
+            while ((added = pending.poll()) != null) {
+                schedule(added, added.delayTicks);
+            }
+
+            List<Registration> expired = new ArrayList<>();
+            Iterator<Registration> bucket = wheel.get((int) (currentTick % wheel.size())).iterator();
+            while (bucket.hasNext()) {
+                Registration registration = bucket.next();
+                if (registration.cancelled) {
+                    bucket.remove();
+                } else if (registration.remainingRounds > 0) {
+                    registration.remainingRounds--;
+                } else {
+                    bucket.remove();
+                    expired.add(registration);
+                }
+            }
+
+            for (Registration registration : expired) {
+                registration.fire();
+                if (!registration.cancelled) {
+                    schedule(registration, registration.intervalTicks);
+                }
+            }
+        } catch (Exception e) {
+            LOG.error("Keep-alive tick failed: {}", e.getMessage());
+        }
+    }
+
+    private void schedule(Registration registration, long delayTicks) {
+        registration.remainingRounds = (delayTicks - 1) / wheel.size();
+        wheel.get((int) ((currentTick + delayTicks) % wheel.size())).add(registration);
+    }
+
+    @Override
+    public synchronized void beforeCheckpoint() {
+        if (ticker == null) {
+            return;
+        }
+        ticker.shutdownNow();
+        try {
+            ticker.awaitTermination(tickMillis * 10, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ticker = null;
+    }
+
+    @Override
+    public synchronized void afterRestore() {
+        if (ticker != null || closed) {
+            return;
+        }
+        boolean hasRegistrations = !pending.isEmpty() || wheel.stream().anyMatch(bucket -> !bucket.isEmpty());
+        if (hasRegistrations) {
+            startIfNeeded();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Keep-alive state of a single session.
+     */
+    public static final class Registration {
+
+        private final String sessionId;
+        private final McpSession session;
+        private final Duration interval;
+        private final long intervalTicks;
+        private final Runnable onDead;
+        private final AtomicInteger failedPings = new AtomicInteger();
+        private volatile long lastActivityNanos = System.nanoTime();
+        private volatile boolean cancelled;
+        private long delayTicks;
+        private long remainingRounds;
+
+        private Registration(String sessionId,
+                             McpSession session,
+                             Duration interval,
+                             long intervalTicks,
+                             Runnable onDead) {
+            this.sessionId = sessionId;
+            this.session = session;
+            this.interval = interval;
+            this.intervalTicks = intervalTicks;
+            this.onDead = onDead;
+        }
+
+        /**
+         * Records traffic on the session, postponing the next ping.
+         */
+        public void touch() {
+            lastActivityNanos = System.nanoTime();
+            failedPings.set(0);
+        }
+
+        /**
+         * Stops pinging the session.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Pings the session if it has been idle for the interval. The slot of the session is kept either way,
+         * so sessions stay spread over the wheel.
+         */
+        private void fire() {
+            if (System.nanoTime() - lastActivityNanos < interval.toNanos()) {
+                return;
+            }
+
+            session.sendRequest(McpSchema.METHOD_PING, null, OBJECT_TYPE_REF)
+                    .timeout(interval)
+                    .subscribe(
+                            result -> failedPings.set(0),
+                            this::onPingFailed
+                    );
+        }
+
+        private void onPingFailed(Throwable error) {
+            if (!(error instanceof TimeoutException)) {
+                LOG.debug("Keep-alive ping could not be delivered to session {}: {}", sessionId, error.getMessage());
+                return;
+            }
+
+            int failures = failedPings.incrementAndGet();
+            LOG.debug("Keep-alive ping {} failed for session {}: {}", failures, sessionId, error.getMessage());
+            if (failures >= MAX_FAILED_PINGS && !cancelled) {
+                cancelled = true;
+                LOG.info("Session {} did not answer {} keep-alive pings, evicting", sessionId, failures);
+                onDead.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Collapses bursts of {@code list_changed} broadcasts into a single one.
+ * The SDK broadcasts a notification on every added or removed feature, so a bulk update of N tools
+ * would otherwise cost N broadcasts to every connected client.
+ *
+ * <p>
+ * A notification is sent once no further change of the same kind happened within the debounce window.
+ * Under a steady stream of changes it is still sent at least every {@value #MAX_WAIT_FACTOR} windows.
+ * Other notifications are passed through as is.
+ * </p>
+ *
+ * @author kliushnichenko
+ */
+class ListChangedDebouncer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListChangedDebouncer.class);
+
+    private static final Set<String> LIST_CHANGED_METHODS = Set.of(
+            McpSchema.METHOD_NOTIFICATION_TOOLS_LIST_CHANGED,
+            McpSchema.METHOD_NOTIFICATION_PROMPTS_LIST_CHANGED,
+            McpSchema.METHOD_NOTIFICATION_RESOURCES_LIST_CHANGED
+    );
+    private static final int MAX_WAIT_FACTOR = 10;
+
+    private final long windowMillis;
+    private final long maxWaitNanos;
+    private final BiFunction<String, Object, Mono<Void>> broadcaster;
+    private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * @param windowMillis debounce window in milliseconds, {@code 0} disables debouncing
+     * @param broadcaster  sends a notification to all connected clients
+     */
+    ListChangedDebouncer(long windowMillis, BiFunction<String, Object, Mono<Void>> broadcaster) {
+        this.windowMillis = windowMillis;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis * MAX_WAIT_FACTOR);
+        this.broadcaster = broadcaster;
+    }
+
+    Mono<Void> notifyClients(String method, Object params) {
+        if (windowMillis == 0 || !LIST_CHANGED_METHODS.contains(method)) {
+            return broadcaster.apply(method, params);
+        }
+        return Mono.fromRunnable(() -> schedule(method, params));
+    }
+
+    void dispose() {
+        pending.values().forEach(p -> p.task.dispose());
+        pending.clear();
+    }
+
+    private void schedule(String method, Object params) {
+        pending.compute(method, (key, current) -> {
+            long now = System.nanoTime();
+            if (current != null) {
+                if (now - current.firstChangeAt >= maxWaitNanos) {
+                    return current;
+                }
+                current.task.dispose();
+            }
+
+            var next = new Pending(current == null ? now : current.firstChangeAt);
+            next.task = Schedulers.parallel()
+                    .schedule(() -> flush(method, params, next), windowMillis, TimeUnit.MILLISECONDS);
+            return next;
+        });
+    }
+
+    private void flush(String method, Object params, Pending scheduled) {
+        if (!pending.remove(method, scheduled)) {
+            return;
+        }
+
+        broadcaster.apply(method, params).subscribe(
+                v -> {
+                },
+                e -> LOG.error("Failed to broadcast {}: {}", method, e.getMessage())
+        );
+    }
+
+    private static final class Pending {
+        private final long firstChangeAt;
+        private volatile Disposable task;
+
+        private Pending(long firstChangeAt) {
+            this.firstChangeAt = firstChangeAt;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+/**
+ * State of the transport that cannot be carried over a CRaC checkpoint, such as client connections and
+ * timer threads. Released before the checkpoint is taken and recreated after the process is restored.
+ *
+ * @author kliushnichenko
+ */
+public interface McpCheckpointAware {
+
+    McpCheckpointAware NONE = () -> {
+    };
+
+    /**
+     * Called before the checkpoint is taken. Requests may still arrive while the checkpoint is being taken.
+     */
+    void beforeCheckpoint();
+
+    /**
+     * Called after the process is restored from the checkpoint.
+     */
+    default void afterRestore() {
+    }
+}
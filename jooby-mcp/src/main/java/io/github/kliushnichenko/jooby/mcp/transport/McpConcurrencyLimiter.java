@@ -0,0 +1,33 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.modelcontextprotocol.spec.McpSchema;
+
+/**
+ * Admission control applied by transports to incoming requests before they are dispatched.
+ * Rejected requests are answered with {@code 503 Service Unavailable}.
+ *
+ * @author kliushnichenko
+ */
+@FunctionalInterface
+public interface McpConcurrencyLimiter {
+
+    McpConcurrencyLimiter NONE = request -> Permit.NOOP;
+
+    /**
+     * @param request incoming request
+     * @return permit to release once the request has been handled, or {@code null} if the request is rejected
+     */
+    Permit tryAcquire(McpSchema.JSONRPCRequest request);
+
+    /**
+     * Slot taken by an admitted request. Releasing it more than once has no effect.
+     */
+    @FunctionalInterface
+    interface Permit {
+
+        Permit NOOP = () -> {
+        };
+
+        void release();
+    }
+}
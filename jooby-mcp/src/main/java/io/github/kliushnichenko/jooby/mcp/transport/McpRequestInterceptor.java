@@ -0,0 +1,39 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.spec.McpSchema;
+
+/**
+ * Gives the server a chance to answer a JSON-RPC request before it is dispatched to the MCP session.
+ * Used for protocol features the SDK doesn't handle the way this module needs, e.g. paginated list
+ * responses.
+ *
+ * @author kliushnichenko
+ */
+@FunctionalInterface
+public interface McpRequestInterceptor {
+
+    McpRequestInterceptor NONE = (transportContext, request) -> null;
+
+    /**
+     * Handles the request if the interceptor is responsible for it.
+     *
+     * @param transportContext transport context extracted from the HTTP request
+     * @param request          incoming JSON-RPC request
+     * @return response to send back to the client, or {@code null} to let the MCP session handle the request
+     */
+    McpSchema.JSONRPCResponse intercept(McpTransportContext transportContext, McpSchema.JSONRPCRequest request);
+
+    /**
+     * Composes this interceptor with another one, consulted when this one doesn't handle the request.
+     *
+     * @param next interceptor to consult next
+     * @return composed interceptor
+     */
+    default McpRequestInterceptor andThen(McpRequestInterceptor next) {
+        return (transportContext, request) -> {
+            McpSchema.JSONRPCResponse response = intercept(transportContext, request);
+            return response != null ? response : next.intercept(transportContext, request);
+        };
+    }
+}
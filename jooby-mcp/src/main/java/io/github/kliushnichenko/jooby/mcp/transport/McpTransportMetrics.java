@@ -0,0 +1,31 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+/**
+ * Connection counters of a transport, read by the server statistics.
+ *
+ * @author kliushnichenko
+ */
+public interface McpTransportMetrics {
+
+    McpTransportMetrics NONE = new McpTransportMetrics() {
+        @Override
+        public int activeSessions() {
+            return 0;
+        }
+
+        @Override
+        public int openStreams() {
+            return 0;
+        }
+    };
+
+    /**
+     * @return number of open sessions
+     */
+    int activeSessions();
+
+    /**
+     * @return number of open SSE streams
+     */
+    int openStreams();
+}
@@ -0,0 +1,267 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+import io.jooby.Context;
+import io.jooby.MediaType;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes JSON responses gzip or deflate compressed, when enabled by {@code compression}, the client accepts
+ * one of the encodings and the payload is at least {@code compressionMinSize} bytes long.
+ *
+ * <p>SSE responses are compressed as a whole stream, the size of the events is not known upfront, so the threshold
+ * does not apply to them. Every event is followed by a {@code SYNC_FLUSH}, which lets the client decode it
+ * as soon as it arrives.</p>
+ *
+ * @author kliushnichenko
+ */
+class ResponseCompressor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseCompressor.class);
+
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String VARY = "Vary";
+
+    private final McpJsonMapper mcpJsonMapper;
+    private final boolean enabled;
+    private final int level;
+    private final int minSize;
+
+    ResponseCompressor(McpJsonMapper mcpJsonMapper, McpServerConfig serverConfig) {
+        this.mcpJsonMapper = mcpJsonMapper;
+        this.enabled = serverConfig.isCompression();
+        this.level = serverConfig.getCompressionLevel();
+        this.minSize = serverConfig.getCompressionMinSize();
+    }
+
+    /**
+     * Writes the response with the MCP JSON mapper, compressed if the client accepts it and it is large enough.
+     * The bytes are sent as they are in either case, so the response is serialized once and compressed and
+     * uncompressed bodies are the same JSON.
+     *
+     * @param ctx      request context
+     * @param response response to send
+     * @return the response itself, if compression is disabled and it is left for Jooby to render,
+     * or the context once the body is sent
+     */
+    Object json(Context ctx, Object response) {
+        if (!enabled) {
+            return response;
+        }
+
+        byte[] json;
+        try {
+            json = mcpJsonMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            LOG.warn("Failed to serialize response, leaving it to the renderer: {}", e.getMessage());
+            return response;
+        }
+
+        ctx.setResponseType(MediaType.json);
+        ctx.setResponseHeader(VARY, ACCEPT_ENCODING);
+        String encoding = negotiate(ctx);
+        if (encoding == null || json.length < minSize) {
+            return ctx.send(json);
+        }
+
+        try {
+            byte[] compressed = compress(json, encoding);
+            ctx.setResponseHeader(CONTENT_ENCODING, encoding);
+            return ctx.send(compressed);
+        } catch (IOException e) {
+            LOG.warn("Failed to compress response, sending it uncompressed: {}", e.getMessage());
+            return ctx.send(json);
+        }
+    }
+
+    /**
+     * Opens a compressed SSE response stream.
+     *
+     * @param ctx request context
+     * @return the event stream, or {@code null} if compression is disabled or not accepted by the client
+     */
+    SseStream eventStream(Context ctx) {
+        if (!enabled) {
+            return null;
+        }
+
+        ctx.setResponseHeader(VARY, ACCEPT_ENCODING);
+        String encoding = negotiate(ctx);
+        if (encoding == null) {
+            return null;
+        }
+
+        ctx.setResponseType(TransportConstants.TEXT_EVENT_STREAM);
+        ctx.setResponseHeader("Cache-Control", "no-cache");
+        ctx.setResponseHeader(CONTENT_ENCODING, encoding);
+        CompressedEventStream stream;
+        try {
+            stream = new CompressedEventStream(compressingStream(ctx.responseStream(), encoding));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open compressed event stream", e);
+        }
+        // runs the close tasks when the client goes away, not only when a write fails
+        ctx.onComplete(completed -> stream.close());
+        return stream;
+    }
+
+    private String negotiate(Context ctx) {
+        return negotiate(ctx.header(ACCEPT_ENCODING).valueOrNull());
+    }
+
+    /**
+     * Wraps the response stream into a compressing one, which does a {@code SYNC_FLUSH} on every flush.
+     */
+    private OutputStream compressingStream(OutputStream out, String encoding) throws IOException {
+        if (GZIP.equals(encoding)) {
+            return new LeveledGzipOutputStream(out, level, true);
+        }
+        return new EndingDeflaterOutputStream(out, new Deflater(level));
+    }
+
+    private byte[] compress(byte[] data, String encoding) throws IOException {
+        var out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        if (GZIP.equals(encoding)) {
+            try (var gzip = new LeveledGzipOutputStream(out, level, false)) {
+                gzip.write(data);
+            }
+        } else {
+            var deflater = new Deflater(level);
+            try (var deflate = new DeflaterOutputStream(out, deflater)) {
+                deflate.write(data);
+            } finally {
+                deflater.end();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Picks gzip or deflate from the {@code Accept-Encoding} header, ignoring encodings with {@code q=0}.
+     */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+
+        boolean deflate = false;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase();
+            if (parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?")) {
+                continue;
+            }
+            if (GZIP.equals(coding)) {
+                return GZIP;
+            }
+            deflate |= DEFLATE.equals(coding);
+        }
+        return deflate ? DEFLATE : null;
+    }
+
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(OutputStream out, int level, boolean syncFlush) throws IOException {
+            super(out, syncFlush);
+            def.setLevel(level);
+        }
+    }
+
+    /**
+     * Releases the native memory of its deflater on close, which {@link DeflaterOutputStream} does only
+     * for the deflater it creates itself.
+     */
+    private static final class EndingDeflaterOutputStream extends DeflaterOutputStream {
+
+        EndingDeflaterOutputStream(OutputStream out, Deflater deflater) {
+            super(out, deflater, true);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                def.end();
+            }
+        }
+    }
+
+    /**
+     * Event stream written to a compressing output stream. It is closed when the request completes,
+     * which includes the client closing the connection, or when a write fails.
+     */
+    private static final class CompressedEventStream implements SseStream {
+
+        private final OutputStream out;
+        private final List<Runnable> closeTasks = new CopyOnWriteArrayList<>();
+        private boolean closed;
+
+        CompressedEventStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public synchronized void send(String id, String event, String data) {
+            if (closed) {
+                return;
+            }
+
+            String payload = data == null ? "" : data;
+            var message = new StringBuilder(payload.length() + 32);
+            if (id != null) {
+                message.append("id:").append(id).append('\n');
+            }
+            message.append("event:").append(event).append('\n');
+            for (String line : payload.split("\n", -1)) {
+                message.append("data:").append(line).append('\n');
+            }
+            message.append('\n');
+
+            try {
+                out.write(message.toString().getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            } catch (IOException e) {
+                LOG.debug("Failed to write compressed event, closing the stream: {}", e.getMessage());
+                close();
+            }
+        }
+
+        @Override
+        public void onClose(Runnable task) {
+            closeTasks.add(task);
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    LOG.debug("Failed to close compressed event stream: {}", e.getMessage());
+                }
+            }
+            closeTasks.forEach(Runnable::run);
+        }
+    }
+}
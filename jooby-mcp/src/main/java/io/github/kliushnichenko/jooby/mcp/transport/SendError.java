@@ -26,6 +26,42 @@ class SendError {
         return send(ctx, err);
     }
 
+    static Context serverIsDraining(Context ctx) {
+        ctx.setResponseCode(StatusCode.SERVICE_UNAVAILABLE);
+        ctx.setResponseHeader("Retry-After", "1");
+        var err = err(
+                new McpSchema.JSONRPCResponse.JSONRPCError(
+                        McpSchema.ErrorCodes.INTERNAL_ERROR,
+                        "Server is draining, no new sessions are accepted",
+                        null)
+        );
+        return send(ctx, err);
+    }
+
+    static Context sessionIsDraining(Context ctx, String sessionId) {
+        ctx.setResponseCode(StatusCode.SERVICE_UNAVAILABLE);
+        ctx.setResponseHeader("Retry-After", "1");
+        var err = err(
+                new McpSchema.JSONRPCResponse.JSONRPCError(
+                        McpSchema.ErrorCodes.INTERNAL_ERROR,
+                        "Server is draining, session %s no longer accepts requests".formatted(sessionId),
+                        null)
+        );
+        return send(ctx, err);
+    }
+
+    static Context overloaded(Context ctx) {
+        ctx.setResponseCode(StatusCode.SERVICE_UNAVAILABLE);
+        ctx.setResponseHeader("Retry-After", "1");
+        var err = err(
+                new McpSchema.JSONRPCResponse.JSONRPCError(
+                        McpSchema.ErrorCodes.INTERNAL_ERROR,
+                        "Server is overloaded, retry later",
+                        null)
+        );
+        return send(ctx, err);
+    }
+
     static Context invalidAcceptHeader(Context ctx, List<MediaType> acceptedTypes) {
         ctx.setResponseCode(StatusCode.BAD_REQUEST);
         var err = err(
@@ -59,6 +95,31 @@ class SendError {
         return send(ctx, err);
     }
 
+    static Context sessionMemoryQuotaExceeded(Context ctx, Object requestId, String sessionId) {
+        ctx.setResponseCode(StatusCode.REQUEST_ENTITY_TOO_LARGE);
+        var err = new McpSchema.JSONRPCResponse(
+                McpSchema.JSONRPC_VERSION,
+                requestId,
+                null,
+                new McpSchema.JSONRPCResponse.JSONRPCError(
+                        McpSchema.ErrorCodes.INVALID_REQUEST,
+                        "Request would take session %s over its memory quota".formatted(sessionId),
+                        null)
+        );
+        return send(ctx, err);
+    }
+
+    static Context serverNotFound(Context ctx, String serverKey) {
+        ctx.setResponseCode(StatusCode.NOT_FOUND);
+        var err = err(
+                new McpSchema.JSONRPCResponse.JSONRPCError(
+                        McpSchema.ErrorCodes.INVALID_REQUEST,
+                        "MCP server %s not found".formatted(serverKey),
+                        null)
+        );
+        return send(ctx, err);
+    }
+
     static Context unknownMsgType(Context ctx, String sessionId) {
         ctx.setResponseCode(StatusCode.BAD_REQUEST);
         var err = err(
@@ -0,0 +1,172 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.github.kliushnichenko.jooby.mcp.McpSessionMemory;
+import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-session accounting of the in-flight request memory of a streamable HTTP transport. Outbound messages are
+ * not charged, the SSE emitter gives no signal once a message has been written.
+ * <p>
+ * Sizes are estimates, not measurements: strings are assumed to be Latin-1 and object headers and map entries
+ * are charged flat amounts. They are meant to tell a runaway session from a regular one, which is enough to
+ * protect the node without walking object graphs on the request path.
+ *
+ * @author kliushnichenko
+ */
+class SessionMemoryTracker implements McpSessionMemory {
+
+    /**
+     * SDK session with its handler references, client capabilities and the keep-alive registration.
+     */
+    static final long SESSION_OVERHEAD = 4096;
+    /**
+     * JSON-RPC request record, cancellation token, response stream transport and reactor context.
+     */
+    static final long REQUEST_OVERHEAD = 512;
+    /**
+     * The request body is held as the received bytes, as a string and as the parsed JSON-RPC message.
+     */
+    static final int BODY_COPIES = 3;
+    static final long STRING_OVERHEAD = 40;
+    static final long MAP_ENTRY_OVERHEAD = 32;
+
+    private final String serverName;
+    private final long quota;
+    private final Map<String, Usage> sessions = new ConcurrentHashMap<>();
+    private final LongAdder quotaRejections = new LongAdder();
+
+    SessionMemoryTracker(String serverName, long quota) {
+        this.serverName = serverName;
+        this.quota = quota;
+    }
+
+    void open(String sessionId, McpSchema.Implementation clientInfo) {
+        String clientName = clientInfo != null ? clientInfo.name() : null;
+        long bytes = SESSION_OVERHEAD + stringSize(clientName) + stringSize(sessionId);
+        sessions.put(sessionId, new Usage(sessionId, clientName, bytes));
+    }
+
+    /**
+     * Charges a session for a request it starts executing.
+     *
+     * @return {@code false} if the request would take the session over its quota, nothing is charged then
+     */
+    boolean reserve(String sessionId, long bytes) {
+        Usage usage = sessions.get(sessionId);
+        if (usage == null) {
+            return true;
+        }
+
+        long inFlight = usage.inFlight.addAndGet(bytes);
+        if (quota > 0 && inFlight > quota) {
+            usage.inFlight.addAndGet(-bytes);
+            quotaRejections.increment();
+            return false;
+        }
+        usage.peak.accumulateAndGet(inFlight, Math::max);
+        usage.requests.incrementAndGet();
+        return true;
+    }
+
+    void release(String sessionId, long bytes) {
+        Usage usage = sessions.get(sessionId);
+        if (usage != null) {
+            usage.inFlight.addAndGet(-bytes);
+            usage.requests.decrementAndGet();
+        }
+    }
+
+    void close(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    void clear() {
+        sessions.clear();
+    }
+
+    /**
+     * Estimates the heap held while a request is executed. Only headers copied by the time the request
+     * arrives are charged, ones read on demand by a handler later are not.
+     */
+    static long estimateRequest(String body, McpTransportContext transportContext) {
+        long bytes = REQUEST_OVERHEAD + (long) BODY_COPIES * body.length();
+        Map<String, String> headers = HeadersContextExtractor.capturedHeaders(transportContext);
+        if (headers != null) {
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                bytes += MAP_ENTRY_OVERHEAD + stringSize(header.getKey()) + stringSize(header.getValue());
+            }
+        }
+        return bytes;
+    }
+
+    private static long stringSize(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + value.length();
+    }
+
+    @Override
+    public String serverName() {
+        return serverName;
+    }
+
+    @Override
+    public long quota() {
+        return quota;
+    }
+
+    @Override
+    public int sessions() {
+        return sessions.size();
+    }
+
+    @Override
+    public long inFlightBytes() {
+        long total = 0;
+        for (Usage usage : sessions.values()) {
+            total += usage.inFlight.get();
+        }
+        return total;
+    }
+
+    @Override
+    public long quotaRejections() {
+        return quotaRejections.sum();
+    }
+
+    @Override
+    public List<SessionUsage> topSessions(int limit) {
+        return sessions.values().stream()
+                .map(Usage::snapshot)
+                .sorted(Comparator.comparingLong(SessionUsage::inFlightBytes).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static final class Usage {
+
+        private final String sessionId;
+        private final String clientName;
+        private final AtomicLong inFlight;
+        private final AtomicLong peak;
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private Usage(String sessionId, String clientName, long bytes) {
+            this.sessionId = sessionId;
+            this.clientName = clientName;
+            this.inFlight = new AtomicLong(bytes);
+            this.peak = new AtomicLong(bytes);
+        }
+
+        private SessionUsage snapshot() {
+            return new SessionUsage(sessionId, clientName, inFlight.get(), peak.get(), requests.get());
+        }
+    }
+}
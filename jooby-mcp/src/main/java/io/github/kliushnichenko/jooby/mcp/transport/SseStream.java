@@ -0,0 +1,57 @@
+package io.github.kliushnichenko.jooby.mcp.transport;
+
+import io.jooby.ServerSentEmitter;
+import io.jooby.ServerSentMessage;
+
+/**
+ * Server-sent events stream of a session, backed by a Jooby {@link ServerSentEmitter}
+ * or by a compressed response stream (see {@link ResponseCompressor#eventStream}).
+ *
+ * @author kliushnichenko
+ */
+interface SseStream {
+
+    /**
+     * Sends an event.
+     *
+     * @param id    event id, may be {@code null}
+     * @param event event type
+     * @param data  event data
+     */
+    void send(String id, String event, String data);
+
+    /**
+     * Registers a task to run once the stream is closed, by either side.
+     *
+     * @param task task to run
+     */
+    void onClose(Runnable task);
+
+    /**
+     * Closes the stream.
+     */
+    void close();
+
+    static SseStream of(ServerSentEmitter sse) {
+        return new SseStream() {
+            @Override
+            public void send(String id, String event, String data) {
+                ServerSentMessage message = new ServerSentMessage(data).setEvent(event);
+                if (id != null) {
+                    message.setId(id);
+                }
+                sse.send(message);
+            }
+
+            @Override
+            public void onClose(Runnable task) {
+                sse.onClose(task::run);
+            }
+
+            @Override
+            public void close() {
+                sse.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package app;
+
+import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
+import io.github.kliushnichenko.jooby.mcp.annotation.ToolArg;
+
+import java.util.List;
+
+/**
+ * @author kliushnichenko
+ */
+public class ArgumentValidationTestCases {
+
+    @Tool(name = "test_tool_validated_args")
+    public String findPets(@ToolArg(name = "name", pattern = "^[a-z]+$", maxLength = 10) String name,
+                           @ToolArg(name = "limit", minimum = 1, maximum = 100) int limit,
+                           @ToolArg(name = "tags", required = false, maxLength = 2) List<String> tags) {
+        return "%s %d %s".formatted(name, limit, tags);
+    }
+}
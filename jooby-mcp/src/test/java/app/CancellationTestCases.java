@@ -0,0 +1,55 @@
+package app;
+
+import io.github.kliushnichenko.jooby.mcp.CancellationToken;
+import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * @author kliushnichenko
+ */
+public class CancellationTestCases {
+
+    public static final CountDownLatch STARTED = new CountDownLatch(1);
+    public static final CountDownLatch INTERRUPTED = new CountDownLatch(1);
+    public static final CountDownLatch DISCONNECT_STARTED = new CountDownLatch(1);
+    public static final CountDownLatch DISCONNECT_INTERRUPTED = new CountDownLatch(1);
+
+    @Tool(name = "test_tool_cancellable")
+    public String waitForCancellation(CancellationToken cancellation) {
+        STARTED.countDown();
+        try {
+            Thread.sleep(30_000);
+            return "completed";
+        } catch (InterruptedException e) {
+            INTERRUPTED.countDown();
+            cancellation.throwIfCancelled();
+            throw new IllegalStateException("Interrupted without cancellation");
+        }
+    }
+
+    @Tool(name = "test_tool_cancelled_on_disconnect")
+    public String waitForDisconnect(CancellationToken cancellation) {
+        DISCONNECT_STARTED.countDown();
+        try {
+            Thread.sleep(30_000);
+            return "completed";
+        } catch (InterruptedException e) {
+            DISCONNECT_INTERRUPTED.countDown();
+            cancellation.throwIfCancelled();
+            throw new IllegalStateException("Interrupted without cancellation");
+        }
+    }
+
+    @Tool(name = "test_tool_timeout", timeout = 200)
+    public String exceedTimeout() throws InterruptedException {
+        Thread.sleep(30_000);
+        return "completed";
+    }
+
+    @Tool(name = "test_tool_remaining_deadline", timeout = 10_000)
+    public long remainingDeadline(CancellationToken cancellation) {
+        return cancellation.remaining().map(Duration::toMillis).orElse(-1L);
+    }
+}
@@ -0,0 +1,14 @@
+package app;
+
+/**
+ * {@link TestApp} with the {@code feature.compression} settings of application.test.conf
+ * and the {@link NumbersResourceProvider}.
+ *
+ * @author kliushnichenko
+ */
+public class CompressionTestApp extends TestApp {
+
+    public CompressionTestApp() {
+        super("compression", new NumbersResourceProvider());
+    }
+}
@@ -0,0 +1,16 @@
+package app;
+
+import io.github.kliushnichenko.jooby.mcp.annotation.McpServer;
+import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
+
+/**
+ * @author kliushnichenko
+ */
+@McpServer("alpha")
+public class HubAlphaTestCases {
+
+    @Tool(name = "alpha_tool")
+    public String alphaTool() {
+        return "alpha";
+    }
+}
@@ -0,0 +1,16 @@
+package app;
+
+import io.github.kliushnichenko.jooby.mcp.annotation.McpServer;
+import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
+
+/**
+ * @author kliushnichenko
+ */
+@McpServer("beta")
+public class HubBetaTestCases {
+
+    @Tool(name = "beta_tool")
+    public String betaTool() {
+        return "beta";
+    }
+}
@@ -0,0 +1,25 @@
+package app;
+
+import io.github.kliushnichenko.jooby.mcp.McpModule;
+import io.jooby.Jooby;
+import io.jooby.jackson.JacksonModule;
+
+/**
+ * Serves the {@code alpha} and {@code beta} servers from the shared hub endpoint, configured in the
+ * {@code feature.hub} block of application.test.conf.
+ *
+ * @author kliushnichenko
+ */
+public class HubTestApp extends Jooby {
+
+    {
+        TestApp.applyFeatureConfig(this, "hub");
+
+        install(new JacksonModule());
+
+        getServices().put(HubAlphaTestCases.class, new HubAlphaTestCases());
+        getServices().put(HubBetaTestCases.class, new HubBetaTestCases());
+
+        install(new McpModule(new AlphaMcpServer(), new BetaMcpServer()));
+    }
+}
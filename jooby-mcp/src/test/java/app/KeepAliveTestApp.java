@@ -0,0 +1,13 @@
+package app;
+
+/**
+ * {@link TestApp} with the {@code feature.keepAlive} settings of application.test.conf.
+ *
+ * @author kliushnichenko
+ */
+public class KeepAliveTestApp extends TestApp {
+
+    public KeepAliveTestApp() {
+        super("keepAlive");
+    }
+}
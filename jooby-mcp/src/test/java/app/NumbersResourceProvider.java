@@ -0,0 +1,43 @@
+package app;
+
+import io.github.kliushnichenko.jooby.mcp.McpResourceProvider;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Emulates a backing store with {@link #TOTAL} rows, listed by offset.
+ */
+public class NumbersResourceProvider implements McpResourceProvider {
+
+    public static final int TOTAL = 5;
+    public static final String PREFIX = "numbers://";
+
+    @Override
+    public String uriPrefix() {
+        return PREFIX;
+    }
+
+    @Override
+    public Page list(String cursor, int limit) {
+        int offset = cursor == null ? 0 : Integer.parseInt(cursor);
+        int end = Math.min(offset + limit, TOTAL);
+
+        List<McpSchema.Resource> resources = new ArrayList<>();
+        for (int i = offset; i < end; i++) {
+            resources.add(McpSchema.Resource.builder()
+                    .uri(PREFIX + i)
+                    .name("number-" + i)
+                    .mimeType("text/plain")
+                    .build());
+        }
+        return new Page(resources, end < TOTAL ? String.valueOf(end) : null);
+    }
+
+    @Override
+    public Object read(String uri) {
+        String number = uri.substring(PREFIX.length());
+        return new McpSchema.TextResourceContents(uri, "text/plain", "Number " + number);
+    }
+}
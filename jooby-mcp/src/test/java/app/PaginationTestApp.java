@@ -0,0 +1,14 @@
+package app;
+
+/**
+ * {@link TestApp} with the {@code feature.pagination} settings of application.test.conf
+ * and the {@link NumbersResourceProvider}.
+ *
+ * @author kliushnichenko
+ */
+public class PaginationTestApp extends TestApp {
+
+    public PaginationTestApp() {
+        super("pagination", new NumbersResourceProvider());
+    }
+}
@@ -0,0 +1,13 @@
+package app;
+
+/**
+ * {@link TestApp} with the {@link NumbersResourceProvider} registered for the default server.
+ *
+ * @author kliushnichenko
+ */
+public class ResourceProviderTestApp extends TestApp {
+
+    public ResourceProviderTestApp() {
+        super(null, new NumbersResourceProvider());
+    }
+}
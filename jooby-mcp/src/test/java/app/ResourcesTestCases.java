@@ -0,0 +1,12 @@
+package app;
+
+import io.github.kliushnichenko.jooby.mcp.annotation.Resource;
+import io.modelcontextprotocol.spec.McpSchema;
+
+public class ResourcesTestCases {
+
+    @Resource(uri = "file:///test/readme.md", name = "readme", mimeType = "text/markdown")
+    public McpSchema.TextResourceContents readme() {
+        return new McpSchema.TextResourceContents("file:///test/readme.md", "text/markdown", "# Readme");
+    }
+}
@@ -0,0 +1,13 @@
+package app;
+
+/**
+ * {@link TestApp} with the {@code feature.sessionMemory} settings of application.test.conf.
+ *
+ * @author kliushnichenko
+ */
+public class SessionMemoryTestApp extends TestApp {
+
+    public SessionMemoryTestApp() {
+        super("sessionMemory");
+    }
+}
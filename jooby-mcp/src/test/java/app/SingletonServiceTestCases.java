@@ -0,0 +1,31 @@
+package app;
+
+import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author kliushnichenko
+ */
+@Singleton
+public class SingletonServiceTestCases {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    /**
+     * Provider to register the service with, counts how many times the service is required from the application.
+     */
+    public Provider<SingletonServiceTestCases> countingProvider() {
+        return () -> {
+            lookups.incrementAndGet();
+            return this;
+        };
+    }
+
+    @Tool(name = "test_singleton_service_lookups")
+    public int lookups() {
+        return lookups.get();
+    }
+}
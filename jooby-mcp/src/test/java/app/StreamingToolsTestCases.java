@@ -0,0 +1,35 @@
+package app;
+
+import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
+import io.github.kliushnichenko.jooby.mcp.annotation.ToolArg;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * @author kliushnichenko
+ */
+public class StreamingToolsTestCases {
+
+    public static final CountDownLatch ENDLESS_FLUX_CANCELLED = new CountDownLatch(1);
+
+    @Tool(name = "test_tool_streaming_stream")
+    public Stream<String> streamLines(@ToolArg(name = "count") int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> "line " + i);
+    }
+
+    @Tool(name = "test_tool_streaming_flux")
+    public Flux<Pet> streamPets() {
+        return Flux.just(new Pet("Buddy"), new Pet("Max"));
+    }
+
+    @Tool(name = "test_tool_streaming_endless_flux", timeout = 300)
+    public Flux<String> streamEndlessTicks() {
+        return Flux.interval(Duration.ofMillis(20))
+                .map(i -> "tick " + i)
+                .doOnCancel(ENDLESS_FLUX_CANCELLED::countDown);
+    }
+}
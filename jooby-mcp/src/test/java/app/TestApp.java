@@ -1,7 +1,9 @@
 package app;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.typesafe.config.Config;
 import io.github.kliushnichenko.jooby.mcp.McpModule;
+import io.github.kliushnichenko.jooby.mcp.McpResourceProvider;
 import io.jooby.Jooby;
 import io.jooby.jackson.JacksonModule;
 import test.SchemaAnnotationTest;
@@ -11,7 +13,20 @@ public class TestApp extends Jooby {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    {
+    public TestApp() {
+        this(null);
+    }
+
+    /**
+     * @param feature           name of the {@code feature} block in application.test.conf, whose settings
+     *                          are layered over the shared ones, or {@code null} to run with the shared settings only
+     * @param resourceProviders resource providers of the default server
+     */
+    protected TestApp(String feature, McpResourceProvider... resourceProviders) {
+        if (feature != null) {
+            applyFeatureConfig(this, feature);
+        }
+
         install(new JacksonModule(objectMapper));
 
         getServices().put(PromptsTestCases.class, new PromptsTestCases());
@@ -19,8 +34,28 @@ public class TestApp extends Jooby {
         getServices().put(ToolsAnnotationsTestCases.class, new ToolsAnnotationsTestCases());
         getServices().put(ToolsStructuredContentTestCases.class, new ToolsStructuredContentTestCases());
         getServices().put(SchemaAnnotationTestCases.class, new SchemaAnnotationTestCases());
+        getServices().put(ResourcesTestCases.class, new ResourcesTestCases());
+        getServices().put(StreamingToolsTestCases.class, new StreamingToolsTestCases());
+        getServices().put(CancellationTestCases.class, new CancellationTestCases());
+        getServices().put(ArgumentValidationTestCases.class, new ArgumentValidationTestCases());
+        getServices().put(SingletonServiceTestCases.class, new SingletonServiceTestCases().countingProvider());
+
+        var mcpModule = new McpModule(new DefaultMcpServer());
+        for (McpResourceProvider resourceProvider : resourceProviders) {
+            mcpModule.resourceProvider(resourceProvider);
+        }
+        install(mcpModule);
+    }
 
-        install(new McpModule(new DefaultMcpServer()));
+    /**
+     * Layers the settings of the {@code feature} block of application.test.conf over the shared ones.
+     *
+     * @param app     application to configure, before any module is installed
+     * @param feature name of the block
+     */
+    public static void applyFeatureConfig(Jooby app, String feature) {
+        Config config = app.getConfig();
+        app.getEnvironment().setConfig(config.getConfig("feature." + feature).withFallback(config));
     }
 
     public static void main(String[] args) {
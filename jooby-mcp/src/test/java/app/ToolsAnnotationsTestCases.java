@@ -2,12 +2,25 @@ package app;
 
 import io.github.kliushnichenko.jooby.mcp.annotation.OutputSchema;
 import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
+import io.github.kliushnichenko.jooby.mcp.annotation.ToolArg;
+import io.github.kliushnichenko.jooby.mcp.transport.HeadersContextExtractor;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author kliushnichenko
  */
 public class ToolsAnnotationsTestCases {
 
+    public static final CountDownLatch IDEMPOTENT_STARTED = new CountDownLatch(1);
+    public static final CountDownLatch IDEMPOTENT_RELEASE = new CountDownLatch(1);
+    public static final AtomicInteger IDEMPOTENT_INVOCATIONS = new AtomicInteger();
+    public static final CountDownLatch TENANT_CALLS = new CountDownLatch(2);
+
     @Tool(name = "test_tool_annotations_are_specified", annotations = @Tool.Annotations(
             title = "With Annotations",
             destructiveHint = false,
@@ -32,4 +45,24 @@ public class ToolsAnnotationsTestCases {
     public String testAnnotationsNotSpecified() {
         return "";
     }
+
+    @Tool(name = "test_tool_idempotent_coalesced", coalesce = true)
+    public String idempotentCoalesced(@ToolArg(name = "region") String region,
+                                      @ToolArg(name = "service") String service) throws InterruptedException {
+        int invocation = IDEMPOTENT_INVOCATIONS.incrementAndGet();
+        IDEMPOTENT_STARTED.countDown();
+        IDEMPOTENT_RELEASE.await(5, TimeUnit.SECONDS);
+        return "invocation " + invocation;
+    }
+
+    @Tool(name = "test_tool_idempotent_per_tenant", annotations = @Tool.Annotations(idempotentHint = true))
+    public String idempotentPerTenant(@ToolArg(name = "region") String region,
+                                      McpSyncServerExchange exchange) throws InterruptedException {
+        // both calls have to run for the latch to open, a shared execution would wait out the timeout
+        TENANT_CALLS.countDown();
+        TENANT_CALLS.await(5, TimeUnit.SECONDS);
+        @SuppressWarnings("unchecked")
+        var headers = (Map<String, String>) exchange.transportContext().get(HeadersContextExtractor.HEADERS_CTX_KEY);
+        return headers.getOrDefault("x-tenant", "none") + "/" + region;
+    }
 }
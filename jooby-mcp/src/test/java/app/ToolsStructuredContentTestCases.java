@@ -1,8 +1,12 @@
 package app;
 
+import io.github.kliushnichenko.jooby.mcp.RawJson;
+import io.github.kliushnichenko.jooby.mcp.annotation.OutputSchema;
 import io.github.kliushnichenko.jooby.mcp.annotation.Tool;
 import io.modelcontextprotocol.spec.McpSchema;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * @author kliushnichenko
  */
@@ -19,4 +23,15 @@ public class ToolsStructuredContentTestCases {
                 .addTextContent("Just a text")
                 .build();
     }
+
+    @Tool(name = "test_tool_raw_json_structured_content")
+    @OutputSchema.From(Pet.class)
+    public RawJson rawJsonStructuredContent() {
+        return RawJson.of("{\"name\":\"Buddy\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Tool(name = "test_tool_raw_json_text")
+    public RawJson rawJsonText() {
+        return RawJson.of("{\"name\":\"Buddy\"}");
+    }
 }
@@ -0,0 +1,13 @@
+package app;
+
+/**
+ * {@link TestApp} with the {@code feature.warmup} settings of application.test.conf.
+ *
+ * @author kliushnichenko
+ */
+public class WarmupTestApp extends TestApp {
+
+    public WarmupTestApp() {
+        super("warmup");
+    }
+}
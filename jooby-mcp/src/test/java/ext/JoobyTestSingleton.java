@@ -4,24 +4,28 @@ import io.jooby.*;
 import lombok.Getter;
 import org.junit.jupiter.api.extension.Extension;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
+ * Starts every application class at most once and shares it between the test classes that use it.
+ *
  * @author kliushnichenko
  */
 @Getter
 public class JoobyTestSingleton implements Extension {
 
-    private static JoobyTestSingleton singletonExtension;
+    private static final Map<Class<? extends Jooby>, JoobyTestSingleton> EXTENSIONS = new ConcurrentHashMap<>();
     private Jooby app;
 
     public static JoobyTestSingleton getExtension(JoobyTestConfig config) {
-        if (singletonExtension == null) {
-            singletonExtension = new JoobyTestSingleton();
-            startApp(singletonExtension, config);
-        }
-        return singletonExtension;
+        return EXTENSIONS.computeIfAbsent(config.app(), app -> {
+            JoobyTestSingleton extension = new JoobyTestSingleton();
+            startApp(extension, config);
+            return extension;
+        });
     }
 
     private static void startApp(JoobyTestSingleton extension, JoobyTestConfig config) {
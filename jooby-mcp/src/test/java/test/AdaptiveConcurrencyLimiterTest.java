@@ -0,0 +1,77 @@
+package test;
+
+import io.github.kliushnichenko.jooby.mcp.transport.AdaptiveConcurrencyLimiter;
+import io.github.kliushnichenko.jooby.mcp.transport.McpConcurrencyLimiter;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.modelcontextprotocol.spec.McpSchema.JSONRPC_VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final McpSchema.JSONRPCRequest TOOL_CALL = new McpSchema.JSONRPCRequest(
+            JSONRPC_VERSION, McpSchema.METHOD_TOOLS_CALL, "1", null);
+    private static final McpSchema.JSONRPCRequest TOOLS_LIST = new McpSchema.JSONRPCRequest(
+            JSONRPC_VERSION, McpSchema.METHOD_TOOLS_LIST, "2", null);
+
+    @Test
+    void tryAcquire_overLimit_shouldReject() {
+        var limiter = new AdaptiveConcurrencyLimiter(2, 10);
+
+        var first = limiter.tryAcquire(TOOL_CALL);
+        var second = limiter.tryAcquire(TOOL_CALL);
+        var third = limiter.tryAcquire(TOOL_CALL);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(third).isNull();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+        assertThat(limiter.accepted()).isEqualTo(2);
+        assertThat(limiter.rejected()).isEqualTo(1);
+
+        first.release();
+        first.release();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_nonToolRequests_shouldAlwaysBeAdmitted() {
+        var limiter = new AdaptiveConcurrencyLimiter(1, 1);
+        limiter.tryAcquire(TOOL_CALL);
+
+        assertThat(limiter.tryAcquire(TOOLS_LIST)).isSameAs(McpConcurrencyLimiter.Permit.NOOP);
+    }
+
+    @Test
+    void release_risingLatency_shouldShrinkLimit() throws InterruptedException {
+        var limiter = new AdaptiveConcurrencyLimiter(10, 100);
+
+        for (int i = 0; i < 20; i++) {
+            runBatch(limiter, 10, 0);
+        }
+        int steadyLimit = limiter.limit();
+
+        for (int i = 0; i < 5; i++) {
+            runBatch(limiter, limiter.limit(), 20);
+        }
+
+        assertThat(limiter.limit()).isLessThan(steadyLimit);
+    }
+
+    private void runBatch(AdaptiveConcurrencyLimiter limiter, int size, long latencyMillis)
+            throws InterruptedException {
+        List<McpConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            permits.add(limiter.tryAcquire(TOOL_CALL));
+        }
+        Thread.sleep(latencyMillis);
+        permits.forEach(McpConcurrencyLimiter.Permit::release);
+    }
+}
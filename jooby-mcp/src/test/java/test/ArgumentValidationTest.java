@@ -0,0 +1,72 @@
+package test;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+public class ArgumentValidationTest extends BaseTest {
+
+    private static final String TOOL_NAME = "test_tool_validated_args";
+
+    @Test
+    void validArguments_shouldInvokeTool() {
+        var result = callTool(Map.of("name", "rex", "limit", 5, "tags", List.of("a")));
+
+        assertThat(result.isError()).isFalse();
+        assertThat(text(result)).isEqualTo("rex 5 [a]");
+    }
+
+    @Test
+    void invalidArguments_shouldBeRejectedWithAllViolations() {
+        var result = callTool(Map.of("name", "Rex1", "limit", 500, "tags", List.of("a", "b", "c")));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).isEqualTo(String.join("; ",
+                "Argument 'name' must match pattern ^[a-z]+$",
+                "Argument 'limit' must be <= 100",
+                "Argument 'tags' must contain at most 2 items"));
+    }
+
+    @Test
+    void wrongArgumentType_shouldBeRejectedBeforeInvocation() {
+        var result = callTool(Map.of("name", "rex", "limit", "five"));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).isEqualTo("Argument 'limit' must be of type integer, got string");
+    }
+
+    @Test
+    void missingArgument_shouldBeRejected() {
+        var result = callTool(Map.of("name", "rex"));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).isEqualTo("Missing required argument: limit");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void argConstraints_shouldBeAdvertisedInInputSchema() {
+        Map<String, Object> properties = findTool(TOOL_NAME).inputSchema().properties();
+
+        assertThat((Map<String, Object>) properties.get("limit"))
+                .containsEntry("minimum", 1)
+                .containsEntry("maximum", 100);
+        assertThat((Map<String, Object>) properties.get("name")).containsEntry("pattern", "^[a-z]+$");
+        assertThat((Map<String, Object>) properties.get("tags")).containsEntry("maxItems", 2);
+    }
+
+    private McpSchema.CallToolResult callTool(Map<String, Object> arguments) {
+        return mcpClient.callTool(new McpSchema.CallToolRequest(TOOL_NAME, arguments));
+    }
+
+    private String text(McpSchema.CallToolResult result) {
+        return ((McpSchema.TextContent) result.content().get(0)).text();
+    }
+}
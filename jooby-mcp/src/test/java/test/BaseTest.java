@@ -17,7 +17,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 public abstract class BaseTest {
 
     protected static final JsonMapper JSON_MAPPER = new JsonMapper();
-    private static final int PORT = 8099;
+    protected static final int PORT = 8099;
     protected static McpSyncClient mcpClient;
 
     @RegisterExtension
@@ -26,11 +26,15 @@ public abstract class BaseTest {
     );
 
     static {
+        mcpClient = newMcpClient(PORT);
+    }
+
+    static McpSyncClient newMcpClient(int port) {
         McpClientTransport transport = HttpClientStreamableHttpTransport
-                .builder(String.format("http://localhost:%d/mcp", PORT))
+                .builder(String.format("http://localhost:%d/mcp", port))
                 .build();
 
-        mcpClient = McpClient.sync(transport).build();
+        return McpClient.sync(transport).build();
     }
 
     protected McpSchema.Tool findTool(String name) {
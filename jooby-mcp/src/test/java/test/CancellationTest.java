@@ -0,0 +1,81 @@
+package test;
+
+import app.CancellationTestCases;
+import io.modelcontextprotocol.spec.HttpHeaders;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+public class CancellationTest extends BaseTest {
+
+    private static final String INITIALIZE = """
+            {"jsonrpc": "2.0", "id": 1, "method": "initialize", "params": {"protocolVersion": "2025-06-18",
+            "capabilities": {}, "clientInfo": {"name": "test", "version": "1.0"}}}""";
+    private static final String INITIALIZED = """
+            {"jsonrpc": "2.0", "method": "notifications/initialized"}""";
+    private static final String CALL_TOOL = """
+            {"jsonrpc": "2.0", "id": 2, "method": "tools/call",
+            "params": {"name": "test_tool_cancellable", "arguments": {}}}""";
+    private static final String CANCELLED = """
+            {"jsonrpc": "2.0", "method": "notifications/cancelled", "params": {"requestId": 2, "reason": "Not needed"}}""";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void cancelledNotification_shouldInterruptRunningTool() throws Exception {
+        String sessionId = post(INITIALIZE, null).headers().firstValue(HttpHeaders.MCP_SESSION_ID).orElseThrow();
+        post(INITIALIZED, sessionId);
+
+        var call = httpClient.sendAsync(request(CALL_TOOL, sessionId), HttpResponse.BodyHandlers.ofString());
+        assertThat(CancellationTestCases.STARTED.await(5, TimeUnit.SECONDS)).isTrue();
+
+        post(CANCELLED, sessionId);
+
+        assertThat(CancellationTestCases.INTERRUPTED.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(call.get(5, TimeUnit.SECONDS).body()).contains("Not needed").doesNotContain("completed");
+    }
+
+    @Test
+    void toolTimeout_shouldReturnTimeoutResult() {
+        var result = mcpClient.callTool(new McpSchema.CallToolRequest("test_tool_timeout", Map.of()));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(((McpSchema.TextContent) result.content().getFirst()).text())
+                .isEqualTo("Tool 'test_tool_timeout' timed out after 200 ms");
+        assertThat(result.meta()).containsEntry("timeoutMillis", 200);
+    }
+
+    @Test
+    void toolTimeout_remainingDeadline_shouldBeExposedToTool() {
+        var result = mcpClient.callTool(new McpSchema.CallToolRequest("test_tool_remaining_deadline", Map.of()));
+
+        long remaining = Long.parseLong(((McpSchema.TextContent) result.content().getFirst()).text());
+        assertThat(remaining).isPositive().isLessThanOrEqualTo(10_000);
+    }
+
+    private HttpResponse<String> post(String body, String sessionId) throws Exception {
+        return httpClient.send(request(body, sessionId), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(String body, String sessionId) {
+        var builder = HttpRequest.newBuilder(URI.create(String.format("http://localhost:%d/mcp", PORT)))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (sessionId != null) {
+            builder.header(HttpHeaders.MCP_SESSION_ID, sessionId);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,226 @@
+package test;
+
+import app.CancellationTestCases;
+import app.CompressionTestApp;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import ext.JoobyTestConfig;
+import ext.JoobyTestSingleton;
+import io.github.kliushnichenko.jooby.mcp.McpServerStats;
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+import io.jooby.exception.StartupException;
+import io.modelcontextprotocol.spec.HttpHeaders;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Compression is enabled with {@code compressionMinSize = 256} in the {@code feature.compression} block
+ * of application.test.conf
+ *
+ * @author kliushnichenko
+ */
+public class CompressionTest {
+
+    private static final int PORT = 8102;
+    private static final String INITIALIZE = """
+            {"jsonrpc": "2.0", "id": 1, "method": "initialize", "params": {"protocolVersion": "2025-06-18",
+            "capabilities": {}, "clientInfo": {"name": "compression-test", "version": "1.0"}}}""";
+    private static final String INITIALIZED = """
+            {"jsonrpc": "2.0", "method": "notifications/initialized"}""";
+    private static final String TOOL_CALL = """
+            {"jsonrpc": "2.0", "id": 2, "method": "tools/call",
+            "params": {"name": "test_tool_annotations_are_not_specified", "arguments": {}}}""";
+    private static final String DISCONNECTED_TOOL_CALL = """
+            {"jsonrpc": "2.0", "id": 5, "method": "tools/call",
+            "params": {"name": "test_tool_cancelled_on_disconnect", "arguments": {}}}""";
+    private static final String LIST_RESOURCES = """
+            {"jsonrpc": "2.0", "id": 3, "method": "resources/list"}""";
+    private static final String LIST_RESOURCES_INVALID_CURSOR = """
+            {"jsonrpc": "2.0", "id": 4, "method": "resources/list", "params": {"cursor": "not-a-cursor"}}""";
+
+    @RegisterExtension
+    static final JoobyTestSingleton jooby = JoobyTestSingleton.getExtension(
+            new JoobyTestConfig(CompressionTestApp.class, PORT)
+    );
+
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+    private static String sessionId;
+
+    @BeforeAll
+    static void initialize() throws Exception {
+        sessionId = post(INITIALIZE, null, null).headers().firstValue(HttpHeaders.MCP_SESSION_ID).orElseThrow();
+        post(INITIALIZED, sessionId, null);
+    }
+
+    @Test
+    void toolCall_clientAcceptsGzip_shouldStreamGzipCompressedEvents() throws Exception {
+        var response = post(TOOL_CALL, sessionId, "gzip, deflate");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("text/event-stream"));
+        assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(response.body()))))
+                .contains("event:message")
+                .contains("\"id\":2")
+                .contains("\"result\"");
+    }
+
+    @Test
+    void toolCall_clientAcceptsDeflateOnly_shouldStreamDeflateCompressedEvents() throws Exception {
+        var response = post(TOOL_CALL, sessionId, "deflate");
+
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("deflate");
+        assertThat(decode(new InflaterInputStream(new ByteArrayInputStream(response.body()))))
+                .contains("event:message")
+                .contains("\"result\"");
+    }
+
+    @Test
+    void toolCall_gzipRefusedByQValue_shouldStreamUncompressedEvents() throws Exception {
+        var response = post(TOOL_CALL, sessionId, "gzip;q=0, br");
+
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(new String(response.body(), StandardCharsets.UTF_8)).contains("\"result\"");
+    }
+
+    @Test
+    void toolCall_noAcceptEncoding_shouldStreamUncompressedEvents() throws Exception {
+        var response = post(TOOL_CALL, sessionId, null);
+
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(new String(response.body(), StandardCharsets.UTF_8)).contains("\"result\"");
+    }
+
+    @Test
+    void jsonResponse_atLeastMinSize_shouldBeCompressed() throws Exception {
+        var response = post(LIST_RESOURCES, sessionId, "gzip");
+
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(response.headers().firstValue("Vary")).hasValue("Accept-Encoding");
+        assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(response.body()))))
+                .contains("numbers://4");
+    }
+
+    @Test
+    void jsonResponse_belowMinSize_shouldNotBeCompressed() throws Exception {
+        var response = post(LIST_RESOURCES_INVALID_CURSOR, sessionId, "gzip");
+
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(response.headers().firstValue("Vary")).hasValue("Accept-Encoding");
+        assertThat(new String(response.body(), StandardCharsets.UTF_8)).contains("Invalid cursor");
+    }
+
+    @Test
+    void toolCall_clientDisconnectsFromCompressedStream_shouldCancelTool() throws Exception {
+        try (Socket socket = send("POST", DISCONNECTED_TOOL_CALL)) {
+            assertThat(CancellationTestCases.DISCONNECT_STARTED.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(CancellationTestCases.DISCONNECT_INTERRUPTED.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void listeningStream_clientDisconnectsFromCompressedStream_shouldBeClosed() throws Exception {
+        McpServerStats stats = jooby.getApp().require(McpServerStats.class);
+        int openStreams = stats.openStreams();
+
+        try (Socket socket = send("GET", null)) {
+            awaitOpenStreams(stats, openStreams + 1);
+        }
+
+        // no keep-alive ping is configured, only the closed connection can release the stream
+        awaitOpenStreams(stats, openStreams);
+    }
+
+    @Test
+    void compressionLevel_outOfRange_shouldFailStartup() {
+        assertThatThrownBy(() -> McpServerConfig.fromConfig(serverConfig(Map.of("compressionLevel", 10))))
+                .isInstanceOf(StartupException.class)
+                .hasMessageContaining("compressionLevel must be between 1 and 9, got: 10");
+        assertThatThrownBy(() -> McpServerConfig.fromConfig(serverConfig(Map.of("compressionLevel", 0))))
+                .isInstanceOf(StartupException.class)
+                .hasMessageContaining("compressionLevel must be between 1 and 9, got: 0");
+    }
+
+    @Test
+    void compressionMinSize_negative_shouldFailStartup() {
+        assertThatThrownBy(() -> McpServerConfig.fromConfig(serverConfig(Map.of("compressionMinSize", -1))))
+                .isInstanceOf(StartupException.class)
+                .hasMessageContaining("compressionMinSize must not be negative, got: -1");
+    }
+
+    private static Config serverConfig(Map<String, Object> settings) {
+        return ConfigFactory.parseMap(settings)
+                .withFallback(ConfigFactory.parseMap(Map.of("name", "compression-test", "version", "1.0.0")));
+    }
+
+    private static void awaitOpenStreams(McpServerStats stats, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stats.openStreams() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(stats.openStreams()).isEqualTo(expected);
+    }
+
+    /**
+     * Sends a gzip accepting request over a plain socket, which the caller closes to drop the connection.
+     */
+    private static Socket send(String method, String body) throws IOException {
+        byte[] content = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        String head = method + " /mcp HTTP/1.1\r\n"
+                + "Host: localhost:" + PORT + "\r\n"
+                + "Content-Type: application/json\r\n"
+                + "Accept: application/json, text/event-stream\r\n"
+                + "Accept-Encoding: gzip\r\n"
+                + HttpHeaders.MCP_SESSION_ID + ": " + sessionId + "\r\n"
+                + "Content-Length: " + content.length + "\r\n\r\n";
+
+        var socket = new Socket("localhost", PORT);
+        socket.setSoLinger(true, 0);
+        OutputStream out = socket.getOutputStream();
+        out.write(head.getBytes(StandardCharsets.US_ASCII));
+        out.write(content);
+        out.flush();
+        return socket;
+    }
+
+    private static String decode(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static HttpResponse<byte[]> post(String body, String sessionId, String acceptEncoding) throws Exception {
+        var builder = HttpRequest.newBuilder(URI.create(String.format("http://localhost:%d/mcp", PORT)))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (sessionId != null) {
+            builder.header(HttpHeaders.MCP_SESSION_ID, sessionId);
+        }
+        if (acceptEncoding != null) {
+            builder.header("Accept-Encoding", acceptEncoding);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
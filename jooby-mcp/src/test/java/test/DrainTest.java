@@ -0,0 +1,174 @@
+package test;
+
+import io.jooby.test.JoobyTest;
+import io.modelcontextprotocol.spec.HttpHeaders;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import reactor.core.scheduler.Schedulers;
+import transport.DrainTransportApp;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static transport.DrainTransportApp.DRAIN_TIMEOUT;
+import static transport.DrainTransportApp.HUB_SERVERS;
+import static transport.DrainTransportApp.STARTED;
+
+/**
+ * Servers are drained and closed by the tests, so they run in order and sessions are opened before any drain.
+ * The tool call started within the drain grace period is still running when the server is closed.
+ *
+ * @author kliushnichenko
+ */
+@JoobyTest(value = DrainTransportApp.class, port = 8105)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DrainTest {
+
+    private static final int PORT = 8105;
+    private static final String INITIALIZE = """
+            {"jsonrpc": "2.0", "id": 1, "method": "initialize", "params": {"protocolVersion": "2025-06-18",
+            "capabilities": {}, "clientInfo": {"name": "drain-test", "version": "1.0"}}}""";
+    private static final String INITIALIZED = """
+            {"jsonrpc": "2.0", "method": "notifications/initialized"}""";
+    private static final String PING = """
+            {"jsonrpc": "2.0", "id": 2, "method": "ping"}""";
+    private static final String WAIT_TOOL_CALL = """
+            {"jsonrpc": "2.0", "id": 3, "method": "tools/call", "params": {"name": "wait_tool", "arguments": {}}}""";
+
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private static String serverSession;
+    private static String alphaSession;
+    private static String betaSession;
+    private static HttpResponse<Stream<String>> listeningStream;
+    private static CompletableFuture<HttpResponse<String>> inFlightCall;
+
+    @BeforeAll
+    static void openSessions() throws Exception {
+        serverSession = initialize("/mcp");
+        alphaSession = initialize("/hub/alpha");
+        betaSession = initialize("/hub/beta");
+    }
+
+    @Test
+    @Order(1)
+    void draining_shouldRejectNewSessionsAndKeepServingOpenOnes() throws Exception {
+        DrainTransportApp.release = new CountDownLatch(1);
+        DrainTransportApp.server.drain();
+
+        assertThat(post("/mcp", INITIALIZE, null).statusCode()).isEqualTo(503);
+        assertThat(post("/mcp", PING, serverSession).statusCode()).isEqualTo(200);
+
+        listeningStream = httpClient.send(getRequest(serverSession), HttpResponse.BodyHandlers.ofLines());
+        assertThat(listeningStream.statusCode()).isEqualTo(200);
+
+        var unknownSession = httpClient.send(getRequest("unknown"), HttpResponse.BodyHandlers.ofString());
+        assertThat(unknownSession.statusCode()).isEqualTo(404);
+
+        inFlightCall = postAsync("/mcp", WAIT_TOOL_CALL, serverSession);
+        assertThat(STARTED.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @Order(2)
+    void gracePeriodElapsed_shouldCloseListeningStreamsAndAskToRetry() throws Exception {
+        var streamEnded = CompletableFuture.supplyAsync(() -> listeningStream.body().count());
+        streamEnded.get(DRAIN_TIMEOUT * 5L, TimeUnit.MILLISECONDS);
+
+        var ping = post("/mcp", PING, serverSession);
+        assertThat(ping.statusCode()).isEqualTo(503);
+        assertThat(ping.headers().firstValue("Retry-After")).isPresent();
+
+        var listen = httpClient.send(getRequest(serverSession), HttpResponse.BodyHandlers.ofString());
+        assertThat(listen.statusCode()).isEqualTo(503);
+
+        assertThat(inFlightCall).isNotDone();
+    }
+
+    @Test
+    @Order(3)
+    void closeGracefully_shouldWaitForInFlightToolCall() throws Exception {
+        var closed = DrainTransportApp.server.closeGracefully()
+                .subscribeOn(Schedulers.boundedElastic())
+                .toFuture();
+
+        TimeUnit.MILLISECONDS.sleep(DRAIN_TIMEOUT / 4);
+        assertThat(closed).isNotDone();
+
+        DrainTransportApp.release.countDown();
+        closed.get(DRAIN_TIMEOUT, TimeUnit.MILLISECONDS);
+        assertThat(inFlightCall.get(5, TimeUnit.SECONDS).body()).contains("released");
+    }
+
+    @Test
+    @Order(4)
+    void closeGracefully_hubServers_shouldShareDrainTimeout() throws Exception {
+        DrainTransportApp.release = new CountDownLatch(1);
+        var alphaCall = postAsync("/hub/alpha", WAIT_TOOL_CALL, alphaSession);
+        var betaCall = postAsync("/hub/beta", WAIT_TOOL_CALL, betaSession);
+        assertThat(STARTED.tryAcquire(2, 5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            long start = System.nanoTime();
+            HUB_SERVERS.get("alpha").closeGracefully().block();
+            HUB_SERVERS.get("beta").closeGracefully().block();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // stopped one after another, yet both waited within the same drain timeout
+            assertThat(elapsedMillis).isBetween((long) DRAIN_TIMEOUT - 100, DRAIN_TIMEOUT * 3L / 2);
+        } finally {
+            DrainTransportApp.release.countDown();
+            alphaCall.cancel(true);
+            betaCall.cancel(true);
+        }
+    }
+
+    private static String initialize(String path) throws Exception {
+        String sessionId = post(path, INITIALIZE, null).headers()
+                .firstValue(HttpHeaders.MCP_SESSION_ID)
+                .orElseThrow();
+        post(path, INITIALIZED, sessionId);
+        return sessionId;
+    }
+
+    private static URI endpoint(String path) {
+        return URI.create(String.format("http://localhost:%d%s", PORT, path));
+    }
+
+    private static HttpRequest getRequest(String sessionId) {
+        return HttpRequest.newBuilder(endpoint("/mcp"))
+                .header("Accept", "text/event-stream")
+                .header(HttpHeaders.MCP_SESSION_ID, sessionId)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest postRequest(String path, String body, String sessionId) {
+        var builder = HttpRequest.newBuilder(endpoint(path))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (sessionId != null) {
+            builder.header(HttpHeaders.MCP_SESSION_ID, sessionId);
+        }
+        return builder.build();
+    }
+
+    private static HttpResponse<String> post(String path, String body, String sessionId) throws Exception {
+        return httpClient.send(postRequest(path, body, sessionId), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static CompletableFuture<HttpResponse<String>> postAsync(String path, String body, String sessionId) {
+        return httpClient.sendAsync(postRequest(path, body, sessionId), HttpResponse.BodyHandlers.ofString());
+    }
+}
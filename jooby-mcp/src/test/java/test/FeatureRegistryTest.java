@@ -0,0 +1,78 @@
+package test;
+
+import io.github.kliushnichenko.jooby.mcp.McpFeatureRegistry;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+public class FeatureRegistryTest extends BaseTest {
+
+    private static final McpSchema.JsonSchema ECHO_SCHEMA = new McpSchema.JsonSchema(
+            "object",
+            Map.of("text", Map.of("type", "string")),
+            List.of("text"),
+            null,
+            null,
+            null
+    );
+
+    @Test
+    void addTool_shouldBeListedAndCallable_removeTool_shouldBeUnlisted() {
+        var registry = jooby.getApp().require(McpFeatureRegistry.class);
+        var tool = McpSchema.Tool.builder()
+                .name("runtime_echo")
+                .inputSchema(ECHO_SCHEMA)
+                .build();
+
+        registry.addTool(tool, (args, exchange) -> "echo: " + args.get("text"));
+
+        assertThat(toolNames()).contains("runtime_echo");
+        var result = mcpClient.callTool(new McpSchema.CallToolRequest("runtime_echo", Map.of("text", "hi")));
+        assertThat(((McpSchema.TextContent) result.content().getFirst()).text()).isEqualTo("echo: hi");
+
+        registry.removeTool("runtime_echo");
+
+        assertThat(toolNames()).doesNotContain("runtime_echo");
+    }
+
+    @Test
+    void addTool_missingRequiredArgument_shouldReturnError() {
+        var registry = jooby.getApp().require(McpFeatureRegistry.class);
+        var tool = McpSchema.Tool.builder()
+                .name("runtime_echo_required")
+                .inputSchema(ECHO_SCHEMA)
+                .build();
+        registry.addTool(tool, (args, exchange) -> args.get("text"));
+
+        var result = mcpClient.callTool(new McpSchema.CallToolRequest("runtime_echo_required", Map.of()));
+
+        assertThat(result.isError()).isTrue();
+        registry.removeTool("runtime_echo_required");
+    }
+
+    @Test
+    void addResource_shouldBeReadable() {
+        var registry = jooby.getApp().require(McpFeatureRegistry.class);
+        var resource = McpSchema.Resource.builder()
+                .uri("runtime://greeting")
+                .name("greeting")
+                .build();
+
+        registry.addResource(resource, uri -> new McpSchema.TextResourceContents(uri, "text/plain", "hello"));
+
+        var result = mcpClient.readResource(new McpSchema.ReadResourceRequest("runtime://greeting"));
+        assertThat(((McpSchema.TextResourceContents) result.contents().getFirst()).text()).isEqualTo("hello");
+        registry.removeResource("runtime://greeting");
+    }
+
+    private List<String> toolNames() {
+        return mcpClient.listTools().tools().stream().map(McpSchema.Tool::name).toList();
+    }
+}
@@ -0,0 +1,93 @@
+package test;
+
+import io.github.kliushnichenko.jooby.mcp.transport.HeadersContextExtractor;
+import io.jooby.Route;
+import io.jooby.test.MockContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.kliushnichenko.jooby.mcp.transport.HeadersContextExtractor.HEADERS_CTX_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+class HeadersContextExtractorTest {
+
+    @Test
+    void extract_withAllowList_shouldCaptureListedHeadersOnly() {
+        var ctx = new MockContext()
+                .setRequestHeader("Authorization", "Bearer token")
+                .setRequestHeader("User-Agent", "test-client");
+
+        var transportContext = new HeadersContextExtractor(List.of("Authorization", "X-Tenant")).extract(ctx);
+
+        assertThat(transportContext.get(HEADERS_CTX_KEY)).isEqualTo(Map.of("Authorization", "Bearer token"));
+    }
+
+    @Test
+    void extract_withAllowList_shouldLookUpHeadersIgnoringCase() {
+        var ctx = new MockContext().setRequestHeader("X-Tenant", "acme");
+
+        var transportContext = new HeadersContextExtractor(List.of("x-tenant")).extract(ctx);
+
+        @SuppressWarnings("unchecked")
+        var headers = (Map<String, String>) transportContext.get(HEADERS_CTX_KEY);
+        assertThat(headers).containsEntry("X-TENANT", "acme").containsEntry("x-tenant", "acme");
+    }
+
+    @Test
+    void extract_withEmptyAllowList_shouldCaptureNothing() {
+        var ctx = new MockContext().setRequestHeader("Authorization", "Bearer token");
+
+        var transportContext = new HeadersContextExtractor(List.of()).extract(ctx);
+
+        assertThat(transportContext.get(HEADERS_CTX_KEY)).isEqualTo(Map.of());
+    }
+
+    @Test
+    void extract_withoutAllowList_shouldReadAllHeadersOnDemand() {
+        var ctx = new CompletableMockContext();
+        ctx.setRequestHeader("Authorization", "Bearer token");
+
+        var transportContext = new HeadersContextExtractor(null).extract(ctx);
+        ctx.setRequestHeader("X-Tenant", "acme");
+
+        @SuppressWarnings("unchecked")
+        var headers = (Map<String, String>) transportContext.get(HEADERS_CTX_KEY);
+        assertThat(headers).containsEntry("authorization", "Bearer token").containsEntry("X-Tenant", "acme");
+        assertThat(transportContext.get(HEADERS_CTX_KEY)).isSameAs(headers);
+        assertThat(transportContext.get("OTHER")).isNull();
+    }
+
+    @Test
+    void extract_withoutAllowList_readAfterRequestCompleted_shouldNotTouchRequest() throws Exception {
+        var ctx = new CompletableMockContext();
+        ctx.setRequestHeader("Authorization", "Bearer token");
+
+        var transportContext = new HeadersContextExtractor(null).extract(ctx);
+        ctx.complete();
+
+        assertThat(transportContext.get(HEADERS_CTX_KEY)).isEqualTo(Map.of());
+    }
+
+    private static final class CompletableMockContext extends MockContext {
+
+        private final List<Route.Complete> completeListeners = new ArrayList<>();
+
+        @Override
+        public MockContext onComplete(Route.Complete task) {
+            completeListeners.add(task);
+            return this;
+        }
+
+        void complete() throws Exception {
+            for (Route.Complete listener : completeListeners) {
+                listener.apply(this);
+            }
+        }
+    }
+}
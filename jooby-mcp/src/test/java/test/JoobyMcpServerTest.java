@@ -0,0 +1,107 @@
+package test;
+
+import io.github.kliushnichenko.jooby.mcp.JoobyMcpServer;
+import io.github.kliushnichenko.jooby.mcp.internal.ToolSpec;
+import io.jooby.Jooby;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author kliushnichenko
+ */
+class JoobyMcpServerTest {
+
+    private final JoobyMcpServer server = new NameDispatchingServer();
+
+    @Test
+    void invokeToolById_withoutOverride_shouldFallBackToName() {
+        assertThat(server.invokeTool(1, Map.of("value", 42), null)).isEqualTo("second 42");
+    }
+
+    @Test
+    void invokeToolById_unknownId_shouldFailWithMcpError() {
+        assertThatThrownBy(() -> server.invokeTool(7, Map.of(), null))
+                .isInstanceOf(McpError.class)
+                .hasMessageContaining("Unknown tool id: 7");
+    }
+
+    /**
+     * Hand-written server implementing only the name-based dispatch.
+     */
+    private static final class NameDispatchingServer implements JoobyMcpServer {
+
+        private final Map<String, ToolSpec> tools = Map.of(
+                "first", ToolSpec.builder().id(0).name("first").build(),
+                "second", ToolSpec.builder().id(1).name("second").build()
+        );
+
+        @Override
+        public String getServerKey() {
+            return "default";
+        }
+
+        @Override
+        public void init(Jooby app, McpJsonMapper mcpJsonMapper) {
+            // nothing to initialize
+        }
+
+        @Override
+        public Object invokeTool(String toolName, Map<String, Object> args, McpSyncServerExchange exchange) {
+            return toolName + " " + args.get("value");
+        }
+
+        @Override
+        public Object invokePrompt(String promptName, Map<String, Object> args, McpSyncServerExchange exchange) {
+            return null;
+        }
+
+        @Override
+        public Object invokeCompletion(String identifier, String argumentName, String input) {
+            return null;
+        }
+
+        @Override
+        public Object readResource(String uri) {
+            return null;
+        }
+
+        @Override
+        public Object readResourceByTemplate(String uri, Map<String, Object> templateArgs) {
+            return null;
+        }
+
+        @Override
+        public Map<String, ToolSpec> getTools() {
+            return tools;
+        }
+
+        @Override
+        public Map<String, McpSchema.Prompt> getPrompts() {
+            return Map.of();
+        }
+
+        @Override
+        public List<McpSchema.Resource> getResources() {
+            return List.of();
+        }
+
+        @Override
+        public List<McpSchema.ResourceTemplate> getResourceTemplates() {
+            return List.of();
+        }
+
+        @Override
+        public List<McpSchema.CompleteReference> getCompletions() {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package test;
+
+import app.KeepAliveTestApp;
+import ext.JoobyTestConfig;
+import ext.JoobyTestSingleton;
+import io.modelcontextprotocol.spec.HttpHeaders;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keep-alive pings every second, {@code keepAliveInterval = 1} in the {@code feature.keepAlive} block
+ * of application.test.conf
+ *
+ * @author kliushnichenko
+ */
+public class KeepAliveTest {
+
+    private static final int PORT = 8104;
+    private static final String INITIALIZE = """
+            {"jsonrpc": "2.0", "id": 1, "method": "initialize", "params": {"protocolVersion": "2025-06-18",
+            "capabilities": {}, "clientInfo": {"name": "keep-alive-test", "version": "1.0"}}}""";
+    private static final String INITIALIZED = """
+            {"jsonrpc": "2.0", "method": "notifications/initialized"}""";
+    private static final String PING = """
+            {"jsonrpc": "2.0", "id": 2, "method": "ping"}""";
+
+    @RegisterExtension
+    static final JoobyTestSingleton jooby = JoobyTestSingleton.getExtension(
+            new JoobyTestConfig(KeepAliveTestApp.class, PORT)
+    );
+
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void postOnlyClient_idlePastThreeIntervals_shouldKeepSession() throws Exception {
+        String sessionId = initialize();
+
+        TimeUnit.SECONDS.sleep(5);
+
+        assertThat(post(PING, sessionId).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void listeningClient_notAnsweringPings_shouldBeEvicted() throws Exception {
+        String sessionId = initialize();
+        var request = HttpRequest.newBuilder(endpoint())
+                .header("Accept", "text/event-stream")
+                .header(HttpHeaders.MCP_SESSION_ID, sessionId)
+                .GET()
+                .build();
+        var stream = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofLines());
+
+        try {
+            TimeUnit.SECONDS.sleep(7);
+
+            assertThat(post(PING, sessionId).statusCode()).isEqualTo(404);
+        } finally {
+            stream.cancel(true);
+        }
+    }
+
+    private static String initialize() throws Exception {
+        String sessionId = post(INITIALIZE, null).headers().firstValue(HttpHeaders.MCP_SESSION_ID).orElseThrow();
+        post(INITIALIZED, sessionId);
+        return sessionId;
+    }
+
+    private static URI endpoint() {
+        return URI.create(String.format("http://localhost:%d/mcp", PORT));
+    }
+
+    private static HttpResponse<String> post(String body, String sessionId) throws Exception {
+        var builder = HttpRequest.newBuilder(endpoint())
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (sessionId != null) {
+            builder.header(HttpHeaders.MCP_SESSION_ID, sessionId);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,143 @@
+package test;
+
+import io.github.kliushnichenko.jooby.mcp.transport.KeepAliveWheel;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+class KeepAliveWheelTest {
+
+    private static final Duration INTERVAL = Duration.ofMillis(300);
+
+    private final KeepAliveWheel wheel = new KeepAliveWheel();
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void register_idleSession_shouldBePinged() throws InterruptedException {
+        var session = new PingCountingSession(Mono.empty());
+
+        wheel.register(UUID.randomUUID().toString(), session, INTERVAL, () -> {
+        });
+
+        assertThat(session.pinged.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void touch_activeSession_shouldNotBePinged() throws InterruptedException {
+        var session = new PingCountingSession(Mono.empty());
+        var registration = wheel.register(UUID.randomUUID().toString(), session, INTERVAL, () -> {
+        });
+
+        for (int i = 0; i < 20; i++) {
+            registration.touch();
+            Thread.sleep(50);
+        }
+
+        assertThat(session.pings.get()).isZero();
+    }
+
+    @Test
+    void register_unresponsiveSession_shouldBeReportedDead() throws InterruptedException {
+        var session = new PingCountingSession(Mono.never());
+        var dead = new CountDownLatch(1);
+
+        wheel.register(UUID.randomUUID().toString(), session, INTERVAL, dead::countDown);
+
+        assertThat(dead.await(5, TimeUnit.SECONDS)).isTrue();
+        int pingsAtEviction = session.pings.get();
+        assertThat(pingsAtEviction).isGreaterThanOrEqualTo(3);
+        Thread.sleep(INTERVAL.toMillis() * 2);
+        assertThat(session.pings.get()).isEqualTo(pingsAtEviction);
+    }
+
+    @Test
+    void register_sessionWithoutListeningStream_shouldNotBeReportedDead() throws InterruptedException {
+        var session = new PingCountingSession(Mono.error(new IllegalStateException("Stream unavailable")));
+        var dead = new CountDownLatch(1);
+
+        wheel.register(UUID.randomUUID().toString(), session, INTERVAL, dead::countDown);
+
+        assertThat(dead.await(INTERVAL.toMillis() * 6, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(session.pings.get()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void cancel_shouldStopPings() throws InterruptedException {
+        var session = new PingCountingSession(Mono.empty());
+        var registration = wheel.register(UUID.randomUUID().toString(), session, INTERVAL, () -> {
+        });
+
+        registration.cancel();
+        Thread.sleep(INTERVAL.toMillis() * 3);
+
+        assertThat(session.pings.get()).isZero();
+    }
+
+    @Test
+    void beforeCheckpoint_shouldPausePingsUntilRestore() throws InterruptedException {
+        var session = new PingCountingSession(Mono.empty());
+        wheel.register(UUID.randomUUID().toString(), session, INTERVAL, () -> {
+        });
+        assertThat(session.pinged.await(5, TimeUnit.SECONDS)).isTrue();
+
+        wheel.beforeCheckpoint();
+        int pingsAtCheckpoint = session.pings.get();
+        Thread.sleep(INTERVAL.toMillis() * 3);
+        assertThat(session.pings.get()).isEqualTo(pingsAtCheckpoint);
+
+        wheel.afterRestore();
+        Thread.sleep(INTERVAL.toMillis() * 3);
+        assertThat(session.pings.get()).isGreaterThan(pingsAtCheckpoint);
+    }
+
+    private static class PingCountingSession implements McpSession {
+
+        private final Mono<Object> pingResult;
+        private final AtomicInteger pings = new AtomicInteger();
+        private final CountDownLatch pinged = new CountDownLatch(1);
+
+        PingCountingSession(Mono<Object> pingResult) {
+            this.pingResult = pingResult;
+        }
+
+        @Override
+        public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
+            pings.incrementAndGet();
+            pinged.countDown();
+            @SuppressWarnings("unchecked")
+            Mono<T> result = (Mono<T>) pingResult;
+            return result;
+        }
+
+        @Override
+        public Mono<Void> sendNotification(String method, Object params) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> closeGracefully() {
+            return Mono.empty();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package test;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.github.kliushnichenko.jooby.mcp.internal.McpJsonMappers;
+import io.jooby.exception.StartupException;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.jackson2.JacksonMcpJsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author kliushnichenko
+ */
+class McpJsonMappersTest {
+
+    private static final String BLACKBIRD_PACKAGE = "com.fasterxml.jackson.module.blackbird.";
+
+    @Test
+    void create_default_shouldUsePlainJackson() {
+        var mapper = (JacksonMcpJsonMapper) McpJsonMappers.create(null);
+
+        assertThat(mapper.getObjectMapper().getRegisteredModuleIds())
+                .doesNotContain(new BlackbirdModule().getRegistrationId());
+    }
+
+    @Test
+    void create_blackbird_shouldRegisterBlackbirdModule() throws Exception {
+        var mapper = (JacksonMcpJsonMapper) McpJsonMappers.create("Blackbird");
+
+        assertThat(mapper.getObjectMapper().getRegisteredModuleIds())
+                .contains(new BlackbirdModule().getRegistrationId());
+        Sample sample = mapper.readValue("{\"name\":\"Buddy\",\"weight\":12.5}", Sample.class);
+        assertThat(sample.getName()).isEqualTo("Buddy");
+        assertThat(mapper.writeValueAsString(sample)).isEqualTo("{\"name\":\"Buddy\",\"weight\":12.5}");
+    }
+
+    @Test
+    void create_unknownBackend_shouldFailStartup() {
+        assertThatThrownBy(() -> McpJsonMappers.create("gson"))
+                .isInstanceOf(StartupException.class)
+                .hasMessageContaining("Unknown jsonMapper value: gson");
+    }
+
+    @Test
+    void create_blackbirdWithoutModule_shouldFailStartupWithHint() throws Exception {
+        try (var classLoader = new WithoutBlackbirdClassLoader()) {
+            Method create = classLoader.loadClass(McpJsonMappers.class.getName()).getMethod("create", String.class);
+
+            assertThat(create.invoke(null, "jackson")).isInstanceOf(McpJsonMapper.class);
+            assertThatThrownBy(() -> create.invoke(null, "blackbird"))
+                    .isInstanceOf(InvocationTargetException.class)
+                    .cause()
+                    .isInstanceOf(StartupException.class)
+                    .hasMessageContaining("jackson-module-blackbird");
+        }
+    }
+
+    public static class Sample {
+
+        private String name;
+        private double weight;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public void setWeight(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Loads the mapper factory on its own and hides the Blackbird module from it, as if the optional dependency
+     * was left out.
+     */
+    private static final class WithoutBlackbirdClassLoader extends URLClassLoader {
+
+        private static final String INTERNAL_PACKAGE = McpJsonMappers.class.getPackageName() + ".";
+
+        WithoutBlackbirdClassLoader() {
+            super(new URL[]{McpJsonMappers.class.getProtectionDomain().getCodeSource().getLocation()},
+                    McpJsonMappersTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith(BLACKBIRD_PACKAGE)) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.startsWith(INTERNAL_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : findClass(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package test;
+
+import app.Pet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kliushnichenko.jooby.mcp.internal.McpToolHandler;
+import io.github.kliushnichenko.jooby.mcp.internal.McpToolWarmup;
+import io.github.kliushnichenko.jooby.mcp.internal.ToolSpec;
+import io.modelcontextprotocol.json.McpJsonDefaults;
+import io.modelcontextprotocol.json.jackson2.JacksonMcpJsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+class McpToolWarmupTest {
+
+    private static final int ITERATIONS = 5;
+    private static final String NAME_INPUT = """
+            {"type": "object", "properties": {"name": {"type": "string"}}, "required": ["name"]}""";
+
+    private final JacksonMcpJsonMapper jsonMapper = new JacksonMcpJsonMapper(new ObjectMapper());
+    private final McpToolWarmup warmup = new McpToolWarmup(
+            jsonMapper,
+            McpJsonDefaults.getSchemaValidator(),
+            new McpToolHandler(jsonMapper, null)
+    );
+
+    @Test
+    void run_shouldWalkEveryToolThroughAllIterations() {
+        var validations = new AtomicInteger();
+        var bindings = new AtomicInteger();
+        var bean = ToolSpec.builder()
+                .name("bean_tool")
+                .inputSchema(NAME_INPUT)
+                .outputSchema("""
+                        {"type": "object", "properties": {"name": {"type": "string"}}}""")
+                .resultType(SampleResult.class)
+                .argumentsValidator(args -> {
+                    validations.incrementAndGet();
+                    return List.of();
+                })
+                .argumentsBinder(args -> {
+                    bindings.incrementAndGet();
+                    return new Object[]{(String) args.get("name")};
+                })
+                .build();
+        var withoutDefaultConstructor = ToolSpec.builder()
+                .name("pet_tool")
+                .inputSchema(NAME_INPUT)
+                .resultType(Pet.class)
+                // the sample is no int, a binding the tool would reject does not skip it
+                .argumentsBinder(args -> new Object[]{(int) args.get("name")})
+                .build();
+        var text = ToolSpec.builder()
+                .name("text_tool")
+                .inputSchema("{\"type\": \"object\"}")
+                .build();
+
+        var summary = warmup.run(List.of(bean, withoutDefaultConstructor, text), ITERATIONS);
+
+        assertThat(summary.warmedTools()).containsExactly("bean_tool", "pet_tool", "text_tool");
+        assertThat(summary.skippedTools()).isEmpty();
+        assertThat(validations).hasValue(ITERATIONS);
+        assertThat(bindings).hasValue(ITERATIONS);
+    }
+
+    @Test
+    void run_failingTools_shouldBeSkipped() {
+        var validations = new AtomicInteger();
+        var brokenSchema = ToolSpec.builder()
+                .name("broken_schema_tool")
+                .inputSchema("not a schema")
+                .build();
+        var unwritableResult = ToolSpec.builder()
+                .name("unwritable_result_tool")
+                .inputSchema(NAME_INPUT)
+                .resultType(EmptyResult.class)
+                .argumentsValidator(args -> {
+                    validations.incrementAndGet();
+                    return List.of();
+                })
+                .build();
+        var text = ToolSpec.builder()
+                .name("text_tool")
+                .inputSchema(NAME_INPUT)
+                .build();
+
+        var summary = warmup.run(List.of(brokenSchema, unwritableResult, text), ITERATIONS);
+
+        assertThat(summary.warmedTools()).containsExactly("text_tool");
+        assertThat(summary.skippedTools()).containsExactlyInAnyOrder("broken_schema_tool", "unwritable_result_tool");
+        assertThat(validations).hasValue(1);
+    }
+
+    public static class SampleResult {
+        public String name;
+    }
+
+    /**
+     * Has no properties, Jackson refuses to write it.
+     */
+    public static class EmptyResult {
+    }
+}
@@ -0,0 +1,65 @@
+package test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reflection metadata written by the annotation processor for the servers of the test app.
+ *
+ * @author kliushnichenko
+ */
+public class NativeImageMetadataTest {
+
+    private static final String METADATA_PATH = "META-INF/native-image/jooby-mcp/%s/reflect-config.json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void defaultServer_shouldRegisterClassesOfToolResults() throws IOException {
+        JsonNode config = readMetadata("default");
+
+        assertThat(classNames(config)).contains("app.Pet");
+        assertThat(config).allSatisfy(entry -> {
+            assertThat(entry.get("allDeclaredConstructors").asBoolean()).isTrue();
+            assertThat(entry.get("allDeclaredMethods").asBoolean()).isTrue();
+            assertThat(entry.get("allDeclaredFields").asBoolean()).isTrue();
+        });
+    }
+
+    @Test
+    void defaultServer_shouldSkipLibraryClasses() throws IOException {
+        List<String> classNames = classNames(readMetadata("default"));
+
+        assertThat(classNames).noneMatch(name -> name.startsWith("java."));
+        assertThat(classNames).noneMatch(name -> name.startsWith("io.modelcontextprotocol."));
+        assertThat(classNames).noneMatch(name -> name.startsWith("reactor."));
+        assertThat(classNames).noneMatch(name -> name.startsWith("io.github.kliushnichenko.jooby.mcp."));
+    }
+
+    @Test
+    void serverWithJdkTypesOnly_shouldHaveEmptyMetadata() throws IOException {
+        assertThat(readMetadata("alpha")).isEmpty();
+    }
+
+    private JsonNode readMetadata(String serverKey) throws IOException {
+        String path = METADATA_PATH.formatted(serverKey);
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(path)) {
+            assertThat(in).as(path).isNotNull();
+            return objectMapper.readTree(in);
+        }
+    }
+
+    private static List<String> classNames(JsonNode config) {
+        List<String> classNames = new ArrayList<>();
+        config.forEach(entry -> classNames.add(entry.get("name").asText()));
+        return classNames;
+    }
+}
@@ -0,0 +1,89 @@
+package test;
+
+import app.PaginationTestApp;
+import ext.JoobyTestConfig;
+import ext.JoobyTestSingleton;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Page size is set to 2 in the {@code feature.pagination} block of application.test.conf
+ *
+ * @author kliushnichenko
+ */
+public class PaginationTest {
+
+    private static final int PORT = 8101;
+
+    @RegisterExtension
+    static final JoobyTestSingleton jooby = JoobyTestSingleton.getExtension(
+            new JoobyTestConfig(PaginationTestApp.class, PORT)
+    );
+
+    private static final McpSyncClient mcpClient = BaseTest.newMcpClient(PORT);
+
+    @Test
+    void listTools_firstPage_shouldBeLimitedByPageSize() {
+        var result = mcpClient.listTools(McpSchema.FIRST_PAGE);
+
+        assertThat(result.tools()).hasSize(2);
+        assertThat(result.nextCursor()).isNotNull();
+    }
+
+    @Test
+    void listTools_walkThroughPages_shouldReturnWholeCatalogueInOrder() {
+        List<String> toolNames = new ArrayList<>();
+        String cursor = McpSchema.FIRST_PAGE;
+        do {
+            var page = mcpClient.listTools(cursor);
+            page.tools().forEach(tool -> toolNames.add(tool.name()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(toolNames)
+                .isSorted()
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(
+                        mcpClient.listTools().tools().stream().map(McpSchema.Tool::name).toList()
+                );
+    }
+
+    @Test
+    void listPrompts_cursorFromAnotherList_shouldBeRejected() {
+        var toolsCursor = mcpClient.listTools(McpSchema.FIRST_PAGE).nextCursor();
+
+        assertThatThrownBy(() -> mcpClient.listPrompts(toolsCursor))
+                .isInstanceOf(McpError.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    void listResources_shouldPageThroughStaticResourcesAndThenProvider() {
+        List<String> uris = new ArrayList<>();
+        String cursor = McpSchema.FIRST_PAGE;
+        do {
+            var page = mcpClient.listResources(cursor);
+            assertThat(page.resources()).hasSizeLessThanOrEqualTo(2);
+            page.resources().forEach(resource -> uris.add(resource.uri()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(uris).containsExactly(
+                "file:///test/readme.md",
+                "numbers://0",
+                "numbers://1",
+                "numbers://2",
+                "numbers://3",
+                "numbers://4"
+        );
+    }
+}
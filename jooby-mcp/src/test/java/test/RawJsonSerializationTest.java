@@ -0,0 +1,48 @@
+package test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kliushnichenko.jooby.mcp.RawJson;
+import io.github.kliushnichenko.jooby.mcp.internal.McpToolHandler;
+import io.modelcontextprotocol.json.jackson2.JacksonMcpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Binary {@link RawJson} structured content is copied as UTF-8 bytes by byte based generators, char based ones
+ * have to produce the same JSON.
+ *
+ * @author kliushnichenko
+ */
+class RawJsonSerializationTest {
+
+    private static final String JSON = "{\"name\":\"Café ☕\",\"tags\":[\"a\",\"b\"]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final McpToolHandler toolHandler = new McpToolHandler(new JacksonMcpJsonMapper(objectMapper), null);
+
+    @Test
+    void binaryRawJson_charAndByteGenerators_shouldWriteSameJson() throws Exception {
+        var tool = McpSchema.Tool.builder()
+                .name("raw_json_tool")
+                .outputSchema(Map.of("type", "object"))
+                .build();
+
+        McpSchema.CallToolResult result = toolHandler.handle(
+                new McpSchema.CallToolRequest("raw_json_tool", Map.of()),
+                tool,
+                (args, exchange) -> RawJson.of(JSON.getBytes(StandardCharsets.UTF_8)),
+                null
+        );
+
+        String fromChars = objectMapper.writeValueAsString(result);
+        String fromBytes = new String(objectMapper.writeValueAsBytes(result), StandardCharsets.UTF_8);
+
+        assertThat(fromChars).isEqualTo(fromBytes);
+        assertThat(objectMapper.readTree(fromChars).get("structuredContent")).isEqualTo(objectMapper.readTree(JSON));
+    }
+}
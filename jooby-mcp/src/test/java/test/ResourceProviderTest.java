@@ -0,0 +1,68 @@
+package test;
+
+import app.NumbersResourceProvider;
+import app.ResourceProviderTestApp;
+import ext.JoobyTestConfig;
+import ext.JoobyTestSingleton;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+public class ResourceProviderTest {
+
+    private static final int PORT = 8108;
+
+    @RegisterExtension
+    static final JoobyTestSingleton jooby = JoobyTestSingleton.getExtension(
+            new JoobyTestConfig(ResourceProviderTestApp.class, PORT)
+    );
+
+    private static final McpSyncClient mcpClient = BaseTest.newMcpClient(PORT);
+
+    @Test
+    void listResources_shouldListStaticResourcesAndThenProvider() {
+        List<String> uris = new ArrayList<>();
+        String cursor = McpSchema.FIRST_PAGE;
+        do {
+            var page = mcpClient.listResources(cursor);
+            page.resources().forEach(resource -> uris.add(resource.uri()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(uris).containsExactly(
+                "file:///test/readme.md",
+                "numbers://0",
+                "numbers://1",
+                "numbers://2",
+                "numbers://3",
+                "numbers://4"
+        );
+    }
+
+    @Test
+    void readResource_uriMatchesProviderPrefix_shouldBeReadFromProvider() {
+        var request = new McpSchema.ReadResourceRequest(NumbersResourceProvider.PREFIX + "3");
+        var result = mcpClient.readResource(request);
+
+        var content = (McpSchema.TextResourceContents) result.contents().getFirst();
+        assertThat(content.uri()).isEqualTo("numbers://3");
+        assertThat(content.text()).isEqualTo("Number 3");
+    }
+
+    @Test
+    void readResource_staticResource_shouldBeReadFromAnnotatedMethod() {
+        var result = mcpClient.readResource(new McpSchema.ReadResourceRequest("file:///test/readme.md"));
+
+        var content = (McpSchema.TextResourceContents) result.contents().getFirst();
+        assertThat(content.text()).isEqualTo("# Readme");
+    }
+}
@@ -0,0 +1,77 @@
+package test;
+
+import io.github.kliushnichenko.jooby.mcp.McpResourceSubscriptions;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+public class ResourceSubscriptionsTest extends BaseTest {
+
+    private static final String README_URI = "file:///test/readme.md";
+
+    @Test
+    void resourceUpdated_burstOfUpdates_shouldBeCoalescedIntoSingleNotification() throws Exception {
+        var notifications = new AtomicInteger();
+        var firstNotification = new CountDownLatch(1);
+
+        try (McpSyncClient subscriber = subscriberClient(notifications, firstNotification)) {
+            subscriber.initialize();
+            subscriber.subscribeResource(new McpSchema.SubscribeRequest(README_URI));
+
+            var subscriptions = jooby.getApp().require(McpResourceSubscriptions.class);
+            for (int i = 0; i < 100; i++) {
+                subscriptions.resourceUpdated(README_URI);
+            }
+
+            assertThat(firstNotification.await(5, TimeUnit.SECONDS)).isTrue();
+            // give a chance to any extra notification to arrive
+            Thread.sleep(500);
+            assertThat(notifications.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void resourceUpdated_shouldNotifyOnlySubscribedSessions() throws Exception {
+        var subscriberNotifications = new AtomicInteger();
+        var subscriberNotified = new CountDownLatch(1);
+        var bystanderNotifications = new AtomicInteger();
+
+        try (McpSyncClient subscriber = subscriberClient(subscriberNotifications, subscriberNotified);
+             McpSyncClient bystander = subscriberClient(bystanderNotifications, new CountDownLatch(1))) {
+            subscriber.initialize();
+            bystander.initialize();
+            subscriber.subscribeResource(new McpSchema.SubscribeRequest(README_URI));
+
+            jooby.getApp().require(McpResourceSubscriptions.class).resourceUpdated(README_URI);
+
+            assertThat(subscriberNotified.await(5, TimeUnit.SECONDS)).isTrue();
+            // give a chance to a misrouted notification to arrive
+            Thread.sleep(500);
+            assertThat(bystanderNotifications.get()).isZero();
+        }
+    }
+
+    private McpSyncClient subscriberClient(AtomicInteger notifications, CountDownLatch firstNotification) {
+        var transport = HttpClientStreamableHttpTransport
+                .builder(String.format("http://localhost:%d/mcp", PORT))
+                .build();
+
+        return McpClient.sync(transport)
+                .resourcesUpdateConsumer(contents -> {
+                    notifications.incrementAndGet();
+                    firstNotification.countDown();
+                })
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package test;
+
+import io.github.kliushnichenko.jooby.mcp.McpServerStats;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+public class ServerStatsTest extends BaseTest {
+
+    private static final String TOOL_NAME = "test_tool_annotations_are_not_specified";
+
+    @Test
+    void toolStats_shouldCountCompletedCalls() {
+        McpServerStats stats = jooby.getApp().require(McpServerStats.class);
+        long callsBefore = callsOf(stats);
+
+        mcpClient.callTool(new McpSchema.CallToolRequest(TOOL_NAME, Map.of()));
+        mcpClient.callTool(new McpSchema.CallToolRequest(TOOL_NAME, Map.of()));
+
+        assertThat(stats.tools())
+                .filteredOn(tool -> tool.name().equals(TOOL_NAME))
+                .singleElement()
+                .satisfies(tool -> {
+                    assertThat(tool.calls()).isEqualTo(callsBefore + 2);
+                    assertThat(tool.inFlight()).isZero();
+                    assertThat(tool.waiting()).isZero();
+                    assertThat(tool.maxMillis()).isGreaterThanOrEqualTo(tool.p50Millis());
+                });
+    }
+
+    @Test
+    void serverStats_shouldReportSessionsAndListCache() {
+        McpServerStats stats = jooby.getApp().require(McpServerStats.class);
+
+        mcpClient.listTools();
+        mcpClient.listTools();
+
+        assertThat(stats.transport()).isEqualTo("streamable-http");
+        assertThat(stats.activeSessions()).isPositive();
+        assertThat(stats.caches())
+                .filteredOn(cache -> cache.name().equals(McpSchema.METHOD_TOOLS_LIST))
+                .singleElement()
+                .satisfies(cache -> assertThat(cache.hits()).isPositive());
+    }
+
+    private static long callsOf(McpServerStats stats) {
+        return stats.tools().stream()
+                .filter(tool -> tool.name().equals(TOOL_NAME))
+                .mapToLong(McpServerStats.ToolStats::calls)
+                .sum();
+    }
+}
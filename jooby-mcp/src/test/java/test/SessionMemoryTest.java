@@ -0,0 +1,95 @@
+package test;
+
+import app.SessionMemoryTestApp;
+import ext.JoobyTestConfig;
+import ext.JoobyTestSingleton;
+import io.github.kliushnichenko.jooby.mcp.McpSessionMemory;
+import io.modelcontextprotocol.spec.HttpHeaders;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sessions are limited to 64 KiB by {@code sessionMemoryQuota} in the {@code feature.sessionMemory} block
+ * of application.test.conf
+ *
+ * @author kliushnichenko
+ */
+public class SessionMemoryTest {
+
+    private static final int PORT = 8106;
+
+    private static final String INITIALIZE = """
+            {"jsonrpc": "2.0", "id": 1, "method": "initialize", "params": {"protocolVersion": "2025-06-18",
+            "capabilities": {}, "clientInfo": {"name": "memory-test", "version": "1.0"}}}""";
+    private static final String INITIALIZED = """
+            {"jsonrpc": "2.0", "method": "notifications/initialized"}""";
+    private static final String PING = """
+            {"jsonrpc": "2.0", "id": 2, "method": "ping"}""";
+    private static final String HUGE_CALL = """
+            {"jsonrpc": "2.0", "id": 3, "method": "tools/call",
+            "params": {"name": "test_tool_annotations_are_specified", "arguments": {"text": "%s"}}}"""
+            .formatted("x".repeat(64 * 1024));
+
+    @RegisterExtension
+    static final JoobyTestSingleton jooby = JoobyTestSingleton.getExtension(
+            new JoobyTestConfig(SessionMemoryTestApp.class, PORT)
+    );
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void sessionMemory_shouldReportOpenSessions() throws Exception {
+        String sessionId = initialize();
+        McpSessionMemory memory = jooby.getApp().require(McpSessionMemory.class);
+
+        assertThat(memory.quota()).isEqualTo(65536);
+        assertThat(memory.topSessions(Integer.MAX_VALUE))
+                .anySatisfy(usage -> {
+                    assertThat(usage.sessionId()).isEqualTo(sessionId);
+                    assertThat(usage.clientName()).isEqualTo("memory-test");
+                    assertThat(usage.inFlightBytes()).isPositive();
+                });
+    }
+
+    @Test
+    void requestOverQuota_shouldBeRejectedAndKeepSession() throws Exception {
+        String sessionId = initialize();
+        McpSessionMemory memory = jooby.getApp().require(McpSessionMemory.class);
+        long rejections = memory.quotaRejections();
+        assertThat(post(PING, sessionId).statusCode()).isEqualTo(200);
+
+        var rejected = post(HUGE_CALL, sessionId);
+        assertThat(rejected.statusCode()).isEqualTo(413);
+        assertThat(rejected.body()).contains("\"id\":3").contains("over its memory quota");
+        assertThat(memory.quotaRejections()).isEqualTo(rejections + 1);
+
+        var afterRejection = post(PING, sessionId);
+        assertThat(afterRejection.statusCode()).isEqualTo(200);
+        assertThat(memory.topSessions(Integer.MAX_VALUE))
+                .anySatisfy(usage -> assertThat(usage.sessionId()).isEqualTo(sessionId));
+    }
+
+    private String initialize() throws Exception {
+        String sessionId = post(INITIALIZE, null).headers().firstValue(HttpHeaders.MCP_SESSION_ID).orElseThrow();
+        post(INITIALIZED, sessionId);
+        return sessionId;
+    }
+
+    private HttpResponse<String> post(String body, String sessionId) throws Exception {
+        var builder = HttpRequest.newBuilder(URI.create(String.format("http://localhost:%d/mcp", PORT)))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (sessionId != null) {
+            builder.header(HttpHeaders.MCP_SESSION_ID, sessionId);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
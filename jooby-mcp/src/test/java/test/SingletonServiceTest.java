@@ -0,0 +1,23 @@
+package test;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+public class SingletonServiceTest extends BaseTest {
+
+    @Test
+    void singletonService_shouldBeRequiredFromAppOnlyOnce() {
+        for (int i = 0; i < 3; i++) {
+            var result = mcpClient.callTool(new McpSchema.CallToolRequest("test_singleton_service_lookups", Map.of()));
+
+            assertThat(((McpSchema.TextContent) result.content().getFirst()).text()).isEqualTo("1");
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package test;
+
+import app.HubTestApp;
+import ext.JoobyTestConfig;
+import ext.JoobyTestSingleton;
+import io.github.kliushnichenko.jooby.mcp.transport.JoobyStreamableServerHub;
+import io.modelcontextprotocol.spec.HttpHeaders;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Servers {@code alpha} and {@code beta} share the hub endpoint, configured in the {@code feature.hub} block
+ * of application.test.conf with a keep-alive interval of 1 second.
+ *
+ * @author kliushnichenko
+ */
+public class StreamableServerHubTest {
+
+    private static final int PORT = 8103;
+    private static final String INITIALIZE = """
+            {"jsonrpc": "2.0", "id": 1, "method": "initialize", "params": {"protocolVersion": "2025-06-18",
+            "capabilities": {}, "clientInfo": {"name": "hub-test", "version": "1.0"}}}""";
+    private static final String INITIALIZED = """
+            {"jsonrpc": "2.0", "method": "notifications/initialized"}""";
+    private static final String LIST_TOOLS = """
+            {"jsonrpc": "2.0", "id": 2, "method": "tools/list"}""";
+
+    @RegisterExtension
+    static final JoobyTestSingleton jooby = JoobyTestSingleton.getExtension(
+            new JoobyTestConfig(HubTestApp.class, PORT)
+    );
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void serverKeyInPath_shouldRouteToThatServer() throws Exception {
+        String sessionId = initialize("/mcp/alpha", null);
+
+        var tools = post("/mcp/alpha", null, LIST_TOOLS, sessionId);
+
+        assertThat(tools.statusCode()).isEqualTo(200);
+        assertThat(tools.body()).contains("alpha_tool").doesNotContain("beta_tool");
+    }
+
+    @Test
+    void serverKeyInHeader_shouldRouteToThatServer() throws Exception {
+        String sessionId = initialize("/mcp", "beta");
+
+        var tools = post("/mcp", "beta", LIST_TOOLS, sessionId);
+
+        assertThat(tools.statusCode()).isEqualTo(200);
+        assertThat(tools.body()).contains("beta_tool").doesNotContain("alpha_tool");
+    }
+
+    @Test
+    void missingServerKey_shouldBeRejected() throws Exception {
+        var response = post("/mcp", null, INITIALIZE, null);
+
+        assertThat(response.statusCode()).isEqualTo(400);
+        assertThat(response.body()).contains("MCP server key required in the path or Mcp-Server header");
+    }
+
+    @Test
+    void unknownServerKey_shouldBeNotFound() throws Exception {
+        var byPath = post("/mcp/gamma", null, INITIALIZE, null);
+        var byHeader = post("/mcp", "gamma", INITIALIZE, null);
+
+        assertThat(byPath.statusCode()).isEqualTo(404);
+        assertThat(byPath.body()).contains("MCP server gamma not found");
+        assertThat(byHeader.statusCode()).isEqualTo(404);
+        assertThat(byHeader.body()).contains("MCP server gamma not found");
+    }
+
+    @Test
+    void sessionOfOneServer_shouldNotBeServedByAnother() throws Exception {
+        String alphaSession = initialize("/mcp/alpha", null);
+
+        var response = post("/mcp/beta", null, LIST_TOOLS, alphaSession);
+
+        assertThat(response.statusCode()).isEqualTo(404);
+        assertThat(response.body()).contains("Session " + alphaSession + " not found");
+        assertThat(post("/mcp/alpha", null, LIST_TOOLS, alphaSession).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void hubKeepAlive_shouldPingSessionsOfAllServers() throws Exception {
+        // neither server configures keepAliveInterval, both are pinged at the hub interval
+        String alphaSession = initialize("/mcp/alpha", null);
+        String betaSession = initialize("/mcp/beta", null);
+
+        CompletableFuture<Boolean> alphaPinged = awaitPing("/mcp/alpha", alphaSession);
+        CompletableFuture<Boolean> betaPinged = awaitPing("/mcp/beta", betaSession);
+
+        assertThat(alphaPinged.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(betaPinged.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /**
+     * Opens the listening stream of the session and completes once a ping request arrives on it.
+     */
+    private CompletableFuture<Boolean> awaitPing(String path, String sessionId) {
+        var request = HttpRequest.newBuilder(uri(path))
+                .header("Accept", "text/event-stream")
+                .header(HttpHeaders.MCP_SESSION_ID, sessionId)
+                .GET()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                .thenApplyAsync(response -> {
+                    try (Stream<String> lines = response.body()) {
+                        return lines.anyMatch(line -> line.contains("\"method\":\"ping\""));
+                    }
+                });
+    }
+
+    private String initialize(String path, String serverKey) throws Exception {
+        String sessionId = post(path, serverKey, INITIALIZE, null).headers()
+                .firstValue(HttpHeaders.MCP_SESSION_ID)
+                .orElseThrow();
+        post(path, serverKey, INITIALIZED, sessionId);
+        return sessionId;
+    }
+
+    private HttpResponse<String> post(String path, String serverKey, String body, String sessionId) throws Exception {
+        var builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (serverKey != null) {
+            builder.header(JoobyStreamableServerHub.MCP_SERVER_HEADER, serverKey);
+        }
+        if (sessionId != null) {
+            builder.header(HttpHeaders.MCP_SESSION_ID, sessionId);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(String path) {
+        return URI.create(String.format("http://localhost:%d%s", PORT, path));
+    }
+}
@@ -0,0 +1,82 @@
+package test;
+
+import app.StreamingToolsTestCases;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author kliushnichenko
+ */
+public class StreamingToolsTest extends BaseTest {
+
+    @Test
+    void streamResult_withProgressToken_shouldSendChunksAsProgressNotifications() {
+        var progress = new CopyOnWriteArrayList<McpSchema.ProgressNotification>();
+
+        try (McpSyncClient client = progressClient(progress)) {
+            client.initialize();
+
+            var request = McpSchema.CallToolRequest.builder()
+                    .name("test_tool_streaming_stream")
+                    .arguments(Map.of("count", 3))
+                    .progressToken("stream-1")
+                    .build();
+            var result = client.callTool(request);
+
+            assertThat(texts(result.content())).containsExactly("line 1", "line 2", "line 3");
+            assertThat(progress).extracting(McpSchema.ProgressNotification::message)
+                    .containsExactly("line 1", "line 2", "line 3");
+            assertThat(progress).extracting(McpSchema.ProgressNotification::progressToken)
+                    .containsOnly("stream-1");
+        }
+    }
+
+    @Test
+    void fluxResult_withoutProgressToken_shouldReturnAggregatedContent() {
+        var result = mcpClient.callTool(new McpSchema.CallToolRequest("test_tool_streaming_flux", Map.of()));
+
+        assertThat(result.isError()).isFalse();
+        assertThat(result.structuredContent()).isNull();
+        assertThat(texts(result.content())).containsExactly("{\"name\":\"Buddy\"}", "{\"name\":\"Max\"}");
+    }
+
+    @Test
+    void fluxResult_timedOut_shouldCancelUpstream() throws InterruptedException {
+        var result = mcpClient.callTool(
+                new McpSchema.CallToolRequest("test_tool_streaming_endless_flux", Map.of()));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(texts(result.content()))
+                .containsExactly("Tool 'test_tool_streaming_endless_flux' timed out after 300 ms");
+        assertThat(StreamingToolsTestCases.ENDLESS_FLUX_CANCELLED.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void streamingTool_shouldNotHaveOutputSchema() {
+        assertThat(findTool("test_tool_streaming_flux").outputSchema()).isNull();
+    }
+
+    private List<String> texts(List<McpSchema.Content> content) {
+        return content.stream().map(c -> ((McpSchema.TextContent) c).text()).toList();
+    }
+
+    private McpSyncClient progressClient(List<McpSchema.ProgressNotification> progress) {
+        var transport = HttpClientStreamableHttpTransport
+                .builder(String.format("http://localhost:%d/mcp", PORT))
+                .build();
+
+        return McpClient.sync(transport)
+                .progressConsumer(progress::add)
+                .build();
+    }
+}
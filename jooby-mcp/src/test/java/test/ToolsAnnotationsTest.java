@@ -1,8 +1,18 @@
 package test;
 
+import app.ToolsAnnotationsTestCases;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.spec.McpClientTransport;
 import io.modelcontextprotocol.spec.McpSchema;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 /**
@@ -44,4 +54,57 @@ public class ToolsAnnotationsTest extends BaseTest {
 
         assertThat(tool.annotations()).isNull();
     }
+
+    @Test
+    void idempotentTool_concurrentIdenticalCalls_shouldShareOneInvocation() throws Exception {
+        Map<String, Object> args = new LinkedHashMap<>();
+        args.put("region", "eu");
+        args.put("service", "billing");
+        Map<String, Object> reorderedArgs = new LinkedHashMap<>();
+        reorderedArgs.put("service", "billing");
+        reorderedArgs.put("region", "eu");
+
+        var first = CompletableFuture.supplyAsync(() -> mcpClient.callTool(
+                new McpSchema.CallToolRequest("test_tool_idempotent_coalesced", args)));
+        assertThat(ToolsAnnotationsTestCases.IDEMPOTENT_STARTED.await(5, TimeUnit.SECONDS)).isTrue();
+        var second = CompletableFuture.supplyAsync(() -> mcpClient.callTool(
+                new McpSchema.CallToolRequest("test_tool_idempotent_coalesced", reorderedArgs)));
+
+        Thread.sleep(300);
+        ToolsAnnotationsTestCases.IDEMPOTENT_RELEASE.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(second.get(5, TimeUnit.SECONDS));
+        assertThat(ToolsAnnotationsTestCases.IDEMPOTENT_INVOCATIONS.get()).isEqualTo(1);
+    }
+
+    @Test
+    void idempotentTool_notOptedIn_concurrentCallsOfTenants_shouldEachGetTheirOwnResult() throws Exception {
+        McpSyncClient acme = tenantClient("acme");
+        McpSyncClient globex = tenantClient("globex");
+        try {
+            var request = new McpSchema.CallToolRequest("test_tool_idempotent_per_tenant", Map.of("region", "eu"));
+
+            var acmeCall = CompletableFuture.supplyAsync(() -> acme.callTool(request));
+            var globexCall = CompletableFuture.supplyAsync(() -> globex.callTool(request));
+
+            assertThat(textOf(acmeCall.get(5, TimeUnit.SECONDS))).isEqualTo("acme/eu");
+            assertThat(textOf(globexCall.get(5, TimeUnit.SECONDS))).isEqualTo("globex/eu");
+            assertThat(ToolsAnnotationsTestCases.TENANT_CALLS.getCount()).isZero();
+        } finally {
+            acme.closeGracefully();
+            globex.closeGracefully();
+        }
+    }
+
+    private static McpSyncClient tenantClient(String tenant) {
+        McpClientTransport transport = HttpClientStreamableHttpTransport
+                .builder(String.format("http://localhost:%d/mcp", PORT))
+                .customizeRequest(request -> request.header("X-Tenant", tenant))
+                .build();
+        return McpClient.sync(transport).build();
+    }
+
+    private static String textOf(McpSchema.CallToolResult result) {
+        return ((McpSchema.TextContent) result.content().get(0)).text();
+    }
 }
@@ -41,4 +41,31 @@ public class ToolsStructuredContentTest extends BaseTest {
         assertThat(result.structuredContent()).isNull();
         assertThat(content.text()).isEqualTo("Just a text");
     }
+
+    @Test
+    void testTool_rawJsonWithOutputSchema_shouldBeStructuredContent() {
+        var request = new McpSchema.CallToolRequest("test_tool_raw_json_structured_content", null);
+        var result = mcpClient.callTool(request);
+
+        var expectedContent = """
+                {"name":"Buddy"}""";
+
+        var structuredContent = jsonStringify(result.structuredContent());
+        var content = (McpSchema.TextContent) result.content().get(0);
+
+        assertThat(structuredContent).isEqualTo(expectedContent);
+        assertThat(content.text()).isEqualTo(expectedContent);
+    }
+
+    @Test
+    void testTool_rawJsonWithoutOutputSchema_shouldBeTextContent() {
+        var request = new McpSchema.CallToolRequest("test_tool_raw_json_text", null);
+        var result = mcpClient.callTool(request);
+
+        var content = (McpSchema.TextContent) result.content().get(0);
+
+        assertThat(result.structuredContent()).isNull();
+        assertThat(content.text()).isEqualTo("""
+                {"name":"Buddy"}""");
+    }
 }
@@ -0,0 +1,40 @@
+package test;
+
+import app.WarmupTestApp;
+import ext.JoobyTestConfig;
+import ext.JoobyTestSingleton;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tools are warmed up at startup, {@code warmup = true} in the {@code feature.warmup} block
+ * of application.test.conf
+ *
+ * @author kliushnichenko
+ */
+public class WarmupTest {
+
+    private static final int PORT = 8107;
+
+    @RegisterExtension
+    static final JoobyTestSingleton jooby = JoobyTestSingleton.getExtension(
+            new JoobyTestConfig(WarmupTestApp.class, PORT)
+    );
+
+    private static final McpSyncClient mcpClient = BaseTest.newMcpClient(PORT);
+
+    @Test
+    void callTool_afterWarmup_shouldReturnStructuredContent() {
+        var request = new McpSchema.CallToolRequest("test_tool_structured_content_from_return_type", Map.of());
+        var result = mcpClient.callTool(request);
+
+        assertThat(result.isError()).isFalse();
+        assertThat(result.structuredContent()).isEqualTo(Map.of("name", "Buddy"));
+    }
+}
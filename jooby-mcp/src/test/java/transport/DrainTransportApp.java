@@ -0,0 +1,99 @@
+package transport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kliushnichenko.jooby.mcp.internal.McpServerConfig;
+import io.github.kliushnichenko.jooby.mcp.transport.JoobyStreamableServerHub;
+import io.github.kliushnichenko.jooby.mcp.transport.JoobyStreamableServerTransportProvider;
+import io.jooby.Jooby;
+import io.jooby.jackson.JacksonModule;
+import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.json.jackson2.JacksonMcpJsonMapper;
+import io.modelcontextprotocol.server.McpServer;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streamable HTTP server on {@code /mcp} and two servers on the {@code /hub} endpoint, all draining for
+ * {@value #DRAIN_TIMEOUT} ms. Their {@code wait_tool} blocks until {@link #release} is counted down.
+ *
+ * @author kliushnichenko
+ */
+public class DrainTransportApp extends Jooby {
+
+    public static final int DRAIN_TIMEOUT = 1000;
+    public static final Semaphore STARTED = new Semaphore(0);
+    public static final Map<String, JoobyStreamableServerTransportProvider> HUB_SERVERS = new ConcurrentHashMap<>();
+    public static volatile CountDownLatch release = new CountDownLatch(1);
+    public static JoobyStreamableServerTransportProvider server;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    {
+        install(new JacksonModule(objectMapper));
+
+        server = new JoobyStreamableServerTransportProvider(
+                this,
+                new JacksonMcpJsonMapper(objectMapper),
+                serverConfig("drain-mcp-server"),
+                request -> McpTransportContext.EMPTY
+        );
+        runMcpServer(server, "drain-mcp-server");
+
+        var hub = new JoobyStreamableServerHub(this, "/hub", null);
+        for (String serverKey : new String[]{"alpha", "beta"}) {
+            var transportProvider = new JoobyStreamableServerTransportProvider(
+                    hub,
+                    serverKey,
+                    new JacksonMcpJsonMapper(objectMapper),
+                    serverConfig(serverKey),
+                    request -> McpTransportContext.EMPTY
+            );
+            runMcpServer(transportProvider, serverKey);
+            HUB_SERVERS.put(serverKey, transportProvider);
+        }
+    }
+
+    private static McpServerConfig serverConfig(String name) {
+        var serverConfig = new McpServerConfig(name, "1.0.0");
+        serverConfig.setDrainTimeout(DRAIN_TIMEOUT);
+        return serverConfig;
+    }
+
+    private static void runMcpServer(JoobyStreamableServerTransportProvider transportProvider, String name) {
+        McpServerFeatures.SyncToolSpecification toolSpec =
+                McpServerFeatures.SyncToolSpecification.builder()
+                        .tool(McpSchema.Tool.builder()
+                                .name("wait_tool")
+                                .description("A tool that waits to be released.")
+                                .build()
+                        )
+                        .callHandler((exchange, request) -> {
+                            STARTED.release();
+                            try {
+                                boolean released = release.await(5, TimeUnit.SECONDS);
+                                return McpSchema.CallToolResult.builder()
+                                        .addTextContent(released ? "released" : "timed out")
+                                        .build();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new IllegalStateException(e);
+                            }
+                        })
+                        .build();
+
+        McpServer.sync(transportProvider)
+                .serverInfo(name, "1.0.0")
+                .capabilities(McpSchema.ServerCapabilities.builder()
+                        .tools(true)
+                        .build()
+                )
+                .tools(toolSpec)
+                .build();
+    }
+}